@@ -0,0 +1,253 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.def.StringCell;
+import org.knime.filehandling.core.connections.DefaultFSConnectionFactory;
+import org.knime.filehandling.core.connections.FSConnection;
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.core.node.table.reader.config.DefaultTableReadConfig;
+import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessibleUtils;
+import org.knime.filehandling.core.node.table.reader.read.Read;
+import org.knime.json.node.filehandling.reader.JSONFilePrefetcher.FileReader;
+
+/**
+ * Tests for {@link JSONFilePrefetcher}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestJSONFilePrefetcher {
+    private static final int FILE_COUNT = 7;
+
+    private static final int ROWS_PER_FILE = 3;
+
+    private static final TableReadConfig<JSONReaderConfig> CONFIG =
+        new DefaultTableReadConfig<>(new JSONReaderConfig());
+
+    private static FSConnection connection;
+
+    /** The temporary folder of the files. */
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+
+    /** Creates the local file system connection. */
+    @BeforeClass
+    public static void openConnection() {
+        connection = DefaultFSConnectionFactory.createLocalFSConnection();
+    }
+
+    /**
+     * Closes the local file system connection.
+     *
+     * @throws Exception Should not happen.
+     */
+    @AfterClass
+    public static void closeConnection() throws Exception {
+        connection.close();
+    }
+
+    /**
+     * Tests that every file is read exactly once, also the first one, which is requested before anything is read
+     * ahead.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testEachFileReadOnce() throws IOException {
+        assertEachFileReadOnce(3, 1L << 20);
+    }
+
+    /**
+     * Tests that every file is read exactly once when only a single file can be read ahead.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testEachFileReadOnceWithSingleWorker() throws IOException {
+        assertEachFileReadOnce(1, 1L << 20);
+    }
+
+    /**
+     * Tests that every file is read exactly once when the workers pause the files after a few rows, because the
+     * estimated memory of the rows read ahead reaches the limit.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testEachFileReadOnceWhenPaused() throws IOException {
+        assertEachFileReadOnce(3, 200);
+    }
+
+    /**
+     * Tests that every file is read exactly once when nothing fits into the limit of the rows read ahead.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testEachFileReadOnceWithoutBudget() throws IOException {
+        assertEachFileReadOnce(3, 0);
+    }
+
+    private void assertEachFileReadOnce(final int parallelFileCount, final long maxPrefetchedBytes)
+        throws IOException {
+        final List<FSPath> paths = createFiles();
+        final Map<FSPath, AtomicInteger> reads = new ConcurrentHashMap<>();
+        final Map<FSPath, AtomicInteger> closes = new ConcurrentHashMap<>();
+        final FileReader reader = (path, config) -> {
+            reads.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+            return new RowsRead(path, closes.computeIfAbsent(path, p -> new AtomicInteger()));
+        };
+        final AtomicBoolean closed = new AtomicBoolean();
+        try (final JSONFilePrefetcher prefetcher =
+            new JSONFilePrefetcher(reader, p -> closed.set(true), paths, parallelFileCount, maxPrefetchedBytes)) {
+            for (FSPath path : paths) {
+                final Read<DataValue> prefetched = prefetcher.take(path, CONFIG);
+                // like JSONReader#read
+                try (final Read<DataValue> read = prefetched == null ? reader.readFile(path, CONFIG) : prefetched) {
+                    assertRows(path, read);
+                }
+            }
+        }
+        assertTrue(closed.get());
+        for (FSPath path : paths) {
+            assertEquals(path.toString(), 1, reads.get(path).get());
+            assertEquals(path.toString(), 1, closes.get(path).get());
+        }
+    }
+
+    private static void assertRows(final FSPath path, final Read<DataValue> read) throws IOException {
+        for (int i = 0; i < ROWS_PER_FILE; i++) {
+            final RandomAccessible<DataValue> row = read.next();
+            assertEquals(path + "#" + i, ((StringValue)row.get(0)).getStringValue());
+        }
+        assertNull(read.next());
+    }
+
+    private List<FSPath> createFiles() throws IOException {
+        final List<FSPath> paths = new ArrayList<>();
+        for (int i = 0; i < FILE_COUNT; i++) {
+            final Path file = m_folder.newFile("file" + i + ".json").toPath();
+            Files.write(file, ("{\"file\":" + i + "}").getBytes(StandardCharsets.UTF_8));
+            paths.add(connection.getFileSystem().getPath(file.toString()));
+        }
+        return paths;
+    }
+
+    /**
+     * Tests the estimated memory of a row.
+     */
+    @Test
+    public void testEstimateSize() {
+        final long empty = JSONFilePrefetcher.estimateSize(RandomAccessibleUtils.createFromArray(new StringCell("")));
+        assertEquals(empty + 10,
+            JSONFilePrefetcher.estimateSize(RandomAccessibleUtils.createFromArray(new StringCell("0123456789"))));
+        assertTrue(JSONFilePrefetcher.estimateSize(
+            RandomAccessibleUtils.createFromArray(new StringCell(""), new StringCell(""))) > empty);
+    }
+
+    /** Returns {@link #ROWS_PER_FILE} rows naming the file and the row index. */
+    private static final class RowsRead implements Read<DataValue> {
+        private final FSPath m_path;
+
+        private final AtomicInteger m_closes;
+
+        private int m_row;
+
+        RowsRead(final FSPath path, final AtomicInteger closes) {
+            m_path = path;
+            m_closes = closes;
+        }
+
+        @Override
+        public RandomAccessible<DataValue> next() {
+            return m_row < ROWS_PER_FILE ? RandomAccessibleUtils.createFromArray(new StringCell(m_path + "#" + m_row++))
+                : null;
+        }
+
+        @Override
+        public OptionalLong getMaxProgress() {
+            return OptionalLong.of(ROWS_PER_FILE);
+        }
+
+        @Override
+        public long getProgress() {
+            return m_row;
+        }
+
+        @Override
+        public void close() {
+            m_closes.incrementAndGet();
+        }
+    }
+}
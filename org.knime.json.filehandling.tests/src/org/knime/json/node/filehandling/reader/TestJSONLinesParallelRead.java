@@ -0,0 +1,208 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.core.data.DataValue;
+import org.knime.filehandling.core.connections.DefaultFSConnectionFactory;
+import org.knime.filehandling.core.connections.FSConnection;
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.core.node.table.reader.config.DefaultTableReadConfig;
+import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
+import org.knime.filehandling.core.node.table.reader.read.Read;
+
+/**
+ * Tests for {@link JSONLinesParallelRead}, with files larger than a single block.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestJSONLinesParallelRead {
+    /** About 5 MB, so the file is split into several blocks. */
+    private static final int LINE_COUNT = 100_000;
+
+    private static final String PADDING = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private static FSConnection connection;
+
+    /** The temporary folder of the files. */
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+
+    /** Creates the local file system connection. */
+    @BeforeClass
+    public static void openConnection() {
+        connection = DefaultFSConnectionFactory.createLocalFSConnection();
+    }
+
+    /**
+     * Closes the local file system connection.
+     *
+     * @throws Exception Should not happen.
+     */
+    @AfterClass
+    public static void closeConnection() throws Exception {
+        connection.close();
+    }
+
+    /**
+     * Tests that the rows of all blocks are returned in the order of the file, the same as the ones of the single
+     * threaded read.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testSameRowsAsSingleThreaded() throws IOException {
+        final FSPath path = writeFile(-1);
+        final TableReadConfig<JSONReaderConfig> config = createConfig();
+        final List<String> expected;
+        try (final Read<DataValue> read = new JSONLinesRead(path, config)) {
+            expected = readAll(read);
+        }
+        assertEquals(LINE_COUNT, expected.size());
+        try (final Read<DataValue> read = new JSONLinesParallelRead(path, config, 4)) {
+            assertEquals(expected, readAll(read));
+        }
+    }
+
+    /**
+     * Tests that an invalid line in a later block is reported with its line number in the file, not in the block, and
+     * only after the rows before it.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testLineNumberOfInvalidLine() throws IOException {
+        final int invalidLine = 87_654;
+        final FSPath path = writeFile(invalidLine);
+        try (final Read<DataValue> read = new JSONLinesParallelRead(path, createConfig(), 4)) {
+            // the empty lines of the file are counted, but do not create rows
+            final int rowsBefore = (invalidLine - 1) - (invalidLine - 1) / 1000;
+            for (int i = 0; i < rowsBefore; i++) {
+                assertTrue("Row " + i + " is missing", read.next() != null);
+            }
+            read.next();
+            fail("The invalid line was not reported");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid JSON value at line " + invalidLine + ":"));
+        }
+    }
+
+    /**
+     * Tests that the single threaded read reports the same line number, so the parallel read does not change the
+     * messages.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testLineNumberOfInvalidLineSingleThreaded() throws IOException {
+        final int invalidLine = 87_654;
+        final FSPath path = writeFile(invalidLine);
+        try (final Read<DataValue> read = new JSONLinesRead(path, createConfig())) {
+            readAll(read);
+            fail("The invalid line was not reported");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid JSON value at line " + invalidLine + ":"));
+        }
+    }
+
+    private static TableReadConfig<JSONReaderConfig> createConfig() {
+        final JSONReaderConfig readerConfig = new JSONReaderConfig();
+        readerConfig.setJsonReadMode(JSONReadMode.NDJSON);
+        return new DefaultTableReadConfig<>(readerConfig);
+    }
+
+    /**
+     * Writes {@link #LINE_COUNT} lines, every thousandth one empty.
+     *
+     * @param invalidLine the (1-based) number of the line that is not valid JSON, {@code -1} for none
+     */
+    private FSPath writeFile(final int invalidLine) throws IOException {
+        final Path file = m_folder.newFile().toPath();
+        try (final Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int line = 1; line <= LINE_COUNT; line++) {
+                if (line == invalidLine) {
+                    writer.write("{\"line\": " + line + ", \"text\": }\n");
+                } else if (line % 1000 == 0) {
+                    writer.write('\n');
+                } else {
+                    writer.write("{\"line\": " + line + ", \"text\": \"" + PADDING + "\"}\n");
+                }
+            }
+        }
+        return connection.getFileSystem().getPath(file.toString());
+    }
+
+    private static List<String> readAll(final Read<DataValue> read) throws IOException {
+        final List<String> rows = new ArrayList<>();
+        for (RandomAccessible<DataValue> row = read.next(); row != null; row = read.next()) {
+            assertEquals(1, row.size());
+            rows.add(row.get(0).toString());
+        }
+        assertNull(read.next());
+        return rows;
+    }
+}
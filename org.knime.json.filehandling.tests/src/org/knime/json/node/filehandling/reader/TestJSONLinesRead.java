@@ -0,0 +1,221 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.json.JSONCellFactory;
+import org.knime.filehandling.core.connections.DefaultFSConnectionFactory;
+import org.knime.filehandling.core.connections.FSConnection;
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.core.node.table.reader.config.DefaultTableReadConfig;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
+import org.knime.filehandling.core.node.table.reader.read.Read;
+
+/**
+ * Tests for the JSON Lines mode of the {@link JSONReader}, each read once with {@link JSONLinesRead} and once with
+ * {@link JSONLinesParallelRead}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestJSONLinesRead {
+    private static final int[] THREAD_COUNTS = {1, 3};
+
+    private static final String LINES = "{\"a\" : 1}\n\n[1, 2]\n\"x\"\n  \n42\n";
+
+    private static FSConnection connection;
+
+    /** The temporary folder of the files. */
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+
+    /** Creates the local file system connection. */
+    @BeforeClass
+    public static void openConnection() {
+        connection = DefaultFSConnectionFactory.createLocalFSConnection();
+    }
+
+    /**
+     * Closes the local file system connection.
+     *
+     * @throws Exception Should not happen.
+     */
+    @AfterClass
+    public static void closeConnection() throws Exception {
+        connection.close();
+    }
+
+    /**
+     * Tests that every value is a row and empty lines are ignored.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testValues() throws IOException {
+        final FSPath path = write("values.jsonl", LINES);
+        for (final int threads : THREAD_COUNTS) {
+            assertEquals(List.of("{\"a\":1}", "[1,2]", "\"x\"", "42"), read(path, createConfig(threads)));
+        }
+    }
+
+    /**
+     * Tests skipping the first rows and limiting the number of rows.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testSkipAndLimit() throws IOException {
+        final FSPath path = write("values.jsonl", LINES);
+        for (final int threads : THREAD_COUNTS) {
+            final DefaultTableReadConfig<JSONReaderConfig> config = createConfig(threads);
+            config.setSkipRows(true);
+            config.setNumRowsToSkip(1);
+            config.setLimitRows(true);
+            config.setMaxRows(2);
+            assertEquals(List.of("[1,2]", "\"x\""), read(path, config));
+        }
+    }
+
+    /**
+     * Tests that comments are ignored when they are allowed.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testComments() throws IOException {
+        final FSPath path = write("comments.jsonl", "{\"a\":1} // first\n# second\n2 /* third */\n");
+        for (final int threads : THREAD_COUNTS) {
+            final DefaultTableReadConfig<JSONReaderConfig> config = createConfig(threads);
+            config.getReaderSpecificConfig().setAllowComments(true);
+            assertEquals(List.of("{\"a\":1}", "2"), read(path, config));
+        }
+    }
+
+    /**
+     * Tests reading a gzip compressed file.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testCompressed() throws IOException {
+        final Path file = m_folder.getRoot().toPath().resolve("values.jsonl.gz");
+        try (final OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(LINES.getBytes(StandardCharsets.UTF_8));
+        }
+        final FSPath path = connection.getFileSystem().getPath(file.toString());
+        for (final int threads : THREAD_COUNTS) {
+            assertEquals(List.of("{\"a\":1}", "[1,2]", "\"x\"", "42"), read(path, createConfig(threads)));
+        }
+    }
+
+    /**
+     * Tests that an invalid value is reported with its line number, counting the empty lines.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testInvalidLine() throws IOException {
+        final FSPath path = write("invalid.jsonl", "1\n\n{]\n2\n");
+        for (final int threads : THREAD_COUNTS) {
+            try {
+                read(path, createConfig(threads));
+                fail("The invalid line was not reported");
+            } catch (IOException e) {
+                assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid JSON value at line 3:"));
+            }
+        }
+    }
+
+    private static DefaultTableReadConfig<JSONReaderConfig> createConfig(final int threads) {
+        final JSONReaderConfig readerConfig = new JSONReaderConfig();
+        readerConfig.setJsonReadMode(JSONReadMode.NDJSON);
+        readerConfig.setParsingThreadCount(threads);
+        return new DefaultTableReadConfig<>(readerConfig);
+    }
+
+    private FSPath write(final String name, final String content) throws IOException {
+        final Path file = m_folder.getRoot().toPath().resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return connection.getFileSystem().getPath(file.toString());
+    }
+
+    /**
+     * @return the JSON of the rows, each checked to be the same as the cell created from it
+     */
+    private static List<String> read(final FSPath path, final DefaultTableReadConfig<JSONReaderConfig> config)
+        throws IOException {
+        final List<String> rows = new ArrayList<>();
+        try (final Read<DataValue> read = new JSONReader().readFile(path, config)) {
+            for (RandomAccessible<DataValue> row = read.next(); row != null; row = read.next()) {
+                assertEquals(1, row.size());
+                final String json = row.get(0).toString();
+                assertEquals(JSONCellFactory.create(json, false), row.get(0));
+                rows.add(json);
+            }
+        }
+        return rows;
+    }
+}
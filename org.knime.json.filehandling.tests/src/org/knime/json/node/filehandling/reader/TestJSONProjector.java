@@ -0,0 +1,260 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.json.JSONCellFactory;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
+import org.knime.filehandling.core.util.SettingsUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Tests for {@link JSONProjector} and {@link JSONProjection}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestJSONProjector {
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    /**
+     * Values matched by more than one projection, or matched by one and containing the matches of others, are
+     * buffered and replayed for each of them. The parser ends at the last token of the value, so the next value is
+     * read correctly.
+     *
+     * @throws Exception Should not happen.
+     */
+    @Test
+    public void testSharedSubtree() throws Exception {
+        final JSONProjector projector = projector( //
+            JSONProjection.create("a", "$.a", JSONProjectionType.JSON, false), //
+            JSONProjection.create("b", "$.a.b", JSONProjectionType.LONG, false), //
+            JSONProjection.create("c", "$.a.c[*]", JSONProjectionType.LONG, true), //
+            JSONProjection.create("d", "$.d", JSONProjectionType.DOUBLE, false), //
+            JSONProjection.create("a text", "$.a", JSONProjectionType.STRING, false));
+        try (final JsonParser parser =
+            FACTORY.createParser("{\"a\":{\"b\":1,\"c\":[2,3]},\"d\":4}\n{\"d\":5,\"a\":[]}")) {
+            parser.nextToken();
+            final String a = "{\"b\":1,\"c\":[2,3]}";
+            assertRow(projector.project(parser), JSONCellFactory.create(a, false), new LongCell(1),
+                list(new LongCell(2), new LongCell(3)), new DoubleCell(4),
+                new StringCell(JSONCellFactory.create(a, false).toString()));
+            assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+
+            parser.nextToken();
+            assertRow(projector.project(parser), JSONCellFactory.create("[]", false), null, null,
+                new DoubleCell(5), new StringCell("[]"));
+            assertNull(parser.nextToken());
+        }
+    }
+
+    /**
+     * Wildcards match all properties and array elements, indices a single element, other values are skipped.
+     *
+     * @throws Exception Should not happen.
+     */
+    @Test
+    public void testWildcardsAndIndices() throws Exception {
+        final JSONProjector projector = projector( //
+            JSONProjection.create("ids", "$.items[*].id", JSONProjectionType.LONG, true), //
+            JSONProjection.create("second", "$.items[1].id", JSONProjectionType.LONG, false), //
+            JSONProjection.create("fourth", "$[\"items\"][3]", JSONProjectionType.LONG, false), //
+            JSONProjection.create("z", "$.*.z", JSONProjectionType.STRING, false), //
+            JSONProjection.create("quoted", "$['x y'].z", JSONProjectionType.STRING, false), //
+            JSONProjection.create("missing", "$.items[9]", JSONProjectionType.LONG, false));
+        assertRow(project(projector,
+            "{\"items\":[{\"id\":1},{\"id\":2,\"x\":{\"id\":9}},{\"noid\":3},5,{\"id\":4}],\"x y\":{\"z\":\"t\"}}"),
+            list(new LongCell(1), new LongCell(2), new LongCell(4)), new LongCell(2), new LongCell(5),
+            new StringCell("t"), new StringCell("t"), null);
+    }
+
+    /**
+     * Values that can't be represented by the type of their column are missing, the following values are still read.
+     *
+     * @throws Exception Should not happen.
+     */
+    @Test
+    public void testTypeMismatch() throws Exception {
+        final JSONProjector projector = projector( //
+            JSONProjection.create("o", "$.o", JSONProjectionType.LONG, false), //
+            JSONProjection.create("s", "$.s", JSONProjectionType.LONG, false), //
+            JSONProjection.create("n", "$.n", JSONProjectionType.LONG, false), //
+            JSONProjection.create("i", "$.i", JSONProjectionType.LONG, false), //
+            JSONProjection.create("b", "$.b", JSONProjectionType.DOUBLE, false), //
+            JSONProjection.create("n bool", "$.n", JSONProjectionType.BOOLEAN, false), //
+            JSONProjection.create("b bool", "$.b", JSONProjectionType.BOOLEAN, false), //
+            JSONProjection.create("n text", "$.n", JSONProjectionType.STRING, false), //
+            JSONProjection.create("s json", "$.s", JSONProjectionType.JSON, false));
+        assertRow(project(projector,
+            "{\"o\":{\"k\":[1]},\"s\":\"text\",\"n\":1.5,\"i\":12345678901234567890,\"b\":true}"), null, null, null,
+            null, null, null, BooleanCell.TRUE, new StringCell("1.5"), JSONCellFactory.create("\"text\"", false));
+    }
+
+    /**
+     * In list mode all matches are collected, {@code null}s and not representable values become missing elements;
+     * without any match the cell is missing.
+     *
+     * @throws Exception Should not happen.
+     */
+    @Test
+    public void testListWithNulls() throws Exception {
+        final JSONProjector projector = projector( //
+            JSONProjection.create("a", "$.a[*]", JSONProjectionType.LONG, true), //
+            JSONProjection.create("b", "$.b", JSONProjectionType.LONG, false), //
+            JSONProjection.create("b list", "$.b", JSONProjectionType.JSON, true), //
+            JSONProjection.create("c", "$.c[*]", JSONProjectionType.LONG, true));
+        final DataCell missing = DataType.getMissingCell();
+        assertRow(project(projector, "{\"a\":[1,null,\"x\",3],\"b\":null}"),
+            list(new LongCell(1), missing, missing, new LongCell(3)), null, list(missing), null);
+    }
+
+    /**
+     * Only properties, non-negative indices and wildcards are supported.
+     */
+    @Test
+    public void testUnsupportedPaths() {
+        for (final String path : new String[]{"$..id", "$.a[-1]", "$.a[0,1]", "$.a[0:2]", "$.a[?(@.b)]",
+            "$['a','b']", "$.length()", "$. a", "a.b", "$.a.", "", null}) {
+            try {
+                JSONProjection.create("column", path, JSONProjectionType.STRING, false);
+                fail("Accepted: " + path);
+            } catch (InvalidSettingsException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains("not supported"));
+            }
+        }
+    }
+
+    /**
+     * The projections are saved and loaded with the settings of the node, unsupported paths are rejected by the
+     * validation.
+     *
+     * @throws Exception Should not happen.
+     */
+    @Test
+    public void testSettings() throws Exception {
+        final JSONMultiTableReadConfig config = new JSONMultiTableReadConfig();
+        config.getReaderSpecificConfig().setProjections(Arrays.asList( //
+            JSONProjection.create("ids", "$.items[*].id", JSONProjectionType.LONG, true), //
+            JSONProjection.create("name", "$['name']", JSONProjectionType.STRING, false)));
+        final NodeSettings settings = new NodeSettings("JSON Reader");
+        JSONReaderMultiTableReadConfigSerializer.INSTANCE.saveInModel(config, settings);
+
+        final JSONMultiTableReadConfig loaded = new JSONMultiTableReadConfig();
+        JSONReaderMultiTableReadConfigSerializer.INSTANCE.validate(loaded, settings);
+        JSONReaderMultiTableReadConfigSerializer.INSTANCE.loadInModel(loaded, settings);
+        final List<JSONProjection> projections = loaded.getReaderSpecificConfig().getProjections();
+        assertEquals(2, projections.size());
+        assertEquals("ids", projections.get(0).getColumnName());
+        assertEquals("$.items[*].id", projections.get(0).getPath());
+        assertEquals(JSONProjectionType.LONG, projections.get(0).getType());
+        assertTrue(projections.get(0).isList());
+        assertEquals("name", projections.get(1).getColumnName());
+        assertEquals("$['name']", projections.get(1).getPath());
+        assertEquals(JSONProjectionType.STRING, projections.get(1).getType());
+        assertEquals(StringCell.TYPE, projections.get(1).getDataType());
+
+        settings.getNodeSettings(SettingsUtils.CFG_SETTINGS_TAB).getNodeSettings("projections")
+            .addStringArray("paths", "$.items[*].id", "$..name");
+        try {
+            JSONReaderMultiTableReadConfigSerializer.INSTANCE.validate(loaded, settings);
+            fail("Unsupported path accepted");
+        } catch (InvalidSettingsException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("$..name"));
+        }
+    }
+
+    private static JSONProjector projector(final JSONProjection... projections) {
+        final JSONReaderConfig config = new JSONReaderConfig();
+        config.setProjections(Arrays.asList(projections));
+        return JSONProjector.create(config);
+    }
+
+    private static RandomAccessible<DataValue> project(final JSONProjector projector, final String json)
+        throws IOException {
+        try (final JsonParser parser = FACTORY.createParser(json)) {
+            parser.nextToken();
+            final RandomAccessible<DataValue> row = projector.project(parser);
+            assertNull(parser.nextToken());
+            return row;
+        }
+    }
+
+    private static DataCell list(final DataCell... cells) {
+        return CollectionCellFactory.createListCell(new ArrayList<>(Arrays.asList(cells)));
+    }
+
+    private static void assertRow(final RandomAccessible<DataValue> row, final DataValue... expected) {
+        assertEquals(expected.length, row.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Column " + i, expected[i], row.get(i));
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.writer;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.core.data.json.JSONCellFactory;
+import org.knime.core.data.json.JSONValue;
+import org.knime.filehandling.core.connections.DefaultFSConnectionFactory;
+import org.knime.filehandling.core.connections.FSConnection;
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.core.defaultnodesettings.filechooser.writer.FileOverwritePolicy;
+import org.knime.json.node.filehandling.writer.JSONSingleFileWriter.WrittenFile;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for {@link JSONSingleFileWriter}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestJSONSingleFileWriter {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static FSConnection connection;
+
+    /** The temporary folder of the written files. */
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+
+    /** Creates the local file system connection. */
+    @BeforeClass
+    public static void openConnection() {
+        connection = DefaultFSConnectionFactory.createLocalFSConnection();
+    }
+
+    /**
+     * Closes the local file system connection.
+     *
+     * @throws Exception Should not happen.
+     */
+    @AfterClass
+    public static void closeConnection() throws Exception {
+        connection.close();
+    }
+
+    /**
+     * Tests that documents whose names only differ in the replaced path separators get different entries of the ZIP
+     * archive.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testZipEntryNamesAreUnique() throws IOException {
+        final JSONSingleFileWriterSettings settings = createSettings(JSONWriterOutputMode.ZIP_ARCHIVE);
+        final List<WrittenFile> files;
+        try (final JSONSingleFileWriter writer = createWriter(settings)) {
+            writer.write(json("1"), "a/b");
+            writer.write(json("2"), "a_b");
+            writer.write(json("3"), "a\\b");
+            writer.write(json("4"), "c");
+            files = writer.finish();
+        }
+        assertEquals(1, files.size());
+        assertEquals(4, files.get(0).getDocumentCount());
+        assertEquals(List.of("a_b.json", "a_b (1).json", "a_b (2).json", "c.json"), readEntries(files.get(0)));
+    }
+
+    /**
+     * Tests that a new JSON Lines file is started once the number of documents per file is reached, each file being
+     * complete on its own.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testRolloverByDocumentCount() throws IOException {
+        final JSONSingleFileWriterSettings settings = createSettings(JSONWriterOutputMode.JSON_LINES);
+        settings.getMaxDocumentsPerFileModel().setIntValue(2);
+        final List<WrittenFile> files;
+        try (final JSONSingleFileWriter writer = createWriter(settings)) {
+            for (int i = 1; i <= 5; i++) {
+                writer.write(json(String.valueOf(i)), "row" + i);
+            }
+            files = writer.finish();
+        }
+        assertEquals(3, files.size());
+        final String[] contents = {"1\n2\n", "3\n4\n", "5\n"};
+        for (int i = 0; i < files.size(); i++) {
+            final WrittenFile file = files.get(i);
+            assertEquals("documents_" + i + ".jsonl", file.getPath().getFileName().toString());
+            assertEquals(i < 2 ? 2 : 1, file.getDocumentCount());
+            assertEquals(JSONSingleFileWriter.STATUS_CREATED, file.getStatus());
+            assertEquals(contents[i], new String(Files.readAllBytes(file.getPath()), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Tests that a new file is started once the size of the current one reaches the limit.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testRolloverBySize() throws IOException {
+        final JSONSingleFileWriterSettings settings = createSettings(JSONWriterOutputMode.JSON_ARRAY);
+        settings.getMaxMegabytesPerFileModel().setIntValue(1);
+        // four documents exceed a megabyte, three don't
+        final JSONValue document = json('"' + "x".repeat(300_000) + '"');
+        final List<WrittenFile> files;
+        try (final JSONSingleFileWriter writer = createWriter(settings)) {
+            for (int i = 0; i < 5; i++) {
+                writer.write(document, "row" + i);
+            }
+            files = writer.finish();
+        }
+        assertEquals(2, files.size());
+        assertEquals(4, files.get(0).getDocumentCount());
+        assertEquals(1, files.get(1).getDocumentCount());
+        for (final WrittenFile file : files) {
+            final JsonNode array = MAPPER.readTree(Files.readAllBytes(file.getPath()));
+            assertEquals(file.getDocumentCount(), array.size());
+        }
+    }
+
+    /**
+     * Tests that the array is compressed with gzip when requested.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testGzipArray() throws IOException {
+        final JSONSingleFileWriterSettings settings = createSettings(JSONWriterOutputMode.JSON_ARRAY);
+        settings.getCompressModel().setBooleanValue(true);
+        final List<WrittenFile> files;
+        try (final JSONSingleFileWriter writer = createWriter(settings)) {
+            writer.write(json("1"), "a");
+            writer.write(json("{\"a\":[2,null]}"), "b");
+            writer.write(json("\"x\""), "c");
+            files = writer.finish();
+        }
+        assertEquals(1, files.size());
+        assertEquals("documents.json.gz", files.get(0).getPath().getFileName().toString());
+        try (final InputStream in = new GZIPInputStream(Files.newInputStream(files.get(0).getPath()))) {
+            assertEquals(MAPPER.readTree("[1,{\"a\":[2,null]},\"x\"]"), MAPPER.readTree(in));
+        }
+    }
+
+    /**
+     * Tests that an empty array is written when there are no documents.
+     *
+     * @throws IOException Should not happen.
+     */
+    @Test
+    public void testNoDocuments() throws IOException {
+        final List<WrittenFile> files;
+        try (final JSONSingleFileWriter writer = createWriter(createSettings(JSONWriterOutputMode.JSON_ARRAY))) {
+            files = writer.finish();
+        }
+        assertEquals(1, files.size());
+        assertEquals(0, files.get(0).getDocumentCount());
+        assertEquals(MAPPER.readTree("[]"), MAPPER.readTree(Files.readAllBytes(files.get(0).getPath())));
+    }
+
+    private static JSONSingleFileWriterSettings createSettings(final JSONWriterOutputMode mode) {
+        final JSONSingleFileWriterSettings settings = new JSONSingleFileWriterSettings();
+        settings.getOutputModeModel().setStringValue(mode.name());
+        return settings;
+    }
+
+    private JSONSingleFileWriter createWriter(final JSONSingleFileWriterSettings settings) {
+        final FSPath folder = connection.getFileSystem().getPath(m_folder.getRoot().getAbsolutePath());
+        return new JSONSingleFileWriter(folder, settings, FileOverwritePolicy.FAIL);
+    }
+
+    private static JSONValue json(final String json) throws IOException {
+        return (JSONValue)JSONCellFactory.create(json, false);
+    }
+
+    /**
+     * @return the names of the entries of the archive, each entry is checked to contain the number of its position
+     */
+    private static List<String> readEntries(final WrittenFile file) throws IOException {
+        final List<String> names = new ArrayList<>();
+        try (final InputStream in = Files.newInputStream(file.getPath());
+                final ZipInputStream zip = new ZipInputStream(in, StandardCharsets.UTF_8)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                names.add(entry.getName());
+                assertEquals(String.valueOf(names.size()),
+                    new String(zip.readAllBytes(), StandardCharsets.UTF_8).trim());
+            }
+        }
+        return names;
+    }
+}
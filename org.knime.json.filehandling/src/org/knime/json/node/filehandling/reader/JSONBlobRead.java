@@ -48,9 +48,13 @@
  */
 package org.knime.json.node.filehandling.reader;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.nio.charset.Charset;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
@@ -62,6 +66,8 @@
 import org.knime.filehandling.core.node.table.reader.read.Read;
 import org.knime.filehandling.core.util.BomEncodingUtils;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 /**
  * Class for the JSON reader which implements {@link Read} which reads the JSON as a single cell (blob).
  *
@@ -71,7 +77,11 @@ final class JSONBlobRead extends JSONRead {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(JSONBlobRead.class);
 
-    private final BufferedReader m_reader;
+    private static final byte[] UTF8_BOM = {(byte)0xEF, (byte)0xBB, (byte)0xBF};
+
+    /** The byte order marks of UTF-32 (checked first, as UTF-32LE starts like UTF-16LE) and UTF-16. */
+    private static final byte[][] OTHER_BOMS = {{0, 0, (byte)0xFE, (byte)0xFF}, {(byte)0xFF, (byte)0xFE, 0, 0},
+        {(byte)0xFE, (byte)0xFF}, {(byte)0xFF, (byte)0xFE}};
 
     private final boolean m_allowComments;
 
@@ -84,8 +94,6 @@ final class JSONBlobRead extends JSONRead {
      */
     JSONBlobRead(final Path path, final TableReadConfig<JSONReaderConfig> config) throws IOException {
         super(path, config);
-        final Charset charset = StandardCharsets.UTF_8;
-        m_reader = BomEncodingUtils.createBufferedReader(m_compressionAwareStream, charset);
         m_allowComments = m_jsonReaderConfig.allowComments();
         m_linesRead = 0;
     }
@@ -95,17 +103,95 @@ public RandomAccessible<DataValue> next() throws IOException {
         m_linesRead++;
         if (m_linesRead > 1) {
             return null;
+        } else if (m_projector != null) {
+            // only the projected values are materialized, never the whole document
+            try (final JsonParser parser = createParser()) {
+                if (parser.nextToken() == null) {
+                    throw new IOException("The file does not contain a JSON value.");
+                }
+                return m_projector.project(parser);
+            }
         } else {
-            return createRandomAccessible(JSONCellFactory.create(m_reader, m_allowComments));
+            final byte[] content = m_compressionAwareStream.readAllBytes();
+            final int offset = hasBom(content, UTF8_BOM) ? UTF8_BOM.length : 0;
+            if ((offset == 0 && hasOtherBom(content)) || (!isUtf16Or32(content) && !isUtf8(content, offset))) {
+                // decode it leniently as before (with the encoding of the byte order mark, otherwise UTF-8 replacing
+                // the malformed characters, e.g. for ISO-8859-1)
+                return createRandomAccessible(JSONCellFactory.create(
+                    BomEncodingUtils.createBufferedReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8),
+                    m_allowComments));
+            }
+            // the bytes are parsed directly, without copying or decoding them to characters first
+            return createRandomAccessible(
+                JSONCellFactory.create(content, offset, content.length - offset, m_allowComments));
+        }
+    }
+
+    private static boolean hasBom(final byte[] content, final byte[] bom) {
+        if (content.length < bom.length) {
+            return false;
+        }
+        for (int i = 0; i < bom.length; i++) {
+            if (content[i] != bom[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasOtherBom(final byte[] content) {
+        for (final byte[] bom : OTHER_BOMS) {
+            if (hasBom(content, bom)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether {@code content} starts with a zero byte in its first two bytes, which is how Jackson detects
+     *         UTF-16 and UTF-32 without a byte order mark (a JSON document starts with an ASCII character)
+     */
+    private static boolean isUtf16Or32(final byte[] content) {
+        return (content.length > 0 && content[0] == 0) || (content.length > 1 && content[1] == 0);
+    }
+
+    /**
+     * Checks the bytes without decoding them to a buffer of the size of the content. Only the characters from the
+     * first non-ASCII byte on are decoded (to a small buffer).
+     *
+     * @return whether {@code content} is valid UTF-8 from {@code offset} on
+     */
+    private static boolean isUtf8(final byte[] content, final int offset) {
+        int start = offset;
+        while (start < content.length && content[start] >= 0) {
+            start++;
+        }
+        if (start == content.length) {
+            return true;
+        }
+        final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT).onUnmappableCharacter(CodingErrorAction.REPORT);
+        final ByteBuffer in = ByteBuffer.wrap(content, start, content.length - start);
+        final CharBuffer out = CharBuffer.allocate(8192);
+        while (true) {
+            final CoderResult result = decoder.decode(in, out, true);
+            if (result.isError()) {
+                return false;
+            }
+            if (result.isUnderflow()) {
+                return !decoder.flush(out.clear()).isError();
+            }
+            out.clear();
         }
     }
 
     @Override
     public void close() throws IOException {
         try {
-            m_reader.close();
+            m_compressionAwareStream.close();
         } catch (IOException e) {
-            LOGGER.error("Something went wrong while closing the BufferedReader. "
+            LOGGER.error("Something went wrong while closing the input stream. "
                 + "For further details please have a look into the log.", e);
         }
     }
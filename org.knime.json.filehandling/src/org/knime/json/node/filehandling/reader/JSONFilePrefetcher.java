@@ -0,0 +1,382 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.reader;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.knime.core.data.DataValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
+import org.knime.filehandling.core.node.table.reader.read.Read;
+
+/**
+ * Reads the upcoming files of a multi-file read in parallel while the rows of the current file are emitted. The files
+ * are requested one after the other with {@link #take(FSPath, TableReadConfig)}, the rows read ahead are kept in memory
+ * until then, so the output order does not change. The estimated memory of the rows read ahead is limited. It is
+ * computed from the materialized values rather than the size of the (possibly compressed) files. Once the limit is
+ * reached, the workers pause their files and the rest of a paused file is read (streamed) when it is requested.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JSONFilePrefetcher implements AutoCloseable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(JSONFilePrefetcher.class);
+
+    /** The estimated memory of a row and of each of its values apart from their text, in bytes. */
+    private static final int VALUE_OVERHEAD = 32;
+
+    /** Reads a file directly, see {@link JSONReader#readFile(FSPath, TableReadConfig)}. */
+    @FunctionalInterface
+    interface FileReader {
+        /**
+         * @param path the path of the file to read
+         * @param config the {@link TableReadConfig} used
+         * @return a {@link Read} of the rows of the file
+         * @throws IOException if the file can't be opened
+         */
+        Read<DataValue> readFile(FSPath path, TableReadConfig<JSONReaderConfig> config) throws IOException;
+    }
+
+    private final FileReader m_reader;
+
+    private final Consumer<JSONFilePrefetcher> m_onClose;
+
+    private final List<FSPath> m_paths;
+
+    private final long m_maxPrefetchedBytes;
+
+    private final int m_maxPendingFiles;
+
+    private final ThreadPool m_pool;
+
+    private final Map<FSPath, PendingFile> m_pending = new HashMap<>();
+
+    /** The estimated memory of the rows read ahead, updated by the workers. */
+    private final AtomicLong m_prefetchedBytes = new AtomicLong();
+
+    /** The reads paused by the workers and not yet taken, closed with the prefetcher. */
+    private final Set<Read<DataValue>> m_pausedReads = new HashSet<>();
+
+    private TableReadConfig<JSONReaderConfig> m_config;
+
+    private int m_nextPathIndex;
+
+    /** Guarded by {@link #m_pausedReads}. */
+    private boolean m_closed;
+
+    /**
+     * @param reader the reader of the files
+     * @param onClose called when the prefetcher is closed
+     * @param paths the paths in the order they are read
+     * @param parallelFileCount the number of files read in parallel
+     * @param maxPrefetchedBytes the maximal estimated memory of the rows read ahead
+     */
+    JSONFilePrefetcher(final FileReader reader, final Consumer<JSONFilePrefetcher> onClose, final List<FSPath> paths,
+        final int parallelFileCount, final long maxPrefetchedBytes) {
+        m_reader = reader;
+        m_onClose = onClose;
+        m_paths = paths;
+        m_maxPrefetchedBytes = maxPrefetchedBytes;
+        // keep the workers busy while the previous results are emitted
+        m_maxPendingFiles = 2 * parallelFileCount;
+        m_pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(parallelFileCount);
+    }
+
+    /**
+     * Returns the rows of {@code path} if it was read ahead (waiting for it if it is not yet finished) and reads ahead
+     * the next files.
+     *
+     * @param path the path requested by the reader framework
+     * @param config the config to read it with
+     * @return a {@link Read} of the already read rows of {@code path} followed by the rest of the file if it was paused,
+     *         {@code null} if it has to be read directly
+     * @throws IOException if reading {@code path} failed
+     */
+    Read<DataValue> take(final FSPath path, final TableReadConfig<JSONReaderConfig> config) throws IOException {
+        final PendingFile pending = claim(path, config);
+        if (pending == null) {
+            return null;
+        }
+        // wait outside of the monitor, the prefetcher can still be closed meanwhile
+        final PrefetchedRead read = pending.get(m_pool);
+        handOver(read);
+        return read;
+    }
+
+    private synchronized PendingFile claim(final FSPath path, final TableReadConfig<JSONReaderConfig> config) {
+        if (m_config == null) {
+            m_config = config;
+        } else if (m_config != config) {
+            // the files read ahead might not match the requested configuration
+            return null;
+        }
+        final PendingFile pending = m_pending.remove(path);
+        if (pending == null && m_nextPathIndex < m_paths.size() && path.equals(m_paths.get(m_nextPathIndex))) {
+            // read directly by the caller, it must not be read ahead as well
+            m_nextPathIndex++;
+        }
+        prefetch();
+        return pending;
+    }
+
+    private synchronized void handOver(final PrefetchedRead read) {
+        if (read.m_rest != null) {
+            synchronized (m_pausedReads) {
+                m_pausedReads.remove(read.m_rest);
+            }
+        }
+        // the rows are handed over, their share of the limit can be used for the next files
+        m_prefetchedBytes.addAndGet(-read.m_bytes);
+        prefetch();
+    }
+
+    private void prefetch() {
+        final TableReadConfig<JSONReaderConfig> config = m_config;
+        while (m_nextPathIndex < m_paths.size() && m_pending.size() < m_maxPendingFiles
+            && m_prefetchedBytes.get() < m_maxPrefetchedBytes) {
+            final FSPath path = m_paths.get(m_nextPathIndex++);
+            m_pending.put(path,
+                new PendingFile(m_pool.submit(ThreadUtils.callableWithContext(() -> readAhead(path, config)))));
+        }
+    }
+
+    private PrefetchedRead readAhead(final FSPath path, final TableReadConfig<JSONReaderConfig> config)
+        throws IOException {
+        final List<RandomAccessible<DataValue>> rows = new ArrayList<>();
+        long bytes = 0;
+        boolean paused = false;
+        final Read<DataValue> read = m_reader.readFile(path, config);
+        try {
+            for (RandomAccessible<DataValue> row = read.next(); row != null; row = read.next()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Reading ahead has been canceled.");
+                }
+                rows.add(row);
+                final long size = estimateSize(row);
+                bytes += size;
+                if (m_prefetchedBytes.addAndGet(size) >= m_maxPrefetchedBytes) {
+                    // the rest of the file is read when it is requested
+                    pause(read);
+                    paused = true;
+                    return new PrefetchedRead(rows, bytes, read, read.getMaxProgress(), read.getProgress());
+                }
+            }
+            return new PrefetchedRead(rows, bytes, null, read.getMaxProgress(), read.getProgress());
+        } catch (IOException | RuntimeException e) {
+            m_prefetchedBytes.addAndGet(-bytes);
+            throw e;
+        } finally {
+            if (!paused) {
+                read.close();
+            }
+        }
+    }
+
+    private void pause(final Read<DataValue> read) throws IOException {
+        synchronized (m_pausedReads) {
+            if (m_closed) {
+                throw new InterruptedIOException("Reading ahead has been canceled.");
+            }
+            m_pausedReads.add(read);
+        }
+    }
+
+    /**
+     * Estimates the memory held by a row read ahead. Its text values dominate, which are mostly stored as compact
+     * strings with one byte per character.
+     *
+     * @param row a materialized row
+     * @return the estimated memory of {@code row} in bytes
+     */
+    static long estimateSize(final RandomAccessible<DataValue> row) {
+        long size = VALUE_OVERHEAD;
+        for (int i = 0; i < row.size(); i++) {
+            final DataValue value = row.get(i);
+            size += VALUE_OVERHEAD;
+            if (value instanceof StringValue) {
+                size += ((StringValue)value).getStringValue().length();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public synchronized void close() {
+        m_pending.values().forEach(p -> p.m_read.cancel(true));
+        m_pending.clear();
+        m_nextPathIndex = m_paths.size();
+        synchronized (m_pausedReads) {
+            m_closed = true;
+            for (Read<DataValue> read : m_pausedReads) {
+                try {
+                    read.close();
+                } catch (IOException e) { // NOSONAR the rows of the file are not needed anymore
+                    LOGGER.debug("Could not close a file read ahead: " + e.getMessage(), e);
+                }
+            }
+            m_pausedReads.clear();
+        }
+        m_onClose.accept(this);
+    }
+
+    private static final class PendingFile {
+
+        private final Future<PrefetchedRead> m_read;
+
+        PendingFile(final Future<PrefetchedRead> read) {
+            m_read = read;
+        }
+
+        PrefetchedRead get(final ThreadPool pool) throws IOException {
+            try {
+                // the waiting thread might itself be taken from the global pool (when reading files in parallel)
+                return pool.runInvisible(m_read::get);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the file to be read.", e);
+            } catch (CancellationException e) {
+                throw new IOException("Reading the file has been canceled.", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                while (cause instanceof ExecutionException && cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                if (cause instanceof CancellationException) {
+                    throw new IOException("Reading the file has been canceled.", cause);
+                } else if (cause instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for the file to be read.", cause);
+                } else if (cause instanceof IOException) {
+                    throw (IOException)cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException)cause;
+                }
+                throw new IOException(cause.getMessage(), cause);
+            }
+        }
+    }
+
+    /** A {@link Read} of the rows of a file which has been read ahead, followed by the rest of a paused file. */
+    private static final class PrefetchedRead implements Read<DataValue> {
+
+        private final Iterator<RandomAccessible<DataValue>> m_rows;
+
+        private final int m_rowCount;
+
+        private final long m_bytes;
+
+        /** The paused read of the rest of the file, {@code null} if the file has been read completely. */
+        private final Read<DataValue> m_rest;
+
+        private final OptionalLong m_maxProgress;
+
+        private final long m_progress;
+
+        private int m_rowsRead;
+
+        PrefetchedRead(final List<RandomAccessible<DataValue>> rows, final long bytes, final Read<DataValue> rest,
+            final OptionalLong maxProgress, final long progress) {
+            m_rows = rows.iterator();
+            m_rowCount = rows.size();
+            m_bytes = bytes;
+            m_rest = rest;
+            m_maxProgress = maxProgress;
+            m_progress = progress;
+        }
+
+        @Override
+        public RandomAccessible<DataValue> next() throws IOException {
+            if (m_rows.hasNext()) {
+                m_rowsRead++;
+                return m_rows.next();
+            }
+            return m_rest == null ? null : m_rest.next();
+        }
+
+        @Override
+        public OptionalLong getMaxProgress() {
+            return m_rest == null ? m_maxProgress : m_rest.getMaxProgress();
+        }
+
+        @Override
+        public long getProgress() {
+            if (m_rest != null) {
+                return m_rest.getProgress();
+            }
+            return m_rowCount == 0 ? m_progress : (m_progress * m_rowsRead / m_rowCount);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (m_rest != null) {
+                m_rest.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.reader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.core.data.DataValue;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
+import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
+import org.knime.filehandling.core.node.table.reader.read.Read;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * Class for the JSON reader which implements {@link Read} which reads a JSON Lines (NDJSON) file with multiple threads.
+ * The (uncompressed) content is read in blocks ending at a line break, the blocks are parsed in parallel and their rows
+ * are returned in the order of the file. The number of blocks read ahead is limited, so the memory use does not depend
+ * on the size of the file. The file has to be UTF-8 encoded and every value must be on a single line.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JSONLinesParallelRead extends JSONRead {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(JSONLinesParallelRead.class);
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    /** The minimal size of the blocks parsed by a single thread, larger if a line does not fit. */
+    private static final int BLOCK_SIZE = 1024 * 1024;
+
+    private static final byte[] NO_BYTES = new byte[0];
+
+    private final ThreadPool m_pool;
+
+    private final int m_maxPendingBlocks;
+
+    private final Deque<Future<ParsedBlock>> m_pending = new ArrayDeque<>();
+
+    /** The start of the incomplete line at the end of the last block read. */
+    private byte[] m_remainder = NO_BYTES;
+
+    private boolean m_endOfFile;
+
+    private ParsedBlock m_current;
+
+    private int m_currentIndex;
+
+    /** The number of lines in the blocks before {@link #m_current}. */
+    private long m_lineOffset;
+
+    /**
+     * Constructor.
+     *
+     * @param path the {@link Path} to the file
+     * @param config the {@link TableReadConfig} of the node
+     * @param threadCount the number of threads parsing the blocks
+     * @throws IOException
+     */
+    JSONLinesParallelRead(final Path path, final TableReadConfig<JSONReaderConfig> config, final int threadCount)
+        throws IOException {
+        super(path, config);
+        // shares the threads of the global pool, also with the files read in parallel
+        m_pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(threadCount);
+        m_maxPendingBlocks = 2 * threadCount;
+        m_linesRead = 0;
+    }
+
+    @Override
+    public RandomAccessible<DataValue> next() throws IOException {
+        while (true) {
+            if (m_current != null) {
+                if (m_currentIndex < m_current.m_rows.size()) {
+                    m_linesRead++;
+                    return m_current.m_rows.get(m_currentIndex++);
+                }
+                m_current.throwIfFailed(m_lineOffset);
+                m_lineOffset += m_current.m_lineCount;
+                m_current = null;
+            }
+            readBlocks();
+            final Future<ParsedBlock> next = m_pending.poll();
+            if (next == null) {
+                return null;
+            }
+            m_current = await(next);
+            m_currentIndex = 0;
+        }
+    }
+
+    private void readBlocks() throws IOException {
+        while (!m_endOfFile && m_pending.size() < m_maxPendingBlocks) {
+            final byte[] block = readBlock();
+            final int length = block.length - m_remainder.length;
+            if (length > 0) {
+                final boolean allowComments = m_jsonReaderConfig.allowComments();
+                final JSONProjector projector = m_projector;
+                m_pending.add(m_pool.submit(
+                    ThreadUtils.callableWithContext(() -> parse(block, length, allowComments, projector))));
+            }
+        }
+    }
+
+    /**
+     * Reads the next block, its content up to the last line break is parsed, the rest is kept as
+     * {@link #m_remainder} and is the start of the next block. The returned array is not copied, so its last
+     * {@code m_remainder.length} bytes are not part of the block.
+     */
+    private byte[] readBlock() throws IOException {
+        byte[] buffer = Arrays.copyOf(m_remainder, Math.max(BLOCK_SIZE, 2 * m_remainder.length));
+        int length = m_remainder.length;
+        while (true) {
+            while (length < buffer.length) {
+                final int read = m_compressionAwareStream.read(buffer, length, buffer.length - length);
+                if (read < 0) {
+                    m_endOfFile = true;
+                    m_remainder = NO_BYTES;
+                    return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+                }
+                length += read;
+            }
+            for (int i = length - 1; i >= 0; i--) {
+                if (buffer[i] == '\n') {
+                    m_remainder = Arrays.copyOfRange(buffer, i + 1, length);
+                    return buffer;
+                }
+            }
+            // a single line longer than the buffer
+            buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+        }
+    }
+
+    private static ParsedBlock parse(final byte[] block, final int length, final boolean allowComments,
+        final JSONProjector projector) throws IOException {
+        final List<RandomAccessible<DataValue>> rows = new ArrayList<>();
+        try (final JsonParser parser = FACTORY.createParser(block, 0, length)) {
+            if (allowComments) {
+                parser.enable(JsonParser.Feature.ALLOW_COMMENTS);
+                parser.enable(JsonParser.Feature.ALLOW_YAML_COMMENTS);
+            }
+            try {
+                while (parser.nextToken() != null) {
+                    rows.add(createRow(parser, projector));
+                }
+            } catch (JsonProcessingException e) {
+                return new ParsedBlock(rows, 0, parser.getTokenLocation().getLineNr(), e);
+            }
+            // the block ends with a line break (except the last one, where the count is not used)
+            return new ParsedBlock(rows, parser.getCurrentLocation().getLineNr() - 1, 0, null);
+        }
+    }
+
+    private ParsedBlock await(final Future<ParsedBlock> future) throws IOException {
+        try {
+            // the waiting thread might itself be taken from the global pool (when reading files in parallel)
+            return m_pool.runInvisible(future::get);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the JSON values to be parsed.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        m_pending.forEach(f -> f.cancel(true));
+        m_pending.clear();
+        try {
+            m_compressionAwareStream.close();
+        } catch (IOException e) {
+            LOGGER.error("Something went wrong while closing the input stream. "
+                + "For further details please have a look into the log.", e);
+        }
+    }
+
+    /** The rows of a block and the number of its lines, or the error after the successfully parsed values. */
+    private static final class ParsedBlock {
+
+        private final List<RandomAccessible<DataValue>> m_rows;
+
+        private final long m_lineCount;
+
+        private final long m_errorLine;
+
+        private final JsonProcessingException m_error;
+
+        ParsedBlock(final List<RandomAccessible<DataValue>> rows, final long lineCount, final long errorLine,
+            final JsonProcessingException error) {
+            m_rows = rows;
+            m_lineCount = lineCount;
+            m_errorLine = errorLine;
+            m_error = error;
+        }
+
+        void throwIfFailed(final long lineOffset) throws IOException {
+            if (m_error != null) {
+                throw new IOException("Invalid JSON value at line " + (lineOffset + m_errorLine) + ": "
+                    + m_error.getOriginalMessage(), m_error);
+            }
+        }
+    }
+}
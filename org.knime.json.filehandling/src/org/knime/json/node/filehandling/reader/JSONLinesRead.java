@@ -0,0 +1,131 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.reader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.knime.core.data.DataValue;
+import org.knime.core.node.NodeLogger;
+import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
+import org.knime.filehandling.core.node.table.reader.read.Read;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * Class for the JSON reader which implements {@link Read} which reads a JSON Lines (NDJSON) file, one row for each
+ * value. The values are read one after the other by a single parser, so the file is never loaded as a whole. Empty
+ * lines are ignored.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JSONLinesRead extends JSONRead {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(JSONLinesRead.class);
+
+    private final JsonParser m_parser;
+
+    private long m_numRowsToSkip;
+
+    /**
+     * Constructor.
+     *
+     * @param path the {@link Path} to the file
+     * @param config the {@link TableReadConfig} of the node
+     * @throws IOException
+     */
+    JSONLinesRead(final Path path, final TableReadConfig<JSONReaderConfig> config) throws IOException {
+        super(path, config);
+        m_parser = createParser();
+        m_linesRead = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * The skipped values are only checked for syntax errors, no cells are created for them.
+     */
+    @Override
+    Read<DataValue> skip(final long numRowsToSkip) {
+        m_numRowsToSkip = numRowsToSkip;
+        return this;
+    }
+
+    @Override
+    public RandomAccessible<DataValue> next() throws IOException {
+        try {
+            for (; m_numRowsToSkip > 0; m_numRowsToSkip--) {
+                if (m_parser.nextToken() == null) {
+                    return null;
+                }
+                m_parser.skipChildren();
+            }
+            if (m_parser.nextToken() == null) {
+                return null;
+            }
+            m_linesRead++;
+            return createRow(m_parser);
+        } catch (JsonProcessingException e) {
+            throw new IOException("Invalid JSON value at line " + m_parser.getTokenLocation().getLineNr() + ": "
+                + e.getOriginalMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            m_parser.close();
+        } catch (IOException e) {
+            LOGGER.error("Something went wrong while closing the JSON parser. "
+                + "For further details please have a look into the log.", e);
+        }
+    }
+}
@@ -49,6 +49,7 @@
 package org.knime.json.node.filehandling.reader;
 
 import java.io.IOException;
+import java.util.stream.Collectors;
 
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
@@ -79,6 +80,9 @@ final class JSONMultiTableReadFactory implements MultiTableReadFactory<FSPath, J
 
     private final MultiTableReadFactory<FSPath, JSONReaderConfig, DataType> m_multiTableReadFactory;
 
+    /** The reader used by {@link #m_multiTableReadFactory}, {@code null} if files can't be read in parallel. */
+    private final JSONReader m_reader;
+
     private static IllegalArgumentException createNoRowsException() {
         return new IllegalArgumentException("Nothing found for JSON Path ");
     }
@@ -89,12 +93,14 @@ public StagedMultiTableRead<FSPath, DataType> create(final SourceGroup<FSPath> s
         final StagedMultiTableRead<FSPath, DataType> stagedultiTableReadFactory =
             m_multiTableReadFactory.create(sourceGroup, config, exec);
         return new JSONStagedMultiTableRead(stagedultiTableReadFactory,
-            config.getTableReadConfig().getReaderSpecificConfig());
+            config.getTableReadConfig().getReaderSpecificConfig(), m_reader);
     }
 
     JSONMultiTableReadFactory(
-        final MultiTableReadFactory<FSPath, JSONReaderConfig, DataType> multiTableReadFactory) {
+        final MultiTableReadFactory<FSPath, JSONReaderConfig, DataType> multiTableReadFactory,
+        final JSONReader reader) {
         m_multiTableReadFactory = multiTableReadFactory;
+        m_reader = reader;
     }
 
     @Override
@@ -103,7 +109,7 @@ public StagedMultiTableRead<FSPath, DataType> createFromConfig(final SourceGroup
         final StagedMultiTableRead<FSPath, DataType> stagedultiTableReadFactory =
             m_multiTableReadFactory.createFromConfig(sourceGroup, config);
         return new JSONStagedMultiTableRead(stagedultiTableReadFactory,
-            config.getTableReadConfig().getReaderSpecificConfig());
+            config.getTableReadConfig().getReaderSpecificConfig(), m_reader);
     }
 
     private static final class JSONStagedMultiTableRead implements StagedMultiTableRead<FSPath, DataType> {
@@ -112,16 +118,19 @@ private static final class JSONStagedMultiTableRead implements StagedMultiTableR
 
         private final JSONReaderConfig m_config;
 
+        private final JSONReader m_reader;
+
         JSONStagedMultiTableRead(final StagedMultiTableRead<FSPath, DataType> stagedMutltiTableRead,
-            final JSONReaderConfig config) {
+            final JSONReaderConfig config, final JSONReader reader) {
             m_stagedMutltiTableRead = stagedMutltiTableRead;
             m_config = config;
+            m_reader = reader;
         }
 
         @Override
         public MultiTableRead<DataType> withoutTransformation(final SourceGroup<FSPath> sourceGroup) {
             final MultiTableRead<DataType> multiTableRead = m_stagedMutltiTableRead.withoutTransformation(sourceGroup);
-            return new JSONMultiTableRead(multiTableRead, m_config);
+            return new JSONMultiTableRead(multiTableRead, m_config, m_reader, sourceGroup);
         }
 
         @Override
@@ -129,7 +138,7 @@ public MultiTableRead<DataType> withTransformation(final SourceGroup<FSPath> sou
             final TableTransformation<DataType> selectorModel) {
             final MultiTableRead<DataType> multiTableRead =
                 m_stagedMutltiTableRead.withTransformation(sourceGroup, selectorModel);
-            return new JSONMultiTableRead(multiTableRead, m_config);
+            return new JSONMultiTableRead(multiTableRead, m_config, m_reader, sourceGroup);
         }
 
         @Override
@@ -150,9 +159,16 @@ private static final class JSONMultiTableRead implements MultiTableRead<DataType
 
         private final JSONReaderConfig m_config;
 
-        JSONMultiTableRead(final MultiTableRead<DataType> multiTableRead, final JSONReaderConfig config) {
+        private final JSONReader m_reader;
+
+        private final SourceGroup<FSPath> m_sourceGroup;
+
+        JSONMultiTableRead(final MultiTableRead<DataType> multiTableRead, final JSONReaderConfig config,
+            final JSONReader reader, final SourceGroup<FSPath> sourceGroup) {
             m_multiTableRead = multiTableRead;
             m_config = config;
+            m_reader = reader;
+            m_sourceGroup = sourceGroup;
         }
 
         @Override
@@ -177,6 +193,19 @@ public PreviewRowIterator createPreviewIterator() {
         @Override
         public void fillRowOutput(final RowOutput output, final ExecutionMonitor exec, final FileStoreFactory fsFactory)
             throws Exception {
+            if (m_reader == null || m_config.getParallelFileCount() <= 1 || m_sourceGroup.size() <= 1) {
+                doFillRowOutput(output, exec, fsFactory);
+            } else {
+                // the framework requests the files one after the other, the upcoming ones are read in the meantime
+                try (final JSONFilePrefetcher prefetcher =
+                    m_reader.prefetch(m_sourceGroup.stream().collect(Collectors.toList()), m_config)) {
+                    doFillRowOutput(output, exec, fsFactory);
+                }
+            }
+        }
+
+        private void doFillRowOutput(final RowOutput output, final ExecutionMonitor exec,
+            final FileStoreFactory fsFactory) throws Exception {
             if (m_config.failIfNotFound()) {
                 final CountingRowOutput countingRowOutput = new CountingRowOutput(output);
                 m_multiTableRead.fillRowOutput(countingRowOutput, exec, fsFactory);
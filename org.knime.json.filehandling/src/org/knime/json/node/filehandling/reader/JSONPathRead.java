@@ -62,6 +62,9 @@
 import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
 import org.knime.filehandling.core.node.table.reader.read.Read;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
 /**
  * Class for the JSON reader which implements {@link Read} which uses JSONPath.
  *
@@ -94,11 +97,24 @@ public RandomAccessible<DataValue> next() throws IOException {
         m_linesRead++;
         RandomAccessible<DataValue> dataValue = null;
         if (m_iterator != null && m_iterator.hasNext()) {
-            dataValue = createRandomAccessible(JSONCellFactory.create(m_iterator.next().toString()));
+            final Object value = m_iterator.next();
+            // the Jackson provider of the surfer returns parsed nodes, these are converted without serializing
+            dataValue = value instanceof JsonNode ? createRow((JsonNode)value)
+                : createRandomAccessible(JSONCellFactory.create(value.toString()));
         }
         return dataValue;
     }
 
+    private RandomAccessible<DataValue> createRow(final JsonNode node) throws IOException {
+        if (m_projector == null) {
+            return createRandomAccessible(JSONCellFactory.create(node));
+        }
+        try (final JsonParser parser = node.traverse()) {
+            parser.nextToken();
+            return m_projector.project(parser);
+        }
+    }
+
     private void initializeParser() throws IOException {
         try {
             m_iterator = m_surfer.iterator(m_compressionAwareStream, JsonPathCompiler.compile(m_jsonPath));
@@ -0,0 +1,196 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.reader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.knime.core.data.DataType;
+import org.knime.core.data.collection.ListCell;
+import org.knime.core.node.InvalidSettingsException;
+
+/**
+ * A column read directly from the JSON values: the values matched by a simple JSONPath (properties, non-negative array
+ * indices and wildcards, like {@code $.items[*].id} or {@code $['a'].b[3]}) converted to a type. Immutable.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JSONProjection {
+
+    /** A single step of the path: {@code .name}, {@code ['name']}, {@code [3]}, {@code .*} or {@code [*]}. */
+    private static final Pattern STEP = Pattern.compile(
+        "\\.([A-Za-z0-9_$-]+)|\\['([^'\"\\\\]*)'\\]|\\[\"([^'\"\\\\]*)\"\\]|\\[([0-9]{1,9})\\]|\\.\\*|\\[\\*\\]");
+
+    private final String m_columnName;
+
+    private final String m_path;
+
+    private final JSONProjectionType m_type;
+
+    private final boolean m_list;
+
+    /** Property name for property steps, {@code null} for index and wildcard steps. */
+    private final String[] m_keys;
+
+    /** Array index for index steps, {@code -1} for the others. */
+    private final int[] m_indices;
+
+    private JSONProjection(final String columnName, final String path, final JSONProjectionType type,
+        final boolean list, final List<String> keys, final List<Integer> indices) {
+        m_columnName = columnName;
+        m_path = path;
+        m_type = type;
+        m_list = list;
+        m_keys = keys.toArray(new String[0]);
+        m_indices = indices.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @param columnName the name of the column
+     * @param path the simple JSONPath of the values
+     * @param type the type of the values
+     * @param list whether all matched values are collected in a list, otherwise the first one is read
+     * @return the projection
+     * @throws InvalidSettingsException if the column name is empty or the path is not supported
+     */
+    static JSONProjection create(final String columnName, final String path, final JSONProjectionType type,
+        final boolean list) throws InvalidSettingsException {
+        if (columnName == null || columnName.trim().isEmpty()) {
+            throw new InvalidSettingsException("The column name of the JSONPath " + path + " must not be empty.");
+        }
+        if (type == null) {
+            throw new InvalidSettingsException("No type is selected for the column " + columnName + ".");
+        }
+        final List<String> keys = new ArrayList<>();
+        final List<Integer> indices = new ArrayList<>();
+        if (path == null || !path.startsWith("$")) {
+            throw unsupported(columnName, path);
+        }
+        final Matcher matcher = STEP.matcher(path);
+        int position = 1;
+        while (position < path.length()) {
+            if (!matcher.find(position) || matcher.start() != position) {
+                throw unsupported(columnName, path);
+            }
+            final String key = matcher.group(1) != null ? matcher.group(1)
+                : matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+            keys.add(key);
+            indices.add(matcher.group(4) == null ? -1 : Integer.valueOf(matcher.group(4)));
+            position = matcher.end();
+        }
+        return new JSONProjection(columnName, path, type, list, keys, indices);
+    }
+
+    private static InvalidSettingsException unsupported(final String columnName, final String path) {
+        return new InvalidSettingsException("The JSONPath of the column " + columnName + " is not supported: " + path
+            + " (only properties, array indices and wildcards like $.items[*].id or $['a'].b[3] are).");
+    }
+
+    /**
+     * @return the name of the column
+     */
+    String getColumnName() {
+        return m_columnName;
+    }
+
+    /**
+     * @return the JSONPath
+     */
+    String getPath() {
+        return m_path;
+    }
+
+    /**
+     * @return the type of the (list elements of the) column
+     */
+    JSONProjectionType getType() {
+        return m_type;
+    }
+
+    /**
+     * @return whether the column contains the list of all matched values
+     */
+    boolean isList() {
+        return m_list;
+    }
+
+    /**
+     * @return the type of the column
+     */
+    DataType getDataType() {
+        return m_list ? ListCell.getCollectionType(m_type.getDataType()) : m_type.getDataType();
+    }
+
+    /**
+     * @return the number of steps of the path, that is the depth of the matched values
+     */
+    int getDepth() {
+        return m_keys.length;
+    }
+
+    /**
+     * @param depth the depth of the value, less than {@link #getDepth()}
+     * @param name the property name of the value
+     * @return whether the step at {@code depth} matches the object member
+     */
+    boolean matchesProperty(final int depth, final String name) {
+        return m_keys[depth] == null ? m_indices[depth] < 0 : m_keys[depth].equals(name);
+    }
+
+    /**
+     * @param depth the depth of the value, less than {@link #getDepth()}
+     * @param index the index of the value
+     * @return whether the step at {@code depth} matches the array element
+     */
+    boolean matchesIndex(final int depth, final int index) {
+        return m_keys[depth] == null && (m_indices[depth] < 0 || m_indices[depth] == index);
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.reader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.json.JSONCellFactory;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessibleUtils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Evaluates the {@link JSONProjection JSONProjections} of a {@link JSONReaderConfig} in a single pass over the tokens
+ * of a JSON value. Only the matched values are converted to cells, all other subtrees are skipped without being
+ * materialized. Values matched by more than one projection (or matched by one and containing matches of others) are
+ * buffered as tokens once and replayed. Immutable and thus thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JSONProjector {
+
+    private final JSONProjection[] m_projections;
+
+    private final int[] m_all;
+
+    private JSONProjector(final List<JSONProjection> projections) {
+        m_projections = projections.toArray(new JSONProjection[0]);
+        m_all = new int[m_projections.length];
+        Arrays.setAll(m_all, i -> i);
+    }
+
+    /**
+     * @param config the configuration
+     * @return the projector of the configured projections or {@code null} if there are none
+     */
+    static JSONProjector create(final JSONReaderConfig config) {
+        final List<JSONProjection> projections = config.getProjections();
+        return projections.isEmpty() ? null : new JSONProjector(projections);
+    }
+
+    /**
+     * Creates the row of a JSON value.
+     *
+     * @param parser the parser positioned at the first token of the value, afterwards positioned at its last token
+     * @return the projected values, {@code null} representing missing values
+     * @throws IOException if the value can't be parsed
+     */
+    RandomAccessible<DataValue> project(final JsonParser parser) throws IOException {
+        @SuppressWarnings("unchecked")
+        final List<DataCell>[] matches = new List[m_projections.length];
+        Arrays.setAll(matches, i -> new ArrayList<>(1));
+        match(parser, m_all, 0, matches);
+        final DataValue[] values = new DataValue[m_projections.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = toValue(m_projections[i], matches[i]);
+        }
+        return RandomAccessibleUtils.createFromArray(values);
+    }
+
+    private static DataValue toValue(final JSONProjection projection, final List<DataCell> matches) {
+        if (matches.isEmpty()) {
+            return null;
+        }
+        if (!projection.isList()) {
+            return matches.get(0);
+        }
+        final List<DataCell> cells = new ArrayList<>(matches.size());
+        for (final DataCell cell : matches) {
+            cells.add(cell == null ? DataType.getMissingCell() : cell);
+        }
+        return CollectionCellFactory.createListCell(cells);
+    }
+
+    /**
+     * @param active the indices of the projections whose paths match the value up to {@code depth}
+     */
+    private void match(final JsonParser parser, final int[] active, final int depth, final List<DataCell>[] matches)
+        throws IOException {
+        int numCaptures = 0;
+        boolean descends = false;
+        for (final int p : active) {
+            if (m_projections[p].getDepth() == depth) {
+                numCaptures++;
+            } else {
+                descends = true;
+            }
+        }
+        final boolean isStruct = parser.currentToken().isStructStart();
+        if (isStruct && numCaptures + (descends ? 1 : 0) > 1) {
+            final TokenBuffer buffer = new TokenBuffer(parser);
+            buffer.copyCurrentStructure(parser);
+            for (final int p : active) {
+                try (final JsonParser replay = buffer.asParserOnFirstToken()) {
+                    if (m_projections[p].getDepth() == depth) {
+                        matches[p].add(toCell(replay, m_projections[p].getType()));
+                    }
+                }
+            }
+            if (descends) {
+                try (final JsonParser replay = buffer.asParserOnFirstToken()) {
+                    descend(replay, active, depth, matches);
+                }
+            }
+        } else if (numCaptures > 0) {
+            // at most one consumer of a struct or any number of consumers of a scalar
+            for (final int p : active) {
+                if (m_projections[p].getDepth() == depth) {
+                    matches[p].add(toCell(parser, m_projections[p].getType()));
+                }
+            }
+        } else if (isStruct) {
+            descend(parser, active, depth, matches);
+        }
+    }
+
+    private void descend(final JsonParser parser, final int[] active, final int depth, final List<DataCell>[] matches)
+        throws IOException {
+        final int[] childActive = new int[active.length];
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = parser.getCurrentName();
+                parser.nextToken();
+                int numChildActive = 0;
+                for (final int p : active) {
+                    if (m_projections[p].getDepth() > depth && m_projections[p].matchesProperty(depth, name)) {
+                        childActive[numChildActive++] = p;
+                    }
+                }
+                matchChild(parser, childActive, numChildActive, depth, matches);
+            }
+        } else {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                int numChildActive = 0;
+                for (final int p : active) {
+                    if (m_projections[p].getDepth() > depth && m_projections[p].matchesIndex(depth, index)) {
+                        childActive[numChildActive++] = p;
+                    }
+                }
+                matchChild(parser, childActive, numChildActive, depth, matches);
+                index++;
+            }
+        }
+    }
+
+    private void matchChild(final JsonParser parser, final int[] childActive, final int numChildActive,
+        final int depth, final List<DataCell>[] matches) throws IOException {
+        if (numChildActive == 0) {
+            parser.skipChildren();
+        } else {
+            match(parser, Arrays.copyOf(childActive, numChildActive), depth + 1, matches);
+        }
+    }
+
+    /**
+     * Converts the current value, leaving the parser at its last token.
+     *
+     * @return the cell or {@code null} if the value is {@code null} or can't be represented by the type
+     */
+    private static DataCell toCell(final JsonParser parser, final JSONProjectionType type) throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (type) {
+            case STRING:
+                return token.isStructStart() ? new StringCell(JSONCellFactory.create(parser).toString())
+                    : new StringCell(parser.getText());
+            case LONG:
+                if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != NumberType.BIG_INTEGER) {
+                    return new LongCell(parser.getLongValue());
+                }
+                break;
+            case DOUBLE:
+                if (token.isNumeric()) {
+                    return new DoubleCell(parser.getDoubleValue());
+                }
+                break;
+            case BOOLEAN:
+                if (token.isBoolean()) {
+                    return BooleanCellFactory.create(parser.getBooleanValue());
+                }
+                break;
+            case JSON:
+                return JSONCellFactory.create(parser);
+            default:
+                throw new IllegalStateException("Unsupported projection type: " + type);
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
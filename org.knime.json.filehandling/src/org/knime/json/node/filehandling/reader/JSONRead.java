@@ -54,12 +54,17 @@
 import java.util.OptionalLong;
 
 import org.knime.core.data.DataValue;
+import org.knime.core.data.json.JSONCellFactory;
 import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
 import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
 import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessibleUtils;
 import org.knime.filehandling.core.node.table.reader.read.Read;
+import org.knime.filehandling.core.node.table.reader.read.ReadUtils;
 import org.knime.filehandling.core.util.CompressionAwareCountingInputStream;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
 /**
  * Common Class for JSON Reading
  *
@@ -67,6 +72,8 @@
  */
 abstract class JSONRead implements Read<DataValue> {
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     protected final CompressionAwareCountingInputStream m_compressionAwareStream;
 
     protected final long m_size;
@@ -77,6 +84,9 @@ abstract class JSONRead implements Read<DataValue> {
 
     protected long m_linesRead;
 
+    /** The projector of the configured columns or {@code null} if the values are read as a single JSON column. */
+    protected final JSONProjector m_projector;
+
     protected final boolean m_limitRows;
 
     protected final long m_maxRows;
@@ -91,6 +101,30 @@ protected static RandomAccessible<DataValue> createRandomAccessible(final DataVa
         return RandomAccessibleUtils.createFromArray(line);
     }
 
+    /**
+     * Creates the row of a JSON value, either a single JSON cell or the projected columns.
+     *
+     * @param parser the parser positioned at the first token of the value, afterwards positioned at its last token
+     * @param projector the projector of the configured columns or {@code null} to read the value as a single cell
+     * @return a {@link RandomAccessible}
+     * @throws IOException if the value can't be parsed
+     */
+    static RandomAccessible<DataValue> createRow(final JsonParser parser, final JSONProjector projector)
+        throws IOException {
+        return projector == null ? createRandomAccessible(JSONCellFactory.create(parser)) : projector.project(parser);
+    }
+
+    /**
+     * Creates the row of a JSON value with the {@link #m_projector} of this read.
+     *
+     * @param parser the parser positioned at the first token of the value, afterwards positioned at its last token
+     * @return a {@link RandomAccessible}
+     * @throws IOException if the value can't be parsed
+     */
+    protected RandomAccessible<DataValue> createRow(final JsonParser parser) throws IOException {
+        return createRow(parser, m_projector);
+    }
+
     /**
      *
      * @param path
@@ -100,6 +134,7 @@ protected static RandomAccessible<DataValue> createRandomAccessible(final DataVa
     public JSONRead(final Path path, final TableReadConfig<JSONReaderConfig> config) throws IOException {
         m_config = config;
         m_jsonReaderConfig = m_config.getReaderSpecificConfig();
+        m_projector = JSONProjector.create(m_jsonReaderConfig);
 
         m_size = Files.size(path);
 
@@ -109,6 +144,35 @@ public JSONRead(final Path path, final TableReadConfig<JSONReaderConfig> config)
         m_compressionAwareStream = new CompressionAwareCountingInputStream(path);
     }
 
+    /**
+     * Creates a Jackson {@link JsonParser} on the (uncompressed) content of the file, honouring the allow comments
+     * option. The parser reads the bytes directly (detecting the Unicode encoding and skipping the byte order mark), so
+     * no separate character decoding is needed. Closing the parser closes the underlying stream.
+     *
+     * @return a new {@link JsonParser} not yet positioned on any token
+     * @throws IOException if the parser can't be created
+     */
+    protected JsonParser createParser() throws IOException {
+        final JsonParser parser = JSON_FACTORY.createParser(m_compressionAwareStream);
+        if (m_jsonReaderConfig.allowComments()) {
+            parser.enable(JsonParser.Feature.ALLOW_COMMENTS);
+            parser.enable(JsonParser.Feature.ALLOW_YAML_COMMENTS);
+        }
+        return parser;
+    }
+
+    /**
+     * Creates a {@link Read} skipping the first {@code numRowsToSkip} rows of this one. Subclasses might skip the rows
+     * without creating their values.
+     *
+     * @param numRowsToSkip the number of rows to skip
+     * @return a {@link Read} starting after the skipped rows
+     */
+    @SuppressWarnings("resource") // closing the read is the responsibility of the caller
+    Read<DataValue> skip(final long numRowsToSkip) {
+        return ReadUtils.skip(this, numRowsToSkip);
+    }
+
     @Override
     public OptionalLong getMaxProgress() {
         return OptionalLong.of(m_size);
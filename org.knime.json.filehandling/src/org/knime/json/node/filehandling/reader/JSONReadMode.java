@@ -57,8 +57,11 @@
  */
 enum JSONReadMode implements ButtonGroupEnumInterface {
 
-        LEGACY("Simple/JSON Path"); //
-//        STREAMING("Autodetect"); //NOSONAR for future reference
+        LEGACY("Simple/JSON Path"), //
+        /** One JSON value per line (JSON Lines/NDJSON), each read into a separate row. */
+        NDJSON("JSON Lines (one value per line)"), //
+        /** The elements of a (top-level or pointed to) array are streamed into separate rows. */
+        STREAMING("Autodetect (split array)"); //
 
     private final String m_label;
 
@@ -50,6 +50,8 @@
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValue;
@@ -69,12 +71,67 @@
  */
 final class JSONReader implements TableReader<JSONReaderConfig, DataType, DataValue> {
 
-    @SuppressWarnings("resource") // closing the read is the responsibility of the caller
+    /** Reads the upcoming files ahead while a multi-file read is executed, {@code null} otherwise. */
+    private volatile JSONFilePrefetcher m_prefetcher;
+
     @Override
     public Read<DataValue> read(final FSPath path, final TableReadConfig<JSONReaderConfig> config)
         throws IOException {
+        final JSONFilePrefetcher prefetcher = m_prefetcher;
+        if (prefetcher != null) {
+            final Read<DataValue> prefetched = prefetcher.take(path, config);
+            if (prefetched != null) {
+                return prefetched;
+            }
+        }
+        return readFile(path, config);
+    }
+
+    /**
+     * Reads the files of {@code paths} in parallel (ahead of them being requested with
+     * {@link #read(FSPath, TableReadConfig)}) until the returned prefetcher is closed.
+     *
+     * @param paths the paths in the order they are read
+     * @param config the configuration with the number of files to read in parallel and the size limit
+     * @return the prefetcher to close once all files are read
+     */
+    JSONFilePrefetcher prefetch(final List<FSPath> paths, final JSONReaderConfig config) {
+        final JSONFilePrefetcher prefetcher =
+            new JSONFilePrefetcher(this::readFile, this::prefetchingFinished, paths, config.getParallelFileCount(),
+                config.getMaxPrefetchedBytes());
+        m_prefetcher = prefetcher;
+        return prefetcher;
+    }
+
+    /**
+     * Called when {@code prefetcher} is closed, the files are read directly afterwards.
+     *
+     * @param prefetcher the closed prefetcher
+     */
+    void prefetchingFinished(final JSONFilePrefetcher prefetcher) {
+        if (m_prefetcher == prefetcher) {
+            m_prefetcher = null;
+        }
+    }
+
+    /**
+     * Reads {@code path} directly, also used to read the files ahead.
+     *
+     * @param path the path of the file to read
+     * @param config the {@link TableReadConfig} used
+     * @return a {@link Read} of the rows of the file
+     * @throws IOException if the file can't be opened
+     */
+    @SuppressWarnings("resource") // closing the read is the responsibility of the caller
+    Read<DataValue> readFile(final FSPath path, final TableReadConfig<JSONReaderConfig> config) throws IOException {
         final JSONReaderConfig jsonReaderConfig = config.getReaderSpecificConfig();
-        if (jsonReaderConfig.useJSONPath()) {
+        if (jsonReaderConfig.getJsonReadMode() == JSONReadMode.NDJSON) {
+            final int parsingThreads = jsonReaderConfig.getParsingThreadCount();
+            return decorateForReading(parsingThreads > 1 ? new JSONLinesParallelRead(path, config, parsingThreads)
+                : new JSONLinesRead(path, config), config);
+        } else if (jsonReaderConfig.getJsonReadMode() == JSONReadMode.STREAMING) {
+            return decorateForReading(new JSONStreamingRead(path, config), config);
+        } else if (jsonReaderConfig.useJSONPath()) {
             return decorateForReading(new JSONPathRead(path, config), config);
         } else {
             return decorateForReading(new JSONBlobRead(path, config), config);
@@ -84,7 +141,15 @@ public Read<DataValue> read(final FSPath path, final TableReadConfig<JSONReaderC
     @Override
     public TypedReaderTableSpec<DataType> readSpec(final FSPath path, final TableReadConfig<JSONReaderConfig> config,
         final ExecutionMonitor exec) throws IOException {
-        final String colName = config.getReaderSpecificConfig().getColumnName();
+        final JSONReaderConfig jsonReaderConfig = config.getReaderSpecificConfig();
+        final List<JSONProjection> projections = jsonReaderConfig.getProjections();
+        if (!projections.isEmpty()) {
+            return TypedReaderTableSpec.create(
+                projections.stream().map(JSONProjection::getColumnName).collect(Collectors.toList()),
+                projections.stream().map(JSONProjection::getDataType).collect(Collectors.toList()),
+                Collections.nCopies(projections.size(), Boolean.TRUE));
+        }
+        final String colName = jsonReaderConfig.getColumnName();
         return TypedReaderTableSpec.create(Collections.singleton(colName), Collections.singleton(JSONCell.TYPE),
             Collections.singleton(Boolean.TRUE));
     }
@@ -105,7 +170,7 @@ private static Read<DataValue> decorateForReading(final JSONRead read,
         final boolean skipRows = config.skipRows();
         if (skipRows) {
             final long numRowsToSkip = config.getNumRowsToSkip();
-            filtered = ReadUtils.skip(filtered, numRowsToSkip);
+            filtered = read.skip(numRowsToSkip);
         }
         if (config.limitRows()) {
             final long numRowsToKeep = config.getMaxRows();
@@ -48,6 +48,9 @@
  */
 package org.knime.json.node.filehandling.reader;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.knime.filehandling.core.node.table.reader.config.ReaderSpecificConfig;
 
 /**
@@ -57,6 +60,15 @@
  */
 public final class JSONReaderConfig implements ReaderSpecificConfig<JSONReaderConfig> {
 
+    /** The default number of files read in parallel: {@value}, i.e. the files are read one after the other. */
+    static final int DEFAULT_PARALLEL_FILE_COUNT = 1;
+
+    /** The default number of threads parsing a JSON Lines file: {@value}, i.e. it is parsed sequentially. */
+    static final int DEFAULT_PARSING_THREAD_COUNT = 1;
+
+    /** The default limit of the estimated memory of the rows read ahead: {@value} bytes (64 MB). */
+    static final long DEFAULT_MAX_PREFETCHED_BYTES = 64L * 1024 * 1024;
+
     private String m_columnName = "json";
 
     /**
@@ -72,6 +84,16 @@ public final class JSONReaderConfig implements ReaderSpecificConfig<JSONReaderCo
 
     private String m_jsonPath = "$";
 
+    private String m_arrayPointer = "";
+
+    private int m_parallelFileCount = DEFAULT_PARALLEL_FILE_COUNT;
+
+    private long m_maxPrefetchedBytes = DEFAULT_MAX_PREFETCHED_BYTES;
+
+    private int m_parsingThreadCount = DEFAULT_PARSING_THREAD_COUNT;
+
+    private List<JSONProjection> m_projections = Collections.emptyList();
+
     /**
      * Constructor.
      */
@@ -88,6 +110,11 @@ private JSONReaderConfig(final JSONReaderConfig toCopy) {
         setFailIfNotFound(toCopy.failIfNotFound());
         setJSONPath(toCopy.getJSONPath());
         setUseJSONPath(toCopy.useJSONPath());
+        setArrayPointer(toCopy.getArrayPointer());
+        setParallelFileCount(toCopy.getParallelFileCount());
+        setMaxPrefetchedBytes(toCopy.getMaxPrefetchedBytes());
+        setParsingThreadCount(toCopy.getParsingThreadCount());
+        setProjections(toCopy.getProjections());
     }
 
     @Override
@@ -165,6 +192,79 @@ public void setJSONPath(final String jSONPath) {
         m_jsonPath = jSONPath;
     }
 
+    /**
+     * @return the JSON Pointer to the array split in {@link JSONReadMode#STREAMING} mode, empty for the root value
+     */
+    public String getArrayPointer() {
+        return m_arrayPointer;
+    }
+
+    /**
+     * @param arrayPointer the JSON Pointer to the array to split, empty for the root value
+     */
+    public void setArrayPointer(final String arrayPointer) {
+        m_arrayPointer = arrayPointer;
+    }
+
+    /**
+     * @return the number of files read in parallel when reading multiple files, {@code 1} to read them one after the
+     *         other
+     */
+    public int getParallelFileCount() {
+        return m_parallelFileCount;
+    }
+
+    /**
+     * @param parallelFileCount the number of files read in parallel to set
+     */
+    public void setParallelFileCount(final int parallelFileCount) {
+        m_parallelFileCount = parallelFileCount;
+    }
+
+    /**
+     * @return the maximal estimated memory (in bytes) of the rows read ahead of the file currently emitted, the rest of
+     *         a file is read once it is requested when the limit is reached
+     */
+    public long getMaxPrefetchedBytes() {
+        return m_maxPrefetchedBytes;
+    }
+
+    /**
+     * @param maxPrefetchedBytes the maximal estimated memory (in bytes) of the rows read ahead to set
+     */
+    public void setMaxPrefetchedBytes(final long maxPrefetchedBytes) {
+        m_maxPrefetchedBytes = maxPrefetchedBytes;
+    }
+
+    /**
+     * @return the number of threads parsing a file in {@link JSONReadMode#NDJSON} mode, {@code 1} to parse it
+     *         sequentially
+     */
+    public int getParsingThreadCount() {
+        return m_parsingThreadCount;
+    }
+
+    /**
+     * @param parsingThreadCount the number of threads parsing a JSON Lines file to set
+     */
+    public void setParsingThreadCount(final int parsingThreadCount) {
+        m_parsingThreadCount = parsingThreadCount;
+    }
+
+    /**
+     * @return the columns read from each JSON value, empty to read the values as a single JSON column
+     */
+    public List<JSONProjection> getProjections() {
+        return m_projections;
+    }
+
+    /**
+     * @param projections the columns read from each JSON value, empty to read the values as a single JSON column
+     */
+    public void setProjections(final List<JSONProjection> projections) {
+        m_projections = Collections.unmodifiableList(projections);
+    }
+
     /**
      * @return the failIfNotFound
      */
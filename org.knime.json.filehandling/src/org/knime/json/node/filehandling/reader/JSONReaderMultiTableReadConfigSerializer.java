@@ -48,6 +48,12 @@
  */
 package org.knime.json.node.filehandling.reader;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsRO;
@@ -63,6 +69,8 @@
 import org.knime.filehandling.core.node.table.reader.config.tablespec.NodeSettingsConfigID;
 import org.knime.filehandling.core.util.SettingsUtils;
 
+import com.fasterxml.jackson.core.JsonPointer;
+
 /**
  * The {@link ConfigSerializer} for the JSON reader node.
  *
@@ -97,6 +105,26 @@
 
     private static final String CFG_DEFAULT_JSON_PATH = "$";
 
+    private static final String CFG_ARRAY_POINTER = "array_pointer";
+
+    private static final String CFG_DEFAULT_ARRAY_POINTER = "";
+
+    private static final String CFG_PARALLEL_FILE_COUNT = "parallel_file_count";
+
+    private static final String CFG_MAX_PREFETCHED_BYTES = "max_prefetched_bytes";
+
+    private static final String CFG_PARSING_THREAD_COUNT = "parsing_thread_count";
+
+    private static final String CFG_PROJECTIONS = "projections";
+
+    private static final String CFG_PROJECTION_COLUMN_NAMES = "column_names";
+
+    private static final String CFG_PROJECTION_PATHS = "paths";
+
+    private static final String CFG_PROJECTION_TYPES = "types";
+
+    private static final String CFG_PROJECTION_LISTS = "lists";
+
     private static final String CFG_LIMIT_ROWS_TAB = "limit_rows";
 
     private static final String CFG_MAX_ROWS = "max_rows";
@@ -132,6 +160,8 @@ private static void saveConfigIDSettingsTab(final JSONMultiTableReadConfig confi
         settings.addString(CFG_JSON_PATH, cc.getJSONPath());
         settings.addBoolean(CFG_FAIL_IF_NOT_FOUND, cc.failIfNotFound());
         settings.addBoolean(CFG_ALLOW_COMMENTS, cc.allowComments());
+        settings.addString(CFG_ARRAY_POINTER, cc.getArrayPointer());
+        saveProjections(cc, settings);
     }
 
     private static void saveConfigIDLimitRowsTab(final JSONMultiTableReadConfig config,
@@ -162,6 +192,13 @@ private static void loadSettingsTabInDialog(final JSONMultiTableReadConfig confi
         jsonReaderCfg.setFailIfNotFound(settings.getBoolean(CFG_FAIL_IF_NOT_FOUND, false));
         jsonReaderCfg.setJSONPath(settings.getString(CFG_JSON_PATH, CFG_DEFAULT_JSON_PATH));
         jsonReaderCfg.setUseJSONPath(settings.getBoolean(CFG_USE_PATH, false));
+        jsonReaderCfg.setArrayPointer(settings.getString(CFG_ARRAY_POINTER, CFG_DEFAULT_ARRAY_POINTER));
+        loadParallelReading(jsonReaderCfg, settings);
+        try {
+            jsonReaderCfg.setProjections(loadProjections(settings));
+        } catch (InvalidSettingsException e) { // NOSONAR the model does not accept invalid projections
+            jsonReaderCfg.setProjections(Collections.emptyList());
+        }
 
         config.setAppendItemIdentifierColumn(
             settings.getBoolean(CFG_APPEND_PATH_COLUMN, config.appendItemIdentifierColumn()));
@@ -209,10 +246,79 @@ private static void loadSettingsTabInModel(final JSONMultiTableReadConfig config
         jsonReaderCfg.setFailIfNotFound(settings.getBoolean(CFG_FAIL_IF_NOT_FOUND));
         jsonReaderCfg.setJSONPath(settings.getString(CFG_JSON_PATH));
         jsonReaderCfg.setUseJSONPath(settings.getBoolean(CFG_USE_PATH));
+        // added in 5.2
+        jsonReaderCfg.setArrayPointer(settings.getString(CFG_ARRAY_POINTER, CFG_DEFAULT_ARRAY_POINTER));
+        loadParallelReading(jsonReaderCfg, settings);
+        // added in 5.2
+        jsonReaderCfg.setProjections(loadProjections(settings));
         config.setAppendItemIdentifierColumn(settings.getBoolean(CFG_APPEND_PATH_COLUMN));
         config.setItemIdentifierColumnName(settings.getString(CFG_PATH_COLUMN_NAME));
     }
 
+    /**
+     * The parallel reading options were added in 5.2, they don't influence the read values so they are not part of the
+     * {@link ConfigID}.
+     */
+    private static void loadParallelReading(final JSONReaderConfig jsonReaderCfg, final NodeSettingsRO settings) {
+        jsonReaderCfg.setParallelFileCount(
+            settings.getInt(CFG_PARALLEL_FILE_COUNT, JSONReaderConfig.DEFAULT_PARALLEL_FILE_COUNT));
+        jsonReaderCfg.setMaxPrefetchedBytes(
+            settings.getLong(CFG_MAX_PREFETCHED_BYTES, JSONReaderConfig.DEFAULT_MAX_PREFETCHED_BYTES));
+        jsonReaderCfg.setParsingThreadCount(
+            settings.getInt(CFG_PARSING_THREAD_COUNT, JSONReaderConfig.DEFAULT_PARSING_THREAD_COUNT));
+    }
+
+    /**
+     * The projections were added in 5.2, without them the JSON values are read as a single column.
+     */
+    private static List<JSONProjection> loadProjections(final NodeSettingsRO settings)
+        throws InvalidSettingsException {
+        if (!settings.containsKey(CFG_PROJECTIONS)) {
+            return Collections.emptyList();
+        }
+        final NodeSettingsRO projectionSettings = settings.getNodeSettings(CFG_PROJECTIONS);
+        final String[] columnNames = projectionSettings.getStringArray(CFG_PROJECTION_COLUMN_NAMES);
+        final String[] paths = projectionSettings.getStringArray(CFG_PROJECTION_PATHS);
+        final String[] types = projectionSettings.getStringArray(CFG_PROJECTION_TYPES);
+        final boolean[] lists = projectionSettings.getBooleanArray(CFG_PROJECTION_LISTS);
+        if (paths.length != columnNames.length || types.length != columnNames.length
+            || lists.length != columnNames.length) {
+            throw new InvalidSettingsException("The settings of the projected columns are inconsistent.");
+        }
+        final List<JSONProjection> projections = new ArrayList<>(columnNames.length);
+        final Set<String> uniqueNames = new HashSet<>();
+        for (int i = 0; i < columnNames.length; i++) {
+            final JSONProjectionType type;
+            try {
+                type = JSONProjectionType.valueOf(types[i]);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new InvalidSettingsException("Unknown type of the column " + columnNames[i] + ": " + types[i],
+                    e);
+            }
+            if (!uniqueNames.add(columnNames[i])) {
+                throw new InvalidSettingsException("The column name " + columnNames[i] + " is used more than once.");
+            }
+            projections.add(JSONProjection.create(columnNames[i], paths[i], type, lists[i]));
+        }
+        return projections;
+    }
+
+    private static void saveProjections(final JSONReaderConfig jsonReaderCfg, final NodeSettingsWO settings) {
+        final List<JSONProjection> projections = jsonReaderCfg.getProjections();
+        final NodeSettingsWO projectionSettings = settings.addNodeSettings(CFG_PROJECTIONS);
+        projectionSettings.addStringArray(CFG_PROJECTION_COLUMN_NAMES,
+            projections.stream().map(JSONProjection::getColumnName).toArray(String[]::new));
+        projectionSettings.addStringArray(CFG_PROJECTION_PATHS,
+            projections.stream().map(JSONProjection::getPath).toArray(String[]::new));
+        projectionSettings.addStringArray(CFG_PROJECTION_TYPES,
+            projections.stream().map(p -> p.getType().name()).toArray(String[]::new));
+        final boolean[] lists = new boolean[projections.size()];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = projections.get(i).isList();
+        }
+        projectionSettings.addBooleanArray(CFG_PROJECTION_LISTS, lists);
+    }
+
     @Override
     public void saveInModel(final JSONMultiTableReadConfig config, final NodeSettingsWO settings) {
         saveSettingsTab(config, SettingsUtils.getOrAdd(settings, SettingsUtils.CFG_SETTINGS_TAB));
@@ -238,6 +344,11 @@ private static void saveSettingsTab(final JSONMultiTableReadConfig config, final
         settings.addString(CFG_JSON_PATH, jsonReaderCfg.getJSONPath());
         settings.addBoolean(CFG_FAIL_IF_NOT_FOUND, jsonReaderCfg.failIfNotFound());
         settings.addBoolean(CFG_ALLOW_COMMENTS, jsonReaderCfg.allowComments());
+        settings.addString(CFG_ARRAY_POINTER, jsonReaderCfg.getArrayPointer());
+        settings.addInt(CFG_PARALLEL_FILE_COUNT, jsonReaderCfg.getParallelFileCount());
+        settings.addLong(CFG_MAX_PREFETCHED_BYTES, jsonReaderCfg.getMaxPrefetchedBytes());
+        settings.addInt(CFG_PARSING_THREAD_COUNT, jsonReaderCfg.getParsingThreadCount());
+        saveProjections(jsonReaderCfg, settings);
         settings.addBoolean(CFG_APPEND_PATH_COLUMN, config.appendItemIdentifierColumn());
         settings.addString(CFG_PATH_COLUMN_NAME, config.getItemIdentifierColumnName());
     }
@@ -262,6 +373,31 @@ private static void validateSettingsTab(final NodeSettingsRO settings) throws In
         settings.getBoolean(CFG_FAIL_IF_NOT_FOUND);
         settings.getBoolean(CFG_USE_PATH);
         settings.getString(CFG_JSON_PATH);
+        final String arrayPointer = settings.getString(CFG_ARRAY_POINTER, CFG_DEFAULT_ARRAY_POINTER);
+        try {
+            JsonPointer.compile(arrayPointer);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Invalid JSON Pointer to the array: " + e.getMessage(), e);
+        }
+        final int parallelFileCount =
+            settings.getInt(CFG_PARALLEL_FILE_COUNT, JSONReaderConfig.DEFAULT_PARALLEL_FILE_COUNT);
+        if (parallelFileCount < 1) {
+            throw new InvalidSettingsException(
+                "The number of files read in parallel must be at least 1: " + parallelFileCount);
+        }
+        final long maxPrefetchedBytes =
+            settings.getLong(CFG_MAX_PREFETCHED_BYTES, JSONReaderConfig.DEFAULT_MAX_PREFETCHED_BYTES);
+        if (maxPrefetchedBytes < 0) {
+            throw new InvalidSettingsException(
+                "The memory of the rows read ahead must not be negative: " + maxPrefetchedBytes);
+        }
+        final int parsingThreadCount =
+            settings.getInt(CFG_PARSING_THREAD_COUNT, JSONReaderConfig.DEFAULT_PARSING_THREAD_COUNT);
+        if (parsingThreadCount < 1) {
+            throw new InvalidSettingsException(
+                "The number of parsing threads must be at least 1: " + parsingThreadCount);
+        }
+        loadProjections(settings);
         settings.getBoolean(CFG_APPEND_PATH_COLUMN);
         settings.getString(CFG_PATH_COLUMN_NAME);
     }
@@ -48,25 +48,40 @@
  */
 package org.knime.json.node.filehandling.reader;
 
+import java.awt.BorderLayout;
 import java.awt.CardLayout;
 import java.awt.FlowLayout;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.event.ActionListener;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import javax.swing.BorderFactory;
+import javax.swing.ButtonGroup;
+import javax.swing.DefaultCellEditor;
+import javax.swing.JButton;
 import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
 import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import javax.swing.JRadioButton;
+import javax.swing.JScrollPane;
 import javax.swing.JSpinner;
+import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.SpinnerNumberModel;
 import javax.swing.event.ChangeListener;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
+import javax.swing.table.DefaultTableModel;
 
 import org.knime.core.data.DataType;
 import org.knime.core.node.FlowVariableModel;
@@ -110,6 +125,8 @@ final class JSONReaderNodeDialog extends AbstractPathTableReaderNodeDialog<JSONR
 
     private final JTextField m_columnName = new JTextField("##########", 10);
 
+    private final Map<JSONReadMode, JRadioButton> m_readModeButtons = new EnumMap<>(JSONReadMode.class);
+
     private final JCheckBox m_allowComments;
 
     private final JCheckBox m_selectPart;
@@ -118,6 +135,8 @@ final class JSONReaderNodeDialog extends AbstractPathTableReaderNodeDialog<JSONR
 
     private final JCheckBox m_failIfNotFound;
 
+    private final JTextField m_arrayPointer = new JTextField("##########", 10);
+
     private final JCheckBox m_limitRowsChecker;
 
     private final JSpinner m_limitRowsSpinner;
@@ -126,6 +145,24 @@ final class JSONReaderNodeDialog extends AbstractPathTableReaderNodeDialog<JSONR
 
     private final JSpinner m_skipFirstRowsSpinner;
 
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+
+    private final JSpinner m_parallelFileCount = new JSpinner(new SpinnerNumberModel(
+        Integer.valueOf(JSONReaderConfig.DEFAULT_PARALLEL_FILE_COUNT), Integer.valueOf(1), Integer.valueOf(1024),
+        Integer.valueOf(1)));
+
+    private final JSpinner m_maxPrefetchedMB = new JSpinner(new SpinnerNumberModel(
+        Long.valueOf(JSONReaderConfig.DEFAULT_MAX_PREFETCHED_BYTES / BYTES_PER_MB), Long.valueOf(0),
+        Long.valueOf(Long.MAX_VALUE / BYTES_PER_MB), Long.valueOf(16)));
+
+    private final JSpinner m_parsingThreadCount = new JSpinner(new SpinnerNumberModel(
+        Integer.valueOf(JSONReaderConfig.DEFAULT_PARSING_THREAD_COUNT), Integer.valueOf(1), Integer.valueOf(1024),
+        Integer.valueOf(1)));
+
+    private final ProjectionTableModel m_projections = new ProjectionTableModel();
+
+    private final JTable m_projectionTable = new JTable(m_projections);
+
     private final SourceIdentifierColumnPanel m_pathColumnPanel = new SourceIdentifierColumnPanel("Path");
 
     protected JSONReaderNodeDialog(final SettingsModelReaderFileChooser fileChooser,
@@ -158,6 +195,14 @@ protected JSONReaderNodeDialog(final SettingsModelReaderFileChooser fileChooser,
             .setToolTipText("When unchecked and path does not match any input, empty table will be generated.");
         m_allowComments = new JCheckBox("Allow comments in JSON files");
         m_allowComments.setToolTipText("/*...*/, // or #");
+        final ButtonGroup readModeGroup = new ButtonGroup();
+        for (final JSONReadMode mode : JSONReadMode.values()) {
+            final JRadioButton button = new JRadioButton(mode.getText(), mode.isDefault());
+            button.setActionCommand(mode.getActionCommand());
+            button.addActionListener(l -> handleUsePath());
+            readModeGroup.add(button);
+            m_readModeButtons.put(mode, button);
+        }
 
         m_legacyModePanel = makeLegacyModePanel();
         m_jsonModeCardLayout = makeReadModeCardLayout();
@@ -202,8 +247,10 @@ public void changedUpdate(final DocumentEvent e) {
         m_sourceFilePanel.getModel().addChangeListener(changeListener);
         m_columnName.getDocument().addDocumentListener(documentListener);
         m_allowComments.addActionListener(actionListener);
+        m_readModeButtons.values().forEach(b -> b.addActionListener(actionListener));
         m_selectPart.addActionListener(actionListener);
         m_jsonPath.getDocument().addDocumentListener(documentListener);
+        m_arrayPointer.getDocument().addDocumentListener(documentListener);
         m_failIfNotFound.addActionListener(actionListener);
 
         m_limitRowsChecker.addActionListener(actionListener);
@@ -212,6 +259,7 @@ public void changedUpdate(final DocumentEvent e) {
         m_skipFirstRowsSpinner.getModel().addChangeListener(changeListener);
         m_limitRowsSpinner.getModel().addChangeListener(changeListener);
         m_pathColumnPanel.addChangeListener(changeListener);
+        m_projections.addTableModelListener(l -> configChanged());
     }
 
     /**
@@ -225,15 +273,24 @@ private static void controlSpinner(final JCheckBox checker, final JSpinner spinn
     }
 
     private void handleUsePath() {
-        m_failIfNotFound.setEnabled(m_selectPart.isSelected());
-        m_jsonPath.setEnabled(m_selectPart.isSelected());
+        // JSON Lines and split arrays are read value by value, a JSONPath can't be applied
+        final JSONReadMode mode = getJsonReadMode();
+        final boolean legacy = mode == JSONReadMode.LEGACY;
+        final boolean streaming = mode == JSONReadMode.STREAMING;
+        m_selectPart.setEnabled(legacy);
+        final boolean usePath = legacy && m_selectPart.isSelected();
+        m_failIfNotFound.setEnabled(usePath || streaming);
+        m_jsonPath.setEnabled(usePath);
+        m_arrayPointer.setEnabled(streaming);
+        m_parsingThreadCount.setEnabled(mode == JSONReadMode.NDJSON);
         // Jsurfer doesn't support JSON comments
-        m_allowComments.setEnabled(!m_selectPart.isSelected());
+        m_allowComments.setEnabled(!usePath);
     }
 
     private void createDialogPanels() {
         addTab("Settings", createSettingsPanel());
         addTab("Limit Rows", getLimitRowsPanel());
+        addTab("Column Projection", createProjectionPanel());
     }
 
     private JPanel createSettingsPanel() {
@@ -241,12 +298,30 @@ private JPanel createSettingsPanel() {
         GBCBuilder gbc = createGBCBuilder().fillHorizontal().setWeightX(1).anchorPageStart();
         panel.add(createSourcePanel(), gbc.build());
         panel.add(m_jsonModeCardLayout, gbc.incY().build());
+        panel.add(createParallelReadingPanel(), gbc.incY().build());
         panel.add(m_pathColumnPanel, gbc.incY().build());
         gbc.setWeightY(1).resetX().widthRemainder().incY().fillBoth();
         panel.add(createPreview(), gbc.build());
         return panel;
     }
 
+    private JPanel createParallelReadingPanel() {
+        final JPanel panel = new JPanel(new GridBagLayout());
+        panel.setBorder(BorderFactory.createTitledBorder(BorderFactory.createEtchedBorder(), "Parallel reading:"));
+        final GBCBuilder gbc = createGBCBuilder().fillNone();
+        panel.add(new JLabel("Files read in parallel"), gbc.build());
+        panel.add(getInFlowLayout(m_parallelFileCount), gbc.incX().build());
+        panel.add(new JLabel("Max. memory of the rows read ahead (MB)"), gbc.resetX().incY().build());
+        panel.add(getInFlowLayout(m_maxPrefetchedMB), gbc.incX().build());
+        panel.add(new JLabel("Parsing threads per file (JSON Lines)"), gbc.resetX().incY().build());
+        panel.add(getInFlowLayout(m_parsingThreadCount), gbc.incX().build());
+        panel.add(new JPanel(), gbc.incX().setWeightX(1).build());
+        m_parallelFileCount.addChangeListener(l -> m_maxPrefetchedMB
+            .setEnabled(((Number)m_parallelFileCount.getValue()).intValue() > 1));
+        m_maxPrefetchedMB.setEnabled(false);
+        return panel;
+    }
+
     private JPanel makeReadModeCardLayout() {
         final JPanel panel = new JPanel(new CardLayout());
         panel.setBorder(BorderFactory.createTitledBorder(BorderFactory.createEtchedBorder(), "Reader options:"));
@@ -266,6 +341,11 @@ private JPanel makeLegacyModePanel() {
         gbc.weightx = 0;
         gbc.weighty = 0;
 
+        optionsPanel.add(new JLabel("Read mode"), gbc);
+        gbc.gridx = 1;
+        optionsPanel.add(getInFlowLayout(m_readModeButtons.values().toArray(new JComponent[0])), gbc);
+        gbc.gridy++;
+        gbc.gridx = 0;
         optionsPanel.add(new JLabel("Output column name"), gbc);
         gbc.gridx = 1;
         optionsPanel.add(getInFlowLayout(m_columnName), gbc);
@@ -278,6 +358,13 @@ private JPanel makeLegacyModePanel() {
 
         optionsPanel.add(getInFlowLayout(m_jsonPath), gbc);
 
+        gbc.gridy++;
+        gbc.gridx = 0;
+        optionsPanel.add(new JLabel("Array to split (JSON Pointer)"), gbc);
+        gbc.gridx = 1;
+        m_arrayPointer.setToolTipText("For example /data/items, leave empty to split the root array");
+        optionsPanel.add(getInFlowLayout(m_arrayPointer), gbc);
+
         gbc.gridy++;
         optionsPanel.add(m_warningLabel, gbc);
         gbc.gridy++;
@@ -298,6 +385,48 @@ private JPanel makeLegacyModePanel() {
         return optionsPanel;
     }
 
+    /**
+     * Creates the {@link JPanel} with the table of the projected columns.
+     *
+     * @return the projection {@link JPanel}
+     */
+    private JPanel createProjectionPanel() {
+        m_projectionTable.getColumnModel().getColumn(ProjectionTableModel.TYPE)
+            .setCellEditor(new DefaultCellEditor(new JComboBox<>(JSONProjectionType.values())));
+        m_projectionTable.setFillsViewportHeight(true);
+        final JButton add = new JButton("Add");
+        add.addActionListener(l -> m_projections.addRow(new Object[]{"column" + (m_projections.getRowCount() + 1),
+            "$", JSONProjectionType.STRING, Boolean.FALSE}));
+        final JButton remove = new JButton("Remove");
+        remove.addActionListener(l -> removeSelectedProjections());
+
+        final JPanel tablePanel = new JPanel(new BorderLayout());
+        tablePanel.setBorder(BorderFactory.createTitledBorder(BorderFactory.createEtchedBorder(),
+            "Columns read from each JSON value (empty to read a single JSON column):"));
+        tablePanel.add(new JScrollPane(m_projectionTable), BorderLayout.CENTER);
+        tablePanel.add(getInFlowLayout(add, remove), BorderLayout.SOUTH);
+
+        final JPanel panel = new JPanel(new GridBagLayout());
+        final GBCBuilder gbc = createGBCBuilder().fillBoth().setWeightX(1).setWeightY(1);
+        panel.add(tablePanel, gbc.build());
+        panel.add(createPreview(), gbc.incY().build());
+        return panel;
+    }
+
+    private void removeSelectedProjections() {
+        stopProjectionEditing();
+        final int[] rows = m_projectionTable.getSelectedRows();
+        for (int i = rows.length - 1; i >= 0; i--) {
+            m_projections.removeRow(rows[i]);
+        }
+    }
+
+    private void stopProjectionEditing() {
+        if (m_projectionTable.isEditing()) {
+            m_projectionTable.getCellEditor().stopCellEditing();
+        }
+    }
+
     /**
      * Creates the source file {@link JPanel}.
      *
@@ -369,6 +498,17 @@ protected JSONMultiTableReadConfig loadSettings(final NodeSettingsRO settings, f
         m_selectPart.setSelected(jsonReaderConfig.useJSONPath());
         m_jsonPath.setText(jsonReaderConfig.getJSONPath());
         m_failIfNotFound.setSelected(jsonReaderConfig.failIfNotFound());
+        m_arrayPointer.setText(jsonReaderConfig.getArrayPointer());
+        m_parallelFileCount.setValue(Integer.valueOf(jsonReaderConfig.getParallelFileCount()));
+        m_maxPrefetchedMB.setValue(Long.valueOf(jsonReaderConfig.getMaxPrefetchedBytes() / BYTES_PER_MB));
+        m_parsingThreadCount.setValue(Integer.valueOf(jsonReaderConfig.getParsingThreadCount()));
+        m_readModeButtons.get(jsonReaderConfig.getJsonReadMode()).setSelected(true);
+        handleUsePath();
+        m_projections.setRowCount(0);
+        for (final JSONProjection projection : jsonReaderConfig.getProjections()) {
+            m_projections.addRow(new Object[]{projection.getColumnName(), projection.getPath(), projection.getType(),
+                Boolean.valueOf(projection.isList())});
+        }
 
         m_skipFirstRowsChecker.setSelected(tableReadConfig.skipRows());
         m_skipFirstRowsSpinner.setValue(tableReadConfig.getNumRowsToSkip());
@@ -389,17 +529,42 @@ protected JSONMultiTableReadConfig loadSettings(final NodeSettingsRO settings, f
      *
      * @param config the {@link LineReaderConfig2}
      */
-    private void saveJsonReaderSettings(final JSONReaderConfig config) {
+    private void saveJsonReaderSettings(final JSONReaderConfig config) throws InvalidSettingsException {
         config.setJsonReadMode(getJsonReadMode());
         config.setAllowComments(m_allowComments.isSelected());
         config.setColumnName(m_columnName.getText());
         config.setJSONPath(m_jsonPath.getText());
         config.setUseJSONPath(m_selectPart.isSelected());
         config.setFailIfNotFound(m_failIfNotFound.isSelected());
+        config.setArrayPointer(m_arrayPointer.getText());
+        config.setParallelFileCount(((Number)m_parallelFileCount.getValue()).intValue());
+        config.setMaxPrefetchedBytes(((Number)m_maxPrefetchedMB.getValue()).longValue() * BYTES_PER_MB);
+        config.setParsingThreadCount(((Number)m_parsingThreadCount.getValue()).intValue());
+        config.setProjections(getProjections());
     }
 
-    private static JSONReadMode getJsonReadMode() {
-        return JSONReadMode.LEGACY;
+    private List<JSONProjection> getProjections() throws InvalidSettingsException {
+        final List<JSONProjection> projections = new ArrayList<>(m_projections.getRowCount());
+        final Set<String> uniqueNames = new HashSet<>();
+        for (int i = 0; i < m_projections.getRowCount(); i++) {
+            final String columnName = (String)m_projections.getValueAt(i, ProjectionTableModel.COLUMN_NAME);
+            if (!uniqueNames.add(columnName)) {
+                throw new InvalidSettingsException("The column name " + columnName + " is used more than once.");
+            }
+            projections.add(JSONProjection.create(columnName,
+                (String)m_projections.getValueAt(i, ProjectionTableModel.PATH),
+                (JSONProjectionType)m_projections.getValueAt(i, ProjectionTableModel.TYPE),
+                Boolean.TRUE.equals(m_projections.getValueAt(i, ProjectionTableModel.LIST))));
+        }
+        return projections;
+    }
+
+    private JSONReadMode getJsonReadMode() {
+        return m_readModeButtons.entrySet().stream()//
+            .filter(e -> e.getValue().isSelected())//
+            .map(Map.Entry::getKey)//
+            .findFirst()//
+            .orElse(JSONReadMode.LEGACY);
     }
 
     @Override
@@ -431,6 +596,7 @@ private void saveTableReadSettings(final DefaultTableReadConfig<JSONReaderConfig
     @Override
     protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSettingsException {
         m_sourceFilePanel.saveSettingsTo(SettingsUtils.getOrAdd(settings, SettingsUtils.CFG_SETTINGS_TAB));
+        stopProjectionEditing();
         getConfig().saveInDialog(settings);
     }
 
@@ -440,4 +606,33 @@ public void onClose() {
         super.onClose();
     }
 
+    /** The table of the projected columns, one row for each column. */
+    private static final class ProjectionTableModel extends DefaultTableModel {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final int COLUMN_NAME = 0;
+
+        private static final int PATH = 1;
+
+        private static final int TYPE = 2;
+
+        private static final int LIST = 3;
+
+        ProjectionTableModel() {
+            super(new Object[]{"Column", "JSONPath", "Type", "List"}, 0);
+        }
+
+        @Override
+        public Class<?> getColumnClass(final int columnIndex) {
+            switch (columnIndex) {
+                case TYPE:
+                    return JSONProjectionType.class;
+                case LIST:
+                    return Boolean.class;
+                default:
+                    return String.class;
+            }
+        }
+    }
 }
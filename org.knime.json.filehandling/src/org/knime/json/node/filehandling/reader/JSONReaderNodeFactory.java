@@ -52,6 +52,7 @@
 
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValue;
+import org.knime.core.data.collection.ListCell;
 import org.knime.core.data.json.JSONCell;
 import org.knime.core.node.context.NodeCreationConfiguration;
 import org.knime.core.node.context.url.URLConfiguration;
@@ -79,18 +80,39 @@
  */
 public final class JSONReaderNodeFactory extends AbstractTableReaderNodeFactory<JSONReaderConfig, DataType, DataValue> {
 
-    private static final TypeHierarchy<DataType, DataType> TYPE_HIERARCHY =
-        TreeTypeHierarchy.builder(createTypeTester(JSONCell.TYPE)).build();
+    private static final TypeHierarchy<DataType, DataType> TYPE_HIERARCHY = createTypeHierarchy();
+
+    /**
+     * JSON is the root type, the types of the projected columns are its children. All files are read with the same
+     * projections, so their (identical) types are only ever resolved among themselves.
+     */
+    private static TypeHierarchy<DataType, DataType> createTypeHierarchy() {
+        final var builder = TreeTypeHierarchy.builder(createTypeTester(JSONCell.TYPE));
+        for (final JSONProjectionType type : JSONProjectionType.values()) {
+            final DataType listType = ListCell.getCollectionType(type.getDataType());
+            if (type != JSONProjectionType.JSON) {
+                builder.addType(JSONCell.TYPE, createExactTypeTester(type.getDataType()));
+            }
+            builder.addType(JSONCell.TYPE, createExactTypeTester(listType));
+        }
+        return builder.build();
+    }
 
     private static TypeTester<DataType, DataType> createTypeTester(final DataType type) {
         return TypeTester.createTypeTester(type, s -> true);
     }
 
+    private static TypeTester<DataType, DataType> createExactTypeTester(final DataType type) {
+        return TypeTester.createTypeTester(type, type::equals);
+    }
+
     @Override
     protected MultiTableReadFactory<FSPath, JSONReaderConfig, DataType>
         createMultiTableReadFactory(final GenericTableReader<FSPath, JSONReaderConfig, DataType, DataValue> reader) {
         final MultiTableReadFactory<FSPath, JSONReaderConfig, DataType> multiTableReadFactory = super.createMultiTableReadFactory(reader);
-        return new JSONMultiTableReadFactory(multiTableReadFactory);
+        // the files can only be read ahead if the framework reads them with our reader
+        return new JSONMultiTableReadFactory(multiTableReadFactory,
+            reader instanceof JSONReader ? (JSONReader)reader : null);
     }
 
     @Override
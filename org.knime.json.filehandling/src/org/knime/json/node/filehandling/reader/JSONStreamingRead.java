@@ -0,0 +1,182 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.reader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.knime.core.data.DataValue;
+import org.knime.core.node.NodeLogger;
+import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
+import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
+import org.knime.filehandling.core.node.table.reader.read.Read;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+
+/**
+ * Class for the JSON reader which implements {@link Read} which splits an array into rows, one row for each element.
+ * The array is either the root value of the file or the value the configured JSON Pointer refers to. The elements are
+ * created directly from the token stream, so only a single element has to be kept in memory at a time. If the value
+ * is not an array, it is read into a single row.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JSONStreamingRead extends JSONRead {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(JSONStreamingRead.class);
+
+    private final JsonParser m_parser;
+
+    private final String m_arrayPointer;
+
+    private long m_numRowsToSkip;
+
+    private boolean m_started;
+
+    private boolean m_done;
+
+    /**
+     * Constructor.
+     *
+     * @param path the {@link Path} to the file
+     * @param config the {@link TableReadConfig} of the node
+     * @throws IOException
+     */
+    @SuppressWarnings("resource") // the delegate closes the parser
+    JSONStreamingRead(final Path path, final TableReadConfig<JSONReaderConfig> config) throws IOException {
+        super(path, config);
+        m_arrayPointer = m_jsonReaderConfig.getArrayPointer();
+        final JsonParser parser = createParser();
+        if (m_arrayPointer.isEmpty()) {
+            m_parser = parser;
+        } else {
+            final JsonPointer pointer;
+            try {
+                pointer = JsonPointer.compile(m_arrayPointer);
+            } catch (IllegalArgumentException e) {
+                parser.close();
+                throw new IOException("Invalid JSON Pointer to the array: " + e.getMessage(), e);
+            }
+            m_parser = new FilteringParserDelegate(parser, new JsonPointerBasedFilter(pointer),
+                TokenFilter.Inclusion.ONLY_INCLUDE_ALL, false);
+        }
+        m_linesRead = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * The skipped elements are only checked for syntax errors, no cells are created for them.
+     */
+    @Override
+    Read<DataValue> skip(final long numRowsToSkip) {
+        m_numRowsToSkip = numRowsToSkip;
+        return this;
+    }
+
+    @Override
+    public RandomAccessible<DataValue> next() throws IOException {
+        try {
+            while (!m_done) {
+                final JsonToken token = m_parser.nextToken();
+                if (!m_started) {
+                    m_started = true;
+                    if (token == null) {
+                        handleNotFound();
+                        return null;
+                    }
+                    if (token == JsonToken.START_ARRAY) {
+                        continue;
+                    }
+                    // not an array, the whole value is a single row
+                    m_done = true;
+                } else if (token == null || token == JsonToken.END_ARRAY) {
+                    // the content after the array is not read
+                    m_done = true;
+                    return null;
+                }
+                if (m_numRowsToSkip > 0) {
+                    m_numRowsToSkip--;
+                    m_parser.skipChildren();
+                } else {
+                    m_linesRead++;
+                    return createRow(m_parser);
+                }
+            }
+            return null;
+        } catch (JsonProcessingException e) {
+            throw new IOException("Invalid JSON at line " + m_parser.getTokenLocation().getLineNr() + ": "
+                + e.getOriginalMessage(), e);
+        }
+    }
+
+    private void handleNotFound() throws IOException {
+        m_done = true;
+        if (m_jsonReaderConfig.failIfNotFound()) {
+            throw new IOException(m_arrayPointer.isEmpty() ? "The file contains no JSON value."
+                : ("No value found for the JSON Pointer: " + m_arrayPointer));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            m_parser.close();
+        } catch (IOException e) {
+            LOGGER.error("Something went wrong while closing the JSON parser. "
+                + "For further details please have a look into the log.", e);
+        }
+    }
+}
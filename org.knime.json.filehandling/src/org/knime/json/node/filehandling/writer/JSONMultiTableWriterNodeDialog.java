@@ -48,6 +48,22 @@
  */
 package org.knime.json.node.filehandling.writer;
 
+import java.awt.GridBagConstraints;
+import java.awt.GridBagLayout;
+
+import javax.swing.BorderFactory;
+import javax.swing.JPanel;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.NotConfigurableException;
+import org.knime.core.node.defaultnodesettings.DialogComponent;
+import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
+import org.knime.core.node.defaultnodesettings.DialogComponentButtonGroup;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
+import org.knime.core.node.defaultnodesettings.DialogComponentString;
+import org.knime.core.node.port.PortObjectSpec;
 import org.knime.filehandling.core.node.table.writer.AbstractMultiTableWriterNodeDialog;
 
 /**
@@ -56,6 +72,8 @@
  */
 final class JSONMultiTableWriterNodeDialog extends AbstractMultiTableWriterNodeDialog<JSONMultiTableWriterNodeConfig> {
 
+    private final DialogComponent[] m_singleFileComponents;
+
     /**
      * @param nodeConfig
      * @param inputTableIdx
@@ -63,5 +81,74 @@ final class JSONMultiTableWriterNodeDialog extends AbstractMultiTableWriterNodeD
     JSONMultiTableWriterNodeDialog(final JSONMultiTableWriterNodeConfig nodeConfig, final int inputTableIdx) {
         super(nodeConfig, inputTableIdx);
         createSettingsTab();
+        final var singleFileSettings = new JSONSingleFileWriterSettings();
+        m_singleFileComponents = new DialogComponent[]{
+            new DialogComponentButtonGroup(singleFileSettings.getOutputModeModel(), null, true,
+                JSONWriterOutputMode.values()),
+            new DialogComponentString(singleFileSettings.getFileNameModel(), "File name (without extension)", true,
+                20),
+            new DialogComponentBoolean(singleFileSettings.getCompressModel(), "Compress file (gzip)"),
+            new DialogComponentNumber(singleFileSettings.getMaxDocumentsPerFileModel(),
+                "Start new file after documents (0 = never)", 10000, 10),
+            new DialogComponentNumber(singleFileSettings.getMaxMegabytesPerFileModel(),
+                "Start new file after uncompressed MB (0 = never)", 100, 10),
+            new DialogComponentNumber(singleFileSettings.getConcurrentWritesModel(), "Concurrent writes", 1, 5)};
+        addTab("Output Mode", createOutputModePanel());
+    }
+
+    private JPanel createOutputModePanel() {
+        final var panel = new JPanel(new GridBagLayout());
+        final var gbc = new GridBagConstraints();
+        gbc.gridx = 0;
+        gbc.gridy = 0;
+        gbc.anchor = GridBagConstraints.FIRST_LINE_START;
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        gbc.weightx = 1;
+        final var modePanel = m_singleFileComponents[0].getComponentPanel();
+        modePanel.setBorder(BorderFactory.createTitledBorder("Output mode"));
+        panel.add(modePanel, gbc);
+        final var singleFilePanel = new JPanel(new GridBagLayout());
+        singleFilePanel.setBorder(BorderFactory.createTitledBorder("Single file"));
+        final var innerGbc = new GridBagConstraints();
+        innerGbc.gridx = 0;
+        innerGbc.gridy = 0;
+        innerGbc.anchor = GridBagConstraints.LINE_START;
+        for (var i = 1; i < m_singleFileComponents.length - 1; i++) {
+            singleFilePanel.add(m_singleFileComponents[i].getComponentPanel(), innerGbc);
+            innerGbc.gridy++;
+        }
+        gbc.gridy++;
+        panel.add(singleFilePanel, gbc);
+        final var filePerDocumentPanel = m_singleFileComponents[m_singleFileComponents.length - 1].getComponentPanel();
+        filePerDocumentPanel.setBorder(BorderFactory.createTitledBorder("One file per document"));
+        gbc.gridy++;
+        panel.add(filePerDocumentPanel, gbc);
+        gbc.gridy++;
+        gbc.weighty = 1;
+        panel.add(new JPanel(), gbc);
+        return panel;
+    }
+
+    @Override
+    protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSettingsException {
+        super.saveSettingsTo(settings);
+        final NodeSettingsWO singleFile = JSONSingleFileWriterSettings.addSubSettingsForDialog(settings);
+        for (final DialogComponent component : m_singleFileComponents) {
+            component.saveSettingsTo(singleFile);
+        }
+    }
+
+    @Override
+    protected void loadSettingsFrom(final NodeSettingsRO settings, final PortObjectSpec[] specs)
+        throws NotConfigurableException {
+        super.loadSettingsFrom(settings, specs);
+        try {
+            final NodeSettingsRO singleFile = JSONSingleFileWriterSettings.getSubSettingsForDialog(settings);
+            for (final DialogComponent component : m_singleFileComponents) {
+                component.loadSettingsFrom(singleFile, specs);
+            }
+        } catch (InvalidSettingsException e) {
+            throw new NotConfigurableException("Could not load the output mode settings: " + e.getMessage());
+        }
     }
 }
@@ -48,18 +48,68 @@
  */
 package org.knime.json.node.filehandling.writer;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.EnumSet;
+
+import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.json.JSONValue;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.context.ports.PortsConfiguration;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.filehandling.core.connections.FSPath;
 import org.knime.filehandling.core.defaultnodesettings.filechooser.writer.FileOverwritePolicy;
+import org.knime.filehandling.core.defaultnodesettings.filechooser.writer.SettingsModelWriterFileChooser;
+import org.knime.filehandling.core.defaultnodesettings.filechooser.writer.WritePathAccessor;
+import org.knime.filehandling.core.defaultnodesettings.status.NodeModelStatusConsumer;
+import org.knime.filehandling.core.defaultnodesettings.status.StatusMessage.MessageType;
 import org.knime.filehandling.core.node.table.writer.AbstractMultiTableWriterNodeModel;
 
 /**
+ * Writes the JSON documents of a column either into one file per document (handled by the multi-file writer
+ * framework) or, in a {@link JSONWriterOutputMode#isSingleFile() single file mode}, streams all of them into one file
+ * (with optional rollover) using a {@link JSONSingleFileWriter}. In the latter case the output table lists the written
+ * files instead of extending the input table.
  *
  * @author Moditha Hewasinghage, KNIME GmbH, Berlin, Germany
  */
 final class JSONMultiTableWriterNodeModel
     extends AbstractMultiTableWriterNodeModel<JSONMultiTableWriterNodeConfig, JSONMultiFileWriterCellFactory> {
 
+    private final JSONMultiTableWriterNodeConfig m_nodeConfig;
+
+    private final int m_inputTableIdx;
+
+    private final JSONSingleFileWriterSettings m_singleFileSettings = new JSONSingleFileWriterSettings();
+
+    private final NodeModelStatusConsumer m_statusConsumer =
+        new NodeModelStatusConsumer(EnumSet.of(MessageType.ERROR, MessageType.WARNING));
+
     /**
      * @param portConfig
      * @param nodeConfig
@@ -68,12 +118,160 @@
     JSONMultiTableWriterNodeModel(final PortsConfiguration portConfig,
         final JSONMultiTableWriterNodeConfig nodeConfig, final int inputTableIdx) {
         super(portConfig, nodeConfig, inputTableIdx);
+        m_nodeConfig = nodeConfig;
+        m_inputTableIdx = inputTableIdx;
     }
 
     @Override
     protected JSONMultiFileWriterCellFactory getFactory(final DataColumnSpec[] outputColumnSpecs, final int srcColIdx,
         final FileOverwritePolicy overwritePolicy) {
-        return new JSONMultiFileWriterCellFactory(outputColumnSpecs, srcColIdx, overwritePolicy);
+        return new JSONMultiFileWriterCellFactory(outputColumnSpecs, srcColIdx, overwritePolicy,
+            m_singleFileSettings.getConcurrentWrites());
     }
 
+    @Override
+    protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (!m_singleFileSettings.isSingleFile()) {
+            return super.configure(inSpecs);
+        }
+        getSourceColumnIndex((DataTableSpec)inSpecs[m_inputTableIdx]);
+        m_nodeConfig.getOutputLocation().configureInModel(inSpecs, m_statusConsumer);
+        m_statusConsumer.setWarningsIfRequired(this::setWarningMessage);
+        return new PortObjectSpec[]{createWrittenFilesSpec()};
+    }
+
+    @Override
+    protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+        if (!m_singleFileSettings.isSingleFile()) {
+            return super.execute(inObjects, exec);
+        }
+        final var table = (BufferedDataTable)inObjects[m_inputTableIdx];
+        final var output = new BufferedDataTableRowOutput(exec.createDataContainer(createWrittenFilesSpec()));
+        writeSingleFile(new DataTableRowInput(table), output, exec, table.size());
+        return new PortObject[]{output.getDataTable()};
+    }
+
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        if (!m_singleFileSettings.isSingleFile()) {
+            return super.getInputPortRoles();
+        }
+        // a single file can only be written by one (non-distributed) writer
+        final var roles = new InputPortRole[getNrInPorts()];
+        Arrays.fill(roles, InputPortRole.NONDISTRIBUTED_NONSTREAMABLE);
+        roles[m_inputTableIdx] = InputPortRole.NONDISTRIBUTED_STREAMABLE;
+        return roles;
+    }
+
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        if (!m_singleFileSettings.isSingleFile()) {
+            return super.getOutputPortRoles();
+        }
+        return new OutputPortRole[]{OutputPortRole.NONDISTRIBUTED};
+    }
+
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (!m_singleFileSettings.isSingleFile()) {
+            return super.createStreamableOperator(partitionInfo, inSpecs);
+        }
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                writeSingleFile((RowInput)inputs[m_inputTableIdx], (RowOutput)outputs[0], exec, -1);
+            }
+        };
+    }
+
+    private void writeSingleFile(final RowInput input, final RowOutput output, final ExecutionContext exec,
+        final long rowCount) throws Exception {
+        final int srcColIdx = getSourceColumnIndex(input.getDataTableSpec());
+        final SettingsModelWriterFileChooser outputLocation = m_nodeConfig.getOutputLocation();
+        long missingCount = 0;
+        try (final WritePathAccessor accessor = outputLocation.createWritePathAccessor()) {
+            final FSPath folder = accessor.getOutputPath(m_statusConsumer);
+            m_statusConsumer.setWarningsIfRequired(this::setWarningMessage);
+            createFolderIfRequired(folder, outputLocation.isCreateMissingFolders());
+            try (final var writer =
+                new JSONSingleFileWriter(folder, m_singleFileSettings, outputLocation.getFileOverwritePolicy())) {
+                long rowIdx = 0;
+                for (DataRow row = input.poll(); row != null; row = input.poll()) {
+                    exec.checkCanceled();
+                    final DataCell cell = row.getCell(srcColIdx);
+                    if (cell.isMissing()) {
+                        missingCount++;
+                    } else {
+                        writer.write((JSONValue)cell, row.getKey().getString());
+                    }
+                    rowIdx++;
+                    final long current = rowIdx;
+                    if (rowCount > 0) {
+                        exec.setProgress(current / (double)rowCount, () -> "Writing row " + current + " of " + rowCount);
+                    } else {
+                        exec.setMessage(() -> "Writing row " + current);
+                    }
+                }
+                long fileIdx = 0;
+                for (final JSONSingleFileWriter.WrittenFile file : writer.finish()) {
+                    output.push(new DefaultRow(RowKey.createRowKey(fileIdx++),
+                        new StringCell(file.getPath().toString()), new LongCell(file.getDocumentCount()),
+                        new StringCell(file.getStatus())));
+                }
+            }
+        } finally {
+            input.close();
+            output.close();
+        }
+        if (missingCount > 0) {
+            setWarningMessage(missingCount + " missing value(s) in the JSON column were skipped.");
+        }
+    }
+
+    private int getSourceColumnIndex(final DataTableSpec inSpec) throws InvalidSettingsException {
+        final String column = m_nodeConfig.getSourceColumn().getStringValue();
+        final int idx = inSpec.findColumnIndex(column);
+        CheckUtils.checkSetting(idx >= 0, "The selected JSON column '%s' is not part of the input table.", column);
+        CheckUtils.checkSetting(inSpec.getColumnSpec(idx).getType().isCompatible(JSONValue.class),
+            "The selected column '%s' is not a JSON column.", column);
+        return idx;
+    }
+
+    private static void createFolderIfRequired(final FSPath folder, final boolean createMissingFolders)
+        throws IOException {
+        if (!Files.exists(folder)) {
+            if (!createMissingFolders) {
+                throw new IOException(String.format(
+                    "The folder '%s' does not exist. Check the option to create missing folders.", folder));
+            }
+            Files.createDirectories(folder);
+        }
+    }
+
+    private static DataTableSpec createWrittenFilesSpec() {
+        return new DataTableSpec(new DataColumnSpecCreator("Path", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Documents", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Status", StringCell.TYPE).createSpec());
+    }
+
+    @Override
+    protected void saveSettingsTo(final NodeSettingsWO settings) {
+        super.saveSettingsTo(settings);
+        m_singleFileSettings.saveSettingsTo(settings);
+    }
+
+    @Override
+    protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        super.validateSettings(settings);
+        JSONSingleFileWriterSettings.validateSettings(settings);
+    }
+
+    @Override
+    protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        super.loadValidatedSettingsFrom(settings);
+        m_singleFileSettings.loadSettingsInModel(settings);
+    }
 }
@@ -59,19 +59,29 @@
 import org.knime.filehandling.core.node.table.writer.AbstractMultiTableWriterCellFactory;
 
 /**
+ * Writes each JSON document into its own file. With more than one concurrent write the files are written by parallel
+ * workers: at most a bounded number of rows is in flight (further rows are only requested once earlier ones are
+ * written), and the output rows are still reported in input order.
  *
  * @author Moditha Hewasinghage, KNIME GmbH, Berlin, Germany
  */
 final class JSONMultiFileWriterCellFactory extends AbstractMultiTableWriterCellFactory<JSONValue> {
 
+    private static final int QUEUE_SIZE_PER_WRITE = 4;
+
     /**
      * @param outputColumnsSpecs
      * @param sourceColumnIndex
      * @param overwritePolicy
+     * @param concurrentWrites the number of files written at the same time
      */
     JSONMultiFileWriterCellFactory(final DataColumnSpec[] outputColumnsSpecs, final int sourceColumnIndex,
-        final FileOverwritePolicy overwritePolicy) {
+        final FileOverwritePolicy overwritePolicy, final int concurrentWrites) {
         super(outputColumnsSpecs, sourceColumnIndex, overwritePolicy);
+        if (concurrentWrites > 1) {
+            // the queue bounds the rows waiting for a worker, so a slow file system throttles reading the input
+            setParallelProcessing(true, concurrentWrites, QUEUE_SIZE_PER_WRITE * concurrentWrites);
+        }
     }
 
     @Override
@@ -0,0 +1,378 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.writer;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.knime.core.data.json.JSONCellWriter;
+import org.knime.core.data.json.JSONCellWriterFactory;
+import org.knime.core.data.json.JSONValue;
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.core.defaultnodesettings.filechooser.writer.FileOverwritePolicy;
+import org.knime.json.util.JsonGeneratorUtil;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Streams JSON documents into a single file (as JSON Lines or as the elements of a top-level array) with one
+ * {@link JsonGenerator}, so the documents are never materialized as strings or trees, or into the entries of a single
+ * ZIP archive. When a limit on the number of documents or the size of a file is set, the next file is started once it
+ * is reached; all files are complete JSON (Lines) documents or archives on their own.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JSONSingleFileWriter implements AutoCloseable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** The write status of files that did not exist before. */
+    static final String STATUS_CREATED = "created";
+
+    /** The write status of files that were overwritten. */
+    static final String STATUS_OVERWRITTEN = "overwritten";
+
+    /** The write status of existing files that were left untouched. */
+    static final String STATUS_UNMODIFIED = "unmodified";
+
+    /**
+     * Describes a file that was completed by the writer.
+     */
+    static final class WrittenFile {
+
+        private final FSPath m_path;
+
+        private final long m_documentCount;
+
+        private final String m_status;
+
+        private WrittenFile(final FSPath path, final long documentCount, final String status) {
+            m_path = path;
+            m_documentCount = documentCount;
+            m_status = status;
+        }
+
+        /**
+         * @return the path of the file
+         */
+        FSPath getPath() {
+            return m_path;
+        }
+
+        /**
+         * @return the number of documents in the file (or that would have been written to it if it was not left
+         *         unmodified)
+         */
+        long getDocumentCount() {
+            return m_documentCount;
+        }
+
+        /**
+         * @return one of {@link JSONSingleFileWriter#STATUS_CREATED}, {@link JSONSingleFileWriter#STATUS_OVERWRITTEN}
+         *         and {@link JSONSingleFileWriter#STATUS_UNMODIFIED}
+         */
+        String getStatus() {
+            return m_status;
+        }
+    }
+
+    private final FSPath m_folder;
+
+    private final JSONWriterOutputMode m_mode;
+
+    private final String m_fileName;
+
+    private final boolean m_compress;
+
+    private final long m_maxDocumentsPerFile;
+
+    private final long m_maxBytesPerFile;
+
+    private final FileOverwritePolicy m_overwritePolicy;
+
+    private final List<WrittenFile> m_writtenFiles = new ArrayList<>();
+
+    /** The generator of the current JSON (Lines) file. */
+    private JsonGenerator m_generator;
+
+    /** The current ZIP archive. */
+    private ZipOutputStream m_zip;
+
+    /** The writer of the entries of the current ZIP archive. */
+    private JSONCellWriter m_cellWriter;
+
+    /** The names of the entries of the current ZIP archive. */
+    private final Set<String> m_entryNames = new HashSet<>();
+
+    private CountingOutputStream m_counter;
+
+    private FSPath m_currentPath;
+
+    private String m_currentStatus;
+
+    private long m_currentDocumentCount;
+
+    /**
+     * @param folder the folder the file(s) are written to, has to exist
+     * @param settings the settings of the single file mode
+     * @param overwritePolicy how existing files are handled
+     */
+    JSONSingleFileWriter(final FSPath folder, final JSONSingleFileWriterSettings settings,
+        final FileOverwritePolicy overwritePolicy) {
+        m_folder = folder;
+        m_mode = settings.getOutputMode();
+        m_fileName = settings.getFileName().trim();
+        m_compress = settings.isCompress();
+        m_maxDocumentsPerFile = settings.getMaxDocumentsPerFile();
+        m_maxBytesPerFile = settings.getMaxBytesPerFile();
+        m_overwritePolicy = overwritePolicy;
+    }
+
+    /**
+     * Appends a document, starting a new file if necessary.
+     *
+     * @param value the document to write
+     * @param documentName the name of the document, used as the name of its entry in a ZIP archive
+     * @throws IOException if the file could not be created or written
+     */
+    void write(final JSONValue value, final String documentName) throws IOException {
+        if (m_counter == null) {
+            startFile();
+        }
+        if (m_zip != null) {
+            m_zip.putNextEntry(new ZipEntry(createEntryName(documentName)));
+            m_cellWriter.write(value);
+            m_zip.closeEntry();
+        } else {
+            JsonGeneratorUtil.writeJSON(value, m_generator);
+        }
+        m_currentDocumentCount++;
+        if (isFileFull()) {
+            finishFile();
+        }
+    }
+
+    /**
+     * Names the entry like the file of the one-file-per-document mode. As the separators are replaced, different
+     * documents can get the same name (e.g. {@code a/b} and {@code a_b}), those get a numbered suffix, because an
+     * archive can't contain the same entry twice.
+     */
+    private String createEntryName(final String documentName) {
+        final String name = documentName.replace('/', '_').replace('\\', '_');
+        String entryName = name + ".json";
+        for (int i = 1; !m_entryNames.add(entryName); i++) {
+            entryName = name + " (" + i + ").json";
+        }
+        return entryName;
+    }
+
+    private boolean isFileFull() {
+        return (m_maxDocumentsPerFile > 0 && m_currentDocumentCount >= m_maxDocumentsPerFile)
+            || (m_maxBytesPerFile > 0 && getCurrentSize() >= m_maxBytesPerFile);
+    }
+
+    private long getCurrentSize() {
+        return m_counter.getCount() + (m_generator == null ? 0 : m_generator.getOutputBuffered());
+    }
+
+    private void startFile() throws IOException {
+        m_currentPath = resolveFile();
+        final boolean exists = Files.exists(m_currentPath);
+        final OutputStream out;
+        if (!exists) {
+            m_currentStatus = STATUS_CREATED;
+            out = Files.newOutputStream(m_currentPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        } else {
+            switch (m_overwritePolicy) {
+                case OVERWRITE:
+                    m_currentStatus = STATUS_OVERWRITTEN;
+                    out = Files.newOutputStream(m_currentPath, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                    break;
+                case IGNORE:
+                    // like for one file per document, the documents that would go to an existing file are skipped
+                    m_currentStatus = STATUS_UNMODIFIED;
+                    out = OutputStream.nullOutputStream();
+                    break;
+                default:
+                    throw new FileAlreadyExistsException(m_currentPath.toString(), null,
+                        "The file already exists and the node is configured to fail in this case.");
+            }
+        }
+        m_currentDocumentCount = 0;
+        if (m_mode == JSONWriterOutputMode.ZIP_ARCHIVE) {
+            m_zip = new ZipOutputStream(new BufferedOutputStream(out, BUFFER_SIZE), StandardCharsets.UTF_8);
+            m_entryNames.clear();
+            m_counter = new CountingOutputStream(m_zip);
+            m_cellWriter = JSONCellWriterFactory.getInstance().create(m_counter);
+            return;
+        }
+        m_counter = new CountingOutputStream(m_compress
+            ? new GZIPOutputStream(new BufferedOutputStream(out, BUFFER_SIZE), BUFFER_SIZE)
+            : new BufferedOutputStream(out, BUFFER_SIZE));
+        m_generator = JSON_FACTORY.createGenerator(m_counter, JsonEncoding.UTF8);
+        m_generator.enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+        if (m_mode == JSONWriterOutputMode.JSON_LINES) {
+            m_generator.setRootValueSeparator(new SerializedString("\n"));
+        } else {
+            m_generator.writeStartArray();
+        }
+    }
+
+    private FSPath resolveFile() {
+        final var extension = '.' + m_mode.getExtension() + (m_compress ? ".gz" : "");
+        if (m_maxDocumentsPerFile <= 0 && m_maxBytesPerFile <= 0) {
+            return (FSPath)m_folder.resolve(m_fileName + extension);
+        }
+        return (FSPath)m_folder.resolve(m_fileName + '_' + m_writtenFiles.size() + extension);
+    }
+
+    private void finishFile() throws IOException {
+        if (m_zip != null) {
+            // closes the archive, which writes its central directory
+            m_cellWriter.close();
+        } else {
+            if (m_mode == JSONWriterOutputMode.JSON_LINES) {
+                if (m_currentDocumentCount > 0) {
+                    m_generator.writeRaw('\n');
+                }
+            } else {
+                m_generator.writeEndArray();
+            }
+            // also closes (and with that finishes the compression of) the underlying stream
+            m_generator.close();
+        }
+        m_writtenFiles.add(new WrittenFile(m_currentPath, m_currentDocumentCount, m_currentStatus));
+        m_generator = null;
+        m_zip = null;
+        m_cellWriter = null;
+        m_counter = null;
+    }
+
+    /**
+     * Completes the current file. If no document was written at all, an empty file (or empty array) is written so
+     * the output always exists after a successful execution.
+     *
+     * @return the completed files in the order they were written
+     * @throws IOException if the file could not be written
+     */
+    List<WrittenFile> finish() throws IOException {
+        if (m_counter == null && m_writtenFiles.isEmpty()) {
+            startFile();
+        }
+        if (m_counter != null) {
+            finishFile();
+        }
+        return Collections.unmodifiableList(m_writtenFiles);
+    }
+
+    /**
+     * Closes the current file without completing it, e.g. after a failure or cancellation.
+     */
+    @Override
+    public void close() throws IOException {
+        if (m_generator != null) {
+            m_generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            m_generator.close();
+        } else if (m_counter != null) {
+            m_counter.close();
+        }
+        m_generator = null;
+        m_zip = null;
+        m_cellWriter = null;
+        m_counter = null;
+    }
+
+    /**
+     * Counts the bytes written to the (possibly compressing) stream, i.e. the size of the uncompressed JSON.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long m_count;
+
+        CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            m_count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            m_count += len;
+        }
+
+        long getCount() {
+            return m_count;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.writer;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * The settings of the JSON Writer controlling whether the documents are written into a single file (see
+ * {@link JSONWriterOutputMode}) and how that file is written, as well as how many files are written concurrently when
+ * each document is written into its own file. They are stored in a separate sub-config next to the settings of the
+ * multi-file writer framework.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JSONSingleFileWriterSettings {
+
+    private static final String CFG_SINGLE_FILE = "single_file";
+
+    private static final String CFG_OUTPUT_MODE = "output_mode";
+
+    private static final String CFG_FILE_NAME = "file_name";
+
+    private static final String CFG_COMPRESS = "compress_gzip";
+
+    private static final String CFG_MAX_DOCUMENTS_PER_FILE = "max_documents_per_file";
+
+    private static final String CFG_MAX_MEGABYTES_PER_FILE = "max_megabytes_per_file";
+
+    private static final String CFG_CONCURRENT_WRITES = "concurrent_writes";
+
+    private static final int DEFAULT_CONCURRENT_WRITES = 4;
+
+    private static final int MAX_CONCURRENT_WRITES = 256;
+
+    private static final String DEFAULT_FILE_NAME = "documents";
+
+    private final SettingsModelString m_outputMode =
+        new SettingsModelString(CFG_OUTPUT_MODE, JSONWriterOutputMode.FILE_PER_DOCUMENT.name());
+
+    private final SettingsModelString m_fileName = new SettingsModelString(CFG_FILE_NAME, DEFAULT_FILE_NAME);
+
+    private final SettingsModelBoolean m_compress = new SettingsModelBoolean(CFG_COMPRESS, false);
+
+    private final SettingsModelIntegerBounded m_maxDocumentsPerFile =
+        new SettingsModelIntegerBounded(CFG_MAX_DOCUMENTS_PER_FILE, 0, 0, Integer.MAX_VALUE);
+
+    private final SettingsModelIntegerBounded m_maxMegabytesPerFile =
+        new SettingsModelIntegerBounded(CFG_MAX_MEGABYTES_PER_FILE, 0, 0, Integer.MAX_VALUE);
+
+    private final SettingsModelIntegerBounded m_concurrentWrites =
+        new SettingsModelIntegerBounded(CFG_CONCURRENT_WRITES, DEFAULT_CONCURRENT_WRITES, 1, MAX_CONCURRENT_WRITES);
+
+    JSONSingleFileWriterSettings() {
+        m_outputMode.addChangeListener(e -> updateEnabledness());
+        updateEnabledness();
+    }
+
+    private void updateEnabledness() {
+        final JSONWriterOutputMode mode = getOutputMode();
+        final boolean singleFile = mode.isSingleFile();
+        m_fileName.setEnabled(singleFile);
+        m_compress.setEnabled(mode.supportsGzip());
+        m_maxDocumentsPerFile.setEnabled(singleFile);
+        m_maxMegabytesPerFile.setEnabled(singleFile);
+        m_concurrentWrites.setEnabled(!singleFile);
+    }
+
+    /**
+     * @return the selected output mode
+     */
+    JSONWriterOutputMode getOutputMode() {
+        return JSONWriterOutputMode.valueOf(m_outputMode.getStringValue());
+    }
+
+    /**
+     * @return whether the documents are written into a single file instead of one file per document
+     */
+    boolean isSingleFile() {
+        return getOutputMode().isSingleFile();
+    }
+
+    /**
+     * @return the name of the written file without extension
+     */
+    String getFileName() {
+        return m_fileName.getStringValue();
+    }
+
+    /**
+     * @return whether the written file is compressed with gzip
+     */
+    boolean isCompress() {
+        return getOutputMode().supportsGzip() && m_compress.getBooleanValue();
+    }
+
+    /**
+     * @return the number of documents after which the next file is started, {@code 0} for no limit
+     */
+    int getMaxDocumentsPerFile() {
+        return m_maxDocumentsPerFile.getIntValue();
+    }
+
+    /**
+     * @return the (uncompressed) size in bytes after which the next file is started, {@code 0} for no limit
+     */
+    long getMaxBytesPerFile() {
+        return m_maxMegabytesPerFile.getIntValue() * 1024L * 1024L;
+    }
+
+    /**
+     * @return the number of files written at the same time when each document is written into its own file
+     */
+    int getConcurrentWrites() {
+        return m_concurrentWrites.getIntValue();
+    }
+
+    SettingsModelString getOutputModeModel() {
+        return m_outputMode;
+    }
+
+    SettingsModelString getFileNameModel() {
+        return m_fileName;
+    }
+
+    SettingsModelBoolean getCompressModel() {
+        return m_compress;
+    }
+
+    SettingsModelIntegerBounded getMaxDocumentsPerFileModel() {
+        return m_maxDocumentsPerFile;
+    }
+
+    SettingsModelIntegerBounded getMaxMegabytesPerFileModel() {
+        return m_maxMegabytesPerFile;
+    }
+
+    SettingsModelIntegerBounded getConcurrentWritesModel() {
+        return m_concurrentWrites;
+    }
+
+    /**
+     * @param settings the node settings
+     */
+    void saveSettingsTo(final NodeSettingsWO settings) {
+        saveModelsTo(settings.addNodeSettings(CFG_SINGLE_FILE));
+    }
+
+    private void saveModelsTo(final NodeSettingsWO singleFile) {
+        m_outputMode.saveSettingsTo(singleFile);
+        m_fileName.saveSettingsTo(singleFile);
+        m_compress.saveSettingsTo(singleFile);
+        m_maxDocumentsPerFile.saveSettingsTo(singleFile);
+        m_maxMegabytesPerFile.saveSettingsTo(singleFile);
+        m_concurrentWrites.saveSettingsTo(singleFile);
+    }
+
+    /**
+     * @param settings the node settings
+     * @throws InvalidSettingsException if the settings are invalid
+     */
+    static void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        // added in 5.2
+        if (!settings.containsKey(CFG_SINGLE_FILE)) {
+            return;
+        }
+        final var tmp = new JSONSingleFileWriterSettings();
+        tmp.loadSettingsFrom(settings.getNodeSettings(CFG_SINGLE_FILE));
+        if (tmp.isSingleFile()) {
+            final String fileName = tmp.getFileName();
+            CheckUtils.checkSetting(fileName != null && !fileName.isBlank(), "The file name must not be empty.");
+            CheckUtils.checkSetting(fileName.indexOf('/') < 0 && fileName.indexOf('\\') < 0,
+                "The file name must not contain path separators: %s", fileName);
+        }
+    }
+
+    /**
+     * @param settings the node settings
+     * @throws InvalidSettingsException if the settings can't be loaded
+     */
+    void loadSettingsInModel(final NodeSettingsRO settings) throws InvalidSettingsException {
+        // added in 5.2, the default mode keeps the behavior of older workflows
+        loadSettingsFrom(settings.containsKey(CFG_SINGLE_FILE) ? settings.getNodeSettings(CFG_SINGLE_FILE)
+            : defaultSettings());
+    }
+
+    /**
+     * @param settings the node settings
+     * @return the sub-config holding these settings (an empty one if it doesn't exist yet)
+     * @throws InvalidSettingsException if the sub-config can't be read
+     */
+    static NodeSettingsRO getSubSettingsForDialog(final NodeSettingsRO settings) throws InvalidSettingsException {
+        return settings.containsKey(CFG_SINGLE_FILE) ? settings.getNodeSettings(CFG_SINGLE_FILE)
+            : defaultSettings();
+    }
+
+    /**
+     * @param settings the node settings
+     * @return the sub-config the dialog components save to
+     */
+    static NodeSettingsWO addSubSettingsForDialog(final NodeSettingsWO settings) {
+        return settings.addNodeSettings(CFG_SINGLE_FILE);
+    }
+
+    private static NodeSettingsRO defaultSettings() {
+        final var defaults = new NodeSettings(CFG_SINGLE_FILE);
+        final var settings = new JSONSingleFileWriterSettings();
+        // workflows created before 5.2 wrote the files one after the other
+        settings.m_concurrentWrites.setIntValue(1);
+        settings.saveModelsTo(defaults);
+        return defaults;
+    }
+
+    private void loadSettingsFrom(final NodeSettingsRO singleFile) throws InvalidSettingsException {
+        final String mode = singleFile.getString(CFG_OUTPUT_MODE);
+        try {
+            JSONWriterOutputMode.valueOf(mode);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Unknown output mode: " + mode, e);
+        }
+        m_outputMode.loadSettingsFrom(singleFile);
+        m_fileName.loadSettingsFrom(singleFile);
+        m_compress.loadSettingsFrom(singleFile);
+        m_maxDocumentsPerFile.loadSettingsFrom(singleFile);
+        m_maxMegabytesPerFile.loadSettingsFrom(singleFile);
+        m_concurrentWrites.loadSettingsFrom(singleFile);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.filehandling.writer;
+
+import org.knime.core.node.util.ButtonGroupEnumInterface;
+
+/**
+ * The ways the JSON Writer can lay out the written documents.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+enum JSONWriterOutputMode implements ButtonGroupEnumInterface {
+
+        /** Each document is written into a separate file (the original behavior). */
+        FILE_PER_DOCUMENT("One file per document", null), //
+        /** All documents are written into one file, one document per line (JSON Lines/NDJSON). */
+        JSON_LINES("One file, one document per line (JSON Lines)", "jsonl"), //
+        /** All documents are written into one file as the elements of a top-level array. */
+        JSON_ARRAY("One file, documents as top-level array", "json"), //
+        /** Each document is written into a separate entry of one ZIP archive. */
+        ZIP_ARCHIVE("One ZIP archive, one entry per document", "zip");
+
+    private final String m_label;
+
+    private final String m_extension;
+
+    JSONWriterOutputMode(final String label, final String extension) {
+        m_label = label;
+        m_extension = extension;
+    }
+
+    /**
+     * @return whether the documents are written into one (or, with rollover, a few) files
+     */
+    boolean isSingleFile() {
+        return this != FILE_PER_DOCUMENT;
+    }
+
+    /**
+     * @return whether the written file can be compressed with gzip (a ZIP archive is compressed already)
+     */
+    boolean supportsGzip() {
+        return this == JSON_LINES || this == JSON_ARRAY;
+    }
+
+    /**
+     * @return the extension (without dot) of the files written in a single file mode, {@code null} for
+     *         {@link #FILE_PER_DOCUMENT}
+     */
+    String getExtension() {
+        return m_extension;
+    }
+
+    @Override
+    public String getText() {
+        return m_label;
+    }
+
+    @Override
+    public String getActionCommand() {
+        return name();
+    }
+
+    @Override
+    public String getToolTip() {
+        return null;
+    }
+
+    @Override
+    public boolean isDefault() {
+        return this == FILE_PER_DOCUMENT;
+    }
+}
@@ -49,8 +49,15 @@
 package org.knime.core.data.json;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 import org.junit.Test;
 import org.knime.core.data.DataCell;
@@ -76,212 +83,153 @@ public void testGetCellSerializer() throws IOException {
         DataCellSerializer<DataCell> serializer = DataTypeRegistry.getInstance().getSerializer(JSONCell.class)
                 .orElseThrow(() -> new IllegalStateException("No serializer for JSONCell found"));
         for (final String input : new String[]{"[ ]", "[{\"foo\": \"bar\"},{\"foo\": \"biz\"}]", "42", /*"null",*/
-        "\"\"", "true", "{}", "{\"foo\": {\"key\": 32}}", "{\"\": []}"}) {
-            DataCellDataOutput output = new DataCellDataOutputImplementation(input);
-            serializer.serialize(JSONCellFactory.create(input, false), output);
-            DataCell jsonCell = serializer.deserialize(new DataCellDataInputImplementation(input));
-            assertEquals(input, norm(JSONCellFactory.create(input, false).toString()), norm(jsonCell.toString()));
-            assertEquals(input, JSONCellFactory.create(input, false), jsonCell);
+        "\"\"", "true", "{}", "{\"foo\": {\"key\": 32}}", "{\"\": []}",
+        "[{\"id\": 1, \"price\": 2.50}, {\"id\": 123456789123, \"price\": -1e-3}, {\"id\": 2, \"big\": 1e40}]"}) {
+            final DataCell expected = JSONCellFactory.create(input, false);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataCellDataOutputImplementation output = new DataCellDataOutputImplementation(bytes)) {
+                serializer.serialize(expected, output);
+                // the serialized form must be self-delimiting
+                output.writeInt(42);
+            }
+            try (DataCellDataInputImplementation in =
+                new DataCellDataInputImplementation(new ByteArrayInputStream(bytes.toByteArray()))) {
+                DataCell jsonCell = serializer.deserialize(in);
+                assertEquals(input, expected.toString(), jsonCell.toString());
+                assertEquals(input, expected, jsonCell);
+                assertEquals(input, ((JSONValue)expected).getJsonValue(), ((JSONValue)jsonCell).getJsonValue());
+                assertEquals(input, 42, in.readInt());
+            }
         }
     }
 
     /**
-     * @param input
-     * @return
+     * By default the cells are written as plain text, readable by versions before 5.2.
+     *
+     * @throws IOException
      */
-    static String norm(final String input) {
-        return input.replaceAll("\\s+", "");
+    @Test
+    public void testWrittenAsText() throws IOException {
+        DataCellSerializer<DataCell> serializer = DataTypeRegistry.getInstance().getSerializer(JSONCell.class)
+                .orElseThrow(() -> new IllegalStateException("No serializer for JSONCell found"));
+        final DataCell cell =
+            JSONCellFactory.create("[{\"id\": 1, \"price\": 2.50}, {\"id\": 2, \"price\": 3}]", false);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataCellDataOutputImplementation output = new DataCellDataOutputImplementation(bytes)) {
+            serializer.serialize(cell, output);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(cell.toString(), in.readUTF());
+            assertEquals(-1, in.read());
+        }
     }
 
     /**
-     * Test method for {@link org.knime.core.data.json.JSONCell#getPreferredValueClass()}.
+     * The binary form (written when it is enabled) is read back with the same string and tree.
+     *
+     * @throws IOException
      */
     @Test
-    public void testGetPreferredValueClass() {
-        assertEquals(JSONValue.class, JSONCellFactory.TYPE.getPreferredValueClass());
+    public void testBinaryForm() throws IOException {
+        for (final String input : new String[]{"[ ]", "[{\"foo\": \"bar\"},{\"foo\": \"biz\"}]", "42",
+        "\"\"", "true", "{}", "{\"foo\": {\"key\": 32}}", "{\"\": []}",
+        "[{\"id\": 1, \"price\": 2.50}, {\"id\": 123456789123, \"price\": -1e-3}, {\"id\": 2, \"big\": 1e40}]"}) {
+            final JSONCellContent expected = new JSONCellContent(input, true);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream output = new DataOutputStream(bytes)) {
+                JSONBinaryCodec.write(expected, output, true);
+                // the serialized form must be self-delimiting
+                output.writeInt(42);
+            }
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                final JSONCellContent read = JSONBinaryCodec.read(in);
+                assertEquals(input, expected.getStringValue(), read.getStringValue());
+                assertEquals(input, expected.getJsonValue(), read.getJsonValue());
+                assertEquals(input, 42, in.readInt());
+            }
+        }
     }
 
     /**
+     * Cells written as plain text (by older versions) are still readable.
      *
+     * @throws IOException
      */
-    private static final class DataCellDataInputImplementation implements DataCellDataInput {
-        /**
-         *
-         */
-        private final String m_input;
-
-        /**
-         * @param input
-         */
-        private DataCellDataInputImplementation(final String input) {
-            this.m_input = input;
-        }
-
-        @Override
-        public int skipBytes(final int arg0) throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public int readUnsignedShort() throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public int readUnsignedByte() throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public String readUTF() throws IOException {
-            return ((JSONCell)JSONCellFactory.create(m_input, false)).getStringValue();
-        }
-
-        @Override
-        public short readShort() throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public long readLong() throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public String readLine() throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public int readInt() throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public void readFully(final byte[] arg0, final int arg1, final int arg2) throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public void readFully(final byte[] arg0) throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public float readFloat() throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public double readDouble() throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public char readChar() throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public byte readByte() throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public boolean readBoolean() throws IOException {
-            throw new UnsupportedOperationException();
+    @Test
+    public void testReadTextSerializedCell() throws IOException {
+        DataCellSerializer<DataCell> serializer = DataTypeRegistry.getInstance().getSerializer(JSONCell.class)
+                .orElseThrow(() -> new IllegalStateException("No serializer for JSONCell found"));
+        final String input = "{\n  \"foo\" : [ 1, 2 ]\n}";
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataCellDataOutputImplementation output = new DataCellDataOutputImplementation(bytes)) {
+            output.writeUTF(input);
         }
-
-        @Override
-        public DataCell readDataCell() throws IOException {
-            throw new UnsupportedOperationException();
+        try (DataCellDataInputImplementation in =
+            new DataCellDataInputImplementation(new ByteArrayInputStream(bytes.toByteArray()))) {
+            DataCell jsonCell = serializer.deserialize(in);
+            assertEquals(input, jsonCell.toString());
+            assertEquals(JSONCellFactory.create(input, false), jsonCell);
         }
     }
 
     /**
+     * The hash code is computed without the tree, but it is the same as that of the tree, equality does not depend on
+     * the order of the members.
      *
+     * @throws IOException
      */
-    private static final class DataCellDataOutputImplementation implements DataCellDataOutput {
-        /**
-         *
-         */
-        private final String m_input;
-
-        /**
-         * @param input
-         */
-        private DataCellDataOutputImplementation(final String input) {
-            this.m_input = input;
-        }
-
-        @Override
-        public void writeShort(final int v) throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public void writeLong(final long v) throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public void writeInt(final int v) throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public void writeFloat(final float v) throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public void writeDouble(final double arg0) throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public void writeChars(final String arg0) throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public void writeChar(final int arg0) throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public void writeBytes(final String arg0) throws IOException {
-            throw new UnsupportedOperationException();
-        }
-
-        @Override
-        public void writeByte(final int arg0) throws IOException {
-            throw new UnsupportedOperationException();
-        }
+    @Test
+    public void testHashCodeAndEquals() throws IOException {
+        for (final String[] pair : new String[][]{
+            {"{\"a\": 1, \"b\": [true, null, \"x\"]}", "{\"b\":[true,null,\"x\"],\"a\":1}"},
+            {"[{\"x\": {\"y\": 2.50, \"z\": 123456789123456789123456789}}]",
+                "[ { \"x\" : { \"z\" : 123456789123456789123456789, \"y\" : 2.50 } } ]"},
+            {"{\"a\": 1, \"a\": 2}", "{\"a\": 2}"}}) {
+            final DataCell first = JSONCellFactory.create(pair[0], false);
+            final DataCell second = JSONCellFactory.create(pair[1], false);
+            // the hash codes before the trees are requested
+            final int firstHash = first.hashCode();
+            final int secondHash = second.hashCode();
+            assertEquals(pair[0], firstHash, secondHash);
+            assertEquals(pair[0], first, second);
+            assertEquals(pair[0], ((JSONValue)first).getJsonValue().hashCode(), firstHash);
+        }
+        assertNotEquals(JSONCellFactory.create("[1, 2]", false), JSONCellFactory.create("[2, 1]", false));
+        assertNotEquals(JSONCellFactory.create("{\"a\": 1.0}", false), JSONCellFactory.create("{\"a\": 1}", false));
+    }
 
-        @Override
-        public void writeBoolean(final boolean arg0) throws IOException {
-            throw new UnsupportedOperationException();
-        }
+    /**
+     * @param input
+     * @return
+     */
+    static String norm(final String input) {
+        return input.replaceAll("\\s+", "");
+    }
 
-        @Override
-        public void write(final byte[] arg0, final int arg1, final int arg2) throws IOException {
-            throw new UnsupportedOperationException();
-        }
+    /**
+     * Test method for {@link org.knime.core.data.json.JSONCell#getPreferredValueClass()}.
+     */
+    @Test
+    public void testGetPreferredValueClass() {
+        assertEquals(JSONValue.class, JSONCellFactory.TYPE.getPreferredValueClass());
+    }
 
-        @Override
-        public void write(final byte[] arg0) throws IOException {
-            throw new UnsupportedOperationException();
+    private static final class DataCellDataInputImplementation extends DataInputStream
+        implements DataCellDataInput {
+        private DataCellDataInputImplementation(final InputStream in) {
+            super(in);
         }
 
         @Override
-        public void write(final int arg0) throws IOException {
+        public DataCell readDataCell() throws IOException {
             throw new UnsupportedOperationException();
         }
+    }
 
-        @Override
-        public void writeUTF(final String s) throws IOException {
-            assertEquals(norm(m_input), norm(s));
+    private static final class DataCellDataOutputImplementation extends DataOutputStream
+        implements DataCellDataOutput {
+        private DataCellDataOutputImplementation(final OutputStream out) {
+            super(out);
         }
 
         @Override
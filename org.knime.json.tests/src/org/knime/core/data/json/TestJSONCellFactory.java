@@ -48,13 +48,23 @@
  */
 package org.knime.core.data.json;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Test;
+import org.knime.core.data.DataCell;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Testcases for {@link JSONCellFactory}.
@@ -84,6 +94,151 @@ public void testCreateString() throws IOException {
         assertNotNull("Very large number", JSONCellFactory.create("123456789123456789123456789", false));
     }
 
+    /**
+     * The single pass normalization produces the same (compact) string as the tree based one.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testNormalizedString() throws IOException {
+        assertEquals("[1,2.50,100,{\"a\":\"b\"}]",
+            JSONCellFactory.create("[1,2.50,1e2,{\"a\":\"b\"}]", false).toString());
+        assertEquals("123456789123456789123456789",
+            JSONCellFactory.create("123456789123456789123456789", false).toString());
+        // the last value wins for duplicate keys
+        assertEquals(JSONCellFactory.create("{\"a\": 2}", false), JSONCellFactory.create("{\"a\":1,\"a\":2}", false));
+        assertEquals(JSONCellFactory.create("{\"a\": [1, 2]}", false).toString(), JSONCellFactory
+            .create(new ByteArrayInputStream("{\"a\":[1,2]}".getBytes(StandardCharsets.UTF_8)), false).toString());
+    }
+
+    /**
+     * A document in a part of a byte array is parsed directly, the result is the same as from the string.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testCreateFromBytes() throws IOException {
+        final byte[] bytes = "xx{\"a\": \"\u00e9\", \"a\": [1, 2]}yy".getBytes(StandardCharsets.UTF_8);
+        assertEquals(JSONCellFactory.create("{\"a\":[1,2]}", false),
+            JSONCellFactory.create(bytes, 2, bytes.length - 4, false));
+        assertEquals("\"\u00e9\"", JSONCellFactory.create(bytes, 8, 4, false).toString());
+    }
+
+    /**
+     * Consecutive values are read from a single parser, each into its own cell.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testCreateFromParser() throws IOException {
+        try (final JsonParser parser = new JsonFactory().createParser("{\"a\":1,\"a\":[2]}\n\n42\n[1e2, {}]\n")) {
+            parser.nextToken();
+            assertEquals(JSONCellFactory.create("{\"a\":[2]}", false), JSONCellFactory.create(parser));
+            parser.nextToken();
+            assertEquals("42", JSONCellFactory.create(parser).toString());
+            parser.nextToken();
+            assertEquals("[100,{}]", JSONCellFactory.create(parser).toString());
+            assertNull(parser.nextToken());
+        }
+    }
+
+    /**
+     * Cells created from Jackson nodes have the same content as the ones created from the string.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testCreateFromJsonNode() throws IOException {
+        final String json = "{\"a\":[1,\"x\",null,true,{\"b\":[]}],\"c\":\"d\"}";
+        final JsonNode node = new ObjectMapper().readTree(json);
+        assertEquals(JSONCellFactory.create(json, false).toString(), JSONCellFactory.create(node).toString());
+        assertEquals(JSONCellFactory.create(json, false), JSONCellFactory.create(node));
+        assertEquals("42", JSONCellFactory.create(new ObjectMapper().readTree("42")).toString());
+    }
+
+    /**
+     * Written documents are small or blob cells depending on the length of the written string, with the same content
+     * as the cells created from the string.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testCreateFromDocumentWriter() throws IOException {
+        final DataCell small = JSONCellFactory.create(generator -> {
+            generator.writeStartObject();
+            generator.writeNumberField("a", 1);
+            generator.writeEndObject();
+        });
+        assertTrue(small instanceof JSONCell);
+        assertEquals(JSONCellFactory.create("{\"a\":1}", false), small);
+
+        final int count = JSONCellFactory.DEF_MIN_BLOB_SIZE_IN_BYTES;
+        final DataCell large = JSONCellFactory.create(generator -> {
+            generator.writeStartArray();
+            for (int i = 0; i < count; i++) {
+                generator.writeNumber(i);
+            }
+            generator.writeEndArray();
+        });
+        assertTrue(large instanceof JSONBlobCell);
+        assertEquals(count, ((JSONValue)large).getJsonValue().asJsonArray().size());
+    }
+
+    private static final String WITH_COMMENTS = "{\"foo\": /* bar */ 42 # baz\n}";
+
+    /**
+     * Comments are accepted when they are explicitly allowed.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testCreateStringWithComments() throws IOException {
+        assertEquals(JSONCellFactory.create("{\"foo\": 42}", false), JSONCellFactory.create(WITH_COMMENTS, true));
+    }
+
+    /**
+     * Comments are rejected otherwise, the shared readers must not leak that setting.
+     *
+     * @throws IOException
+     */
+    @Test(expected = JsonParseException.class)
+    public void testCreateStringWithDisallowedComments() throws IOException {
+        JSONCellFactory.create(WITH_COMMENTS, true);
+        JSONCellFactory.create(WITH_COMMENTS, false);
+    }
+
+    /**
+     * Content after the first JSON document is rejected.
+     *
+     * @throws IOException
+     */
+    @Test(expected = IOException.class)
+    public void testTrailingContent() throws IOException {
+        JSONCellFactory.create("{} []", false);
+    }
+
+    /**
+     * Content after the document is reported with the same message, whether it is a valid token or not and whether the
+     * document is normalized while streaming or through the tree (because of its duplicate keys).
+     */
+    @Test
+    public void testTrailingContentMessage() {
+        final String expected = "Expected end of input, but there were content after line: 1 column: 3";
+        assertEquals(expected, trailingContentMessage("{} []"));
+        assertEquals(expected, trailingContentMessage("{} x"));
+        assertEquals(expected.replace("column: 3", "column: 14"), trailingContentMessage("{\"a\":1,\"a\":2} []"));
+        assertEquals(expected.replace("column: 3", "column: 14"), trailingContentMessage("{\"a\":1,\"a\":2} x"));
+    }
+
+    private static String trailingContentMessage(final String json) {
+        try {
+            JSONCellFactory.create(json, false);
+        } catch (IOException e) {
+            return e.getMessage();
+        }
+        throw new AssertionError("Trailing content accepted: " + json);
+    }
+
     /**
      * {@link Double#NaN}s are not supported by JSON: http://stackoverflow.com/q/1423081
      *
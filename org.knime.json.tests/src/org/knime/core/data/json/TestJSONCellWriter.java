@@ -53,8 +53,10 @@
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Test;
+import org.knime.core.data.json.internal.JSONMapperRegistry;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
 import org.osgi.framework.ServiceReference;
@@ -99,6 +101,25 @@ public void testCreate() throws IOException {
         assertEquals(norm(reference), norm(got));
     }
 
+    /**
+     * Tests that copying the stored text of the cells produces the same output as writing their trees.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testWriteCopiesStoredText() throws IOException {
+        final String reference = "{\"a\":[1,2.5,1e-7,{},[]],\"b\":{\"c\":null,\"d\":\"\\u00e9\\n\"},"
+            + "\"e\":true}";
+        final JSONValue value = (JSONValue)JSONCellFactory.create(reference, false);
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (JSONCellWriter writer = JSONCellWriterFactory.getInstance().create(baos)) {
+            writer.write(value);
+            writer.write(value);
+        }
+        final String tree = JSONMapperRegistry.getWriter(true).writeValueAsString(value.getJsonValue());
+        assertEquals(tree + tree, new String(baos.toByteArray(), StandardCharsets.UTF_8));
+    }
+
     /**
      * Tests the {@link JSONCellWriterFactory} obtained through an OSGi factory.
      *
@@ -0,0 +1,103 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.core.data.json.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+
+/**
+ * Tests the {@link JSONTreeCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestJSONTreeCache {
+
+    /** Hits, misses and the weight of the entries are recorded. */
+    @Test
+    public void testStatistics() {
+        final JSONTreeCache cache = new JSONTreeCache(1024 * 1024);
+        final JsonValue value = Json.createValue("foo");
+        assertNull(cache.get("\"foo\""));
+        cache.put("\"foo\"", value);
+        assertSame(value, cache.get("\"foo\""));
+        assertSame(value, cache.get(new String("\"foo\"")));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2 / 3d, cache.getHitRate(), 1e-9);
+        assertEquals(5, cache.getWeight());
+        cache.clear();
+        assertEquals(0, cache.getWeight());
+        assertNull(cache.get("\"foo\""));
+    }
+
+    /** The least recently used entries are evicted to stay below the maximal weight. */
+    @Test
+    public void testEviction() {
+        // 16 segments with a capacity of 10 characters each
+        final JSONTreeCache cache = new JSONTreeCache(160);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(cache.put(Integer.toString(i), Json.createValue(i)));
+            assertTrue(cache.getWeight() <= cache.getMaxWeight());
+        }
+        assertTrue(cache.getEvictionCount() > 0);
+        // the latest entry is always kept
+        assertEquals(Json.createValue(999), cache.get("999"));
+        // too large to be cached at all
+        assertFalse(cache.put("\"more than ten\"", Json.createValue("more than ten")));
+        assertNull(cache.get("\"more than ten\""));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.jsonpath.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
+
+/**
+ * Tests for {@link StreamingPathEvaluator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestStreamingPathEvaluator {
+    private static final Configuration CONFIG =
+        Configuration.builder().options(Option.ALWAYS_RETURN_LIST, Option.DEFAULT_PATH_LEAF_TO_NULL).build();
+
+    private static final String[] DOCUMENTS = {
+        "{\"store\":{\"book\":[{\"category\":\"reference\",\"author\":\"Nigel Rees\",\"price\":8.95},"
+            + "{\"category\":\"fiction\",\"isbn\":\"0-553-21311-3\",\"price\":22.99,\"tags\":[\"a\",\"b\"]},"
+            + "{\"category\":null,\"price\":12345678901234}],\"bicycle\":{\"color\":\"red\",\"price\":19.95}},"
+            + "\"expensive\":10,\"a-b\":true,\"text\":\"\\\"quoted\\\" \\u00e9\"}",
+        "[1,{\"a\":[{\"b\":2}]},\"x\",[3,4],{\"a\":null},{\"a\":{\"b\":[5,6]}}]",
+        "{\"items\":[{\"id\":1},{\"id\":2,\"x\":{}},{\"noid\":3},5,{\"id\":{\"nested\":[1,2]}}]}",
+        "42",
+        "{\n  \"a\" : [ 1, {\n    \"b\" : \"c\"\n  } ],\n  \"items\" : [ { \"id\" : 1.50 } ]\n}",
+        "{}",
+        "[]"};
+
+    private static final String[] PATHS = {"$", "$.store", "$.store.book", "$.store.book[1].isbn",
+        "$.store.book[*].isbn", "$.store.book[*].price", "$['store']['bicycle'].color", "$.store.book[5]",
+        "$.store.book[1].tags[*]", "$.store.*", "$.store.*[0].category", "$.expensive", "$.missing", "$.missing.a",
+        "$.store.book.isbn", "$.a-b", "$.text", "$[*]", "$[1].a[0].b", "$[*].a", "$[*].a.b", "$[*].a[*].b", "$[3][1]",
+        "$[0]", "$[0].a", "$.items[*].id", "$.items[*].id.nested", "$.items[3].id", "$.*.*", "$[\"store\"].book[0]"};
+
+    /** The results are the same as from {@link JsonPath}, or the evaluator reports that it cannot decide. */
+    @Test
+    public void testSameAsJsonPath() {
+        for (final String path : PATHS) {
+            final StreamingPathEvaluator evaluator = StreamingPathEvaluator.compile(path, CONFIG)
+                .orElseThrow(() -> new AssertionError("Not compiled: " + path));
+            for (final String document : DOCUMENTS) {
+                final Object streamed = evaluator.read(document, CONFIG);
+                Object expected;
+                try {
+                    expected = JsonPath.compile(path).read(document, CONFIG);
+                } catch (RuntimeException e) {
+                    assertNull(path + " in " + document, streamed);
+                    continue;
+                }
+                if (streamed == null) {
+                    fail("No result for " + path + " in " + document + ", expected: " + expected);
+                }
+                assertEquals(path + " in " + document, expected.toString(), streamed.toString());
+            }
+        }
+    }
+
+    /** All paths evaluated in a single pass have the same results as evaluated one by one. */
+    @Test
+    public void testAllPathsInOnePass() {
+        final List<StreamingPathEvaluator> evaluators = new ArrayList<>();
+        for (final String path : PATHS) {
+            evaluators.add(StreamingPathEvaluator.compile(path, CONFIG).get());
+        }
+        for (final String document : DOCUMENTS) {
+            final Object[] streamed = StreamingPathEvaluator.read(document, evaluators, CONFIG);
+            assertEquals(PATHS.length, streamed.length);
+            for (int i = 0; i < PATHS.length; i++) {
+                assertEquals(PATHS[i] + " in " + document, String.valueOf(evaluators.get(i).read(document, CONFIG)),
+                    String.valueOf(streamed[i]));
+            }
+        }
+    }
+
+    /** Paths with other parts and other options are left for {@link JsonPath}. */
+    @Test
+    public void testUnsupported() {
+        for (final String path : new String[]{"$..book", "$.store.book[-1]", "$.store.book[0,1]", "$.book[0:2]",
+            "$.book[?(@.isbn)]", "$['a','b']", "$.length()", "$. a", "store.book", "$.a\\,b"}) {
+            assertFalse(path, StreamingPathEvaluator.compile(path, CONFIG).isPresent());
+        }
+        assertFalse(StreamingPathEvaluator.compile("$.a",
+            Configuration.builder().options(Option.ALWAYS_RETURN_LIST, Option.AS_PATH_LIST).build()).isPresent());
+        assertTrue(StreamingPathEvaluator.compile("$.a", CONFIG).isPresent());
+    }
+}
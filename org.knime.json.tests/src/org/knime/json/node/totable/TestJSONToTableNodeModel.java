@@ -0,0 +1,220 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.totable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.json.JSONCell;
+import org.knime.core.data.json.JSONCellFactory;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+import org.knime.json.node.util.ParallelProcessing;
+
+/**
+ * Tests for {@link JSONToTableNodeModel} in a streaming executor.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestJSONToTableNodeModel {
+    private static final String JSON_COLUMN = "json";
+
+    private static final String[] DOCUMENTS =
+        {"{\"a\":1,\"b\":{\"c\":\"x\"}}", "{\"a\":2,\"b\":{\"c\":\"y\"},\"d\":[true,false]}", "{\"a\":3}"};
+
+    /**
+     * Tests that with the default settings (all rows analysed) the streamed node falls back to processing the whole
+     * table and produces the same rows as the regular execution.
+     *
+     * @throws Exception Should not happen.
+     */
+    @Test
+    public void testStreamAllRows() throws Exception {
+        final List<DataRow> rows = assertStreamedAsExecuted(new JSONToTableSettings());
+        assertEquals(new IntCell(1), rows.get(0).getCell(0));
+        assertEquals(new IntCell(3), rows.get(2).getCell(0));
+    }
+
+    /**
+     * Tests the streamed node when only the first row is analysed and the not fitting rows are kept in a JSON column.
+     *
+     * @throws Exception Should not happen.
+     */
+    @Test
+    public void testStreamFirstRows() throws Exception {
+        final JSONToTableSettings settings = new JSONToTableSettings();
+        settings.setColumnInference(ColumnInference.FirstRows);
+        settings.setInferenceRowCount(1);
+        settings.setUnmatchedHandling(UnmatchedHandling.JsonColumn);
+        final List<DataRow> rows = assertStreamedAsExecuted(settings);
+        final int unmatched = rows.get(0).getNumCells() - 1;
+        assertTrue(rows.get(0).getCell(unmatched).isMissing());
+        assertEquals(JSONCellFactory.create(DOCUMENTS[1], false), rows.get(1).getCell(unmatched));
+        assertTrue(rows.get(2).getCell(unmatched).isMissing());
+    }
+
+    /**
+     * Tests that new nodes use one worker per processor, while the settings of older workflows (saved without the
+     * number of workers) are loaded with a single worker.
+     *
+     * @throws Exception Should not happen.
+     */
+    @Test
+    public void testWorkerCountOfOlderWorkflows() throws Exception {
+        final JSONToTableSettings settings = new JSONToTableSettings();
+        assertEquals(ParallelProcessing.DEFAULT_WORKER_COUNT, settings.getWorkerCount());
+        settings.setInputColumn(JSON_COLUMN);
+        final NodeSettings nodeSettings = new NodeSettings("JSON to Table");
+        settings.saveSettings(nodeSettings);
+        final JSONToTableSettings loaded = new JSONToTableSettings();
+        loaded.loadSettingsModel(nodeSettings);
+        assertEquals(ParallelProcessing.DEFAULT_WORKER_COUNT, loaded.getWorkerCount());
+
+        // saved before the number of workers could be configured
+        assertEquals(ParallelProcessing.LEGACY_WORKER_COUNT,
+            ParallelProcessing.loadWorkerCount(new NodeSettings("JSON to Table")));
+    }
+
+    /**
+     * Runs the node with {@code settings} once in streaming mode and once regularly.
+     *
+     * @param settings The settings of the node.
+     * @return The streamed rows, equal to the rows of the regular execution.
+     * @throws Exception Should not happen.
+     */
+    private static List<DataRow> assertStreamedAsExecuted(final JSONToTableSettings settings) throws Exception {
+        final ExecutionContext exec = getTestExecutionContext();
+        final BufferedDataTable table = createTable(exec);
+        final JSONToTableNodeModel model = new JSONToTableNodeModel();
+        settings.setInputColumn(JSON_COLUMN);
+        final NodeSettings nodeSettings = new NodeSettings("JSON to Table");
+        settings.saveSettings(nodeSettings);
+        model.validateSettings(nodeSettings);
+        model.loadValidatedSettingsFrom(nodeSettings);
+        model.configure(new DataTableSpec[]{table.getDataTableSpec()});
+        assertEquals(InputPortRole.NONDISTRIBUTED_NONSTREAMABLE, model.getInputPortRoles()[0]);
+
+        final List<DataRow> streamed = new ArrayList<>();
+        final RowOutput output = new RowOutput() {
+            @Override
+            public void push(final DataRow row) {
+                streamed.add(row);
+            }
+
+            @Override
+            public void close() {
+                //nothing to close
+            }
+        };
+        model.createStreamableOperator(new PartitionInfo(0, 1), new PortObjectSpec[]{table.getDataTableSpec()})
+            .runFinal(new PortInput[]{new PortObjectInput(table)}, new PortOutput[]{output}, exec);
+
+        final BufferedDataTable executed = model.execute(new BufferedDataTable[]{table}, exec)[0];
+        assertEquals(executed.size(), streamed.size());
+        try (CloseableRowIterator it = executed.iterator()) {
+            for (DataRow row : streamed) {
+                final DataRow expected = it.next();
+                assertEquals(expected.getKey(), row.getKey());
+                assertEquals(expected.getNumCells(), row.getNumCells());
+                for (int i = 0; i < row.getNumCells(); i++) {
+                    assertEquals(expected.getCell(i), row.getCell(i));
+                }
+            }
+        }
+        return streamed;
+    }
+
+    private static BufferedDataTable createTable(final ExecutionContext exec) throws Exception {
+        final BufferedDataContainer container = exec.createDataContainer(
+            new DataTableSpec(new DataColumnSpecCreator(JSON_COLUMN, JSONCell.TYPE).createSpec()));
+        for (int i = 0; i < DOCUMENTS.length; i++) {
+            container.addRowToTable(
+                new DefaultRow(RowKey.createRowKey((long)i), new DataCell[]{JSONCellFactory.create(DOCUMENTS[i], false)}));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static ExecutionContext getTestExecutionContext() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        return new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<>());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.json.JSONCellFactory;
+import org.knime.core.util.JsonUtil;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObjectBuilder;
+
+/**
+ * Tests {@link JsonGeneratorUtil}, it has to write the same JSON as {@link JSR353Util}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestJsonGeneratorUtil {
+
+    private static List<DataCell> cells() throws IOException {
+        return Arrays.asList(DataType.getMissingCell(), BooleanCell.TRUE, new IntCell(-3),
+            new LongCell(Long.MAX_VALUE), new DoubleCell(0.1), new DoubleCell(2), new DoubleCell(1e20),
+            new StringCell("a\"é\n"), JSONCellFactory.create("{\"a\":[1,2.50,null,{}],\"b\":1e3}", false),
+            CollectionCellFactory.createListCell(Arrays.asList(new IntCell(1), DataType.getMissingCell(),
+                CollectionCellFactory.createListCell(Arrays.asList(new StringCell("x")))));
+    }
+
+    /**
+     * Objects written field by field equal the ones created with the builders.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testWriteFields() throws IOException {
+        final List<DataCell> cells = cells();
+        final JsonObjectBuilder builder = JsonUtil.getProvider().createObjectBuilder();
+        for (int i = 0; i < cells.size(); i++) {
+            JSR353Util.fromCell("k" + i, cells.get(i), builder);
+        }
+        final DataCell written = JSONCellFactory.create(generator -> {
+            generator.writeStartObject();
+            for (int i = 0; i < cells.size(); i++) {
+                JsonGeneratorUtil.writeField("k" + i, cells.get(i), generator);
+            }
+            generator.writeEndObject();
+        });
+        final DataCell built = JSONCellFactory.create(builder.build());
+        assertEquals(built.toString(), written.toString());
+        assertEquals(built, written);
+    }
+
+    /**
+     * Arrays written element by element equal the ones created with the builders.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testWriteArrayElements() throws IOException {
+        final List<DataCell> cells = cells();
+        final JsonArrayBuilder builder = JsonUtil.getProvider().createArrayBuilder();
+        for (final DataCell cell : cells) {
+            JSR353Util.addToArrayFromCell(builder, cell);
+        }
+        final DataCell written = JSONCellFactory.create(generator -> {
+            generator.writeStartArray();
+            for (final DataCell cell : cells) {
+                JsonGeneratorUtil.writeArrayElement(cell, generator);
+            }
+            generator.writeEndArray();
+        });
+        assertEquals(JSONCellFactory.create(builder.build()).toString(), written.toString());
+    }
+}
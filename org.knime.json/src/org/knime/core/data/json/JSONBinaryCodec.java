@@ -0,0 +1,456 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.core.data.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.data.json.internal.JSONMapperRegistry;
+import org.knime.core.data.json.internal.JSONNormalizer;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.JsonUtil;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+
+/**
+ * Versioned binary encoding of {@link JSONCellContent} used by the {@link org.knime.core.data.DataCellSerializer}s of
+ * {@link JSONCell} and {@link JSONBlobCell}. <br/>
+ * The document is stored as a stream of typed tokens: numbers and lengths are stored as variable length integers and
+ * repeated key names are stored as references to their first occurrence. Reading decodes the tokens into the
+ * (normalized) string and the {@link JsonValue} tree in a single pass, without parsing text. Documents where this is
+ * not smaller than the text (typically very small ones) are still written as text. <br/>
+ * The binary form starts with a {@link DataOutput#writeUTF(String) UTF} marker that is not a valid JSON, so contents
+ * written as plain UTF string (by older versions or with the default settings) remain readable. <br/>
+ * The binary form is only written when {@link #BINARY_STORAGE_PROPERTY} is set: versions before 5.2 read the marker as
+ * the (invalid) content of the cell, so tables written in binary form can't be read by them. By default the cells are
+ * written as text, as before.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JSONBinaryCodec {
+    /**
+     * Name of the system property to write JSON cells in the binary form instead of text. Tables written this way
+     * can't be read by versions before 5.2.
+     */
+    static final String BINARY_STORAGE_PROPERTY = "org.knime.jsonbinarystorage";
+
+    private static final boolean BINARY_STORAGE = Boolean.getBoolean(BINARY_STORAGE_PROPERTY);
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(JSONBinaryCodec.class);
+
+    /** Not a valid JSON, cannot be the content of cells written as text. */
+    private static final String BINARY_MARKER = "\u0000";
+
+    private static final byte VERSION = 1;
+
+    private static final byte START_OBJECT = 1;
+
+    private static final byte END_OBJECT = 2;
+
+    private static final byte START_ARRAY = 3;
+
+    private static final byte END_ARRAY = 4;
+
+    private static final byte NEW_KEY = 5;
+
+    private static final byte KEY_REFERENCE = 6;
+
+    private static final byte STRING = 7;
+
+    private static final byte LONG = 8;
+
+    private static final byte BIG_INTEGER = 9;
+
+    private static final byte DECIMAL = 10;
+
+    private static final byte BIG_DECIMAL = 11;
+
+    private static final byte TRUE = 12;
+
+    private static final byte FALSE = 13;
+
+    private static final byte NULL = 14;
+
+    private JSONBinaryCodec() {
+    }
+
+    /**
+     * Writes the content as text, or in binary form when {@link #BINARY_STORAGE_PROPERTY} is set.
+     *
+     * @param content the content to write
+     * @param output the target
+     * @throws IOException If writing fails.
+     */
+    static void write(final JSONCellContent content, final DataOutput output) throws IOException {
+        write(content, output, BINARY_STORAGE);
+    }
+
+    /**
+     * Writes the content in binary form (or as text when {@code binary} is not set or the content is not a valid
+     * JSON).
+     *
+     * @param content the content to write
+     * @param output the target
+     * @param binary whether the binary form should be written
+     * @throws IOException If writing fails.
+     */
+    static void write(final JSONCellContent content, final DataOutput output, final boolean binary)
+        throws IOException {
+        final String json = content.getStringValue();
+        if (!binary) {
+            output.writeUTF(json);
+            return;
+        }
+        byte[] encoded;
+        try {
+            encoded = encode(json);
+        } catch (JsonProcessingException e) {
+            LOGGER.debug("Writing invalid JSON as text: " + e.getMessage(), e);
+            encoded = null;
+        }
+        if (encoded == null || encoded.length >= json.length()) {
+            // content created without validation or too small to benefit, keep it as it is
+            output.writeUTF(json);
+            return;
+        }
+        output.writeUTF(BINARY_MARKER);
+        output.writeByte(VERSION);
+        output.write(encoded);
+    }
+
+    /**
+     * Reads content written by {@link #write(JSONCellContent, DataOutput)} or by older versions as plain UTF string.
+     *
+     * @param input the source
+     * @return The read content.
+     * @throws IOException If reading fails or the format version is unknown.
+     */
+    static JSONCellContent read(final DataInput input) throws IOException {
+        final String s = input.readUTF();
+        if (!BINARY_MARKER.equals(s)) {
+            return new JSONCellContent(s, false);
+        }
+        final byte version = input.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported JSON cell format version: " + version
+                + ", the data was probably written by a newer version");
+        }
+        return decode(input);
+    }
+
+    /**
+     * @return The encoded document, or {@code null} if {@code json} is not a single JSON document.
+     */
+    private static byte[] encode(final String json) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length() / 2 + 16);
+        final DataOutputStream out = new DataOutputStream(bytes);
+        final Map<String, Integer> keys = new HashMap<>();
+        try (JsonParser parser = JSONMapperRegistry.getReader(false).getFactory().createParser(json)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            }
+            int depth = 0;
+            do {
+                switch (token) {
+                    case START_OBJECT:
+                        depth++;
+                        out.writeByte(START_OBJECT);
+                        break;
+                    case END_OBJECT:
+                        depth--;
+                        out.writeByte(END_OBJECT);
+                        break;
+                    case START_ARRAY:
+                        depth++;
+                        out.writeByte(START_ARRAY);
+                        break;
+                    case END_ARRAY:
+                        depth--;
+                        out.writeByte(END_ARRAY);
+                        break;
+                    case FIELD_NAME:
+                        final String name = parser.getCurrentName();
+                        final Integer ref = keys.get(name);
+                        if (ref == null) {
+                            keys.put(name, keys.size());
+                            out.writeByte(NEW_KEY);
+                            writeString(out, name);
+                        } else {
+                            out.writeByte(KEY_REFERENCE);
+                            writeVarLong(out, ref);
+                        }
+                        break;
+                    case VALUE_STRING:
+                        out.writeByte(STRING);
+                        writeString(out, parser.getText());
+                        break;
+                    case VALUE_NUMBER_INT:
+                        writeInteger(out, parser);
+                        break;
+                    case VALUE_NUMBER_FLOAT:
+                        writeDecimal(out, parser.getDecimalValue());
+                        break;
+                    case VALUE_TRUE:
+                        out.writeByte(TRUE);
+                        break;
+                    case VALUE_FALSE:
+                        out.writeByte(FALSE);
+                        break;
+                    case VALUE_NULL:
+                        out.writeByte(NULL);
+                        break;
+                    default:
+                        return null;
+                }
+            } while (depth > 0 && (token = parser.nextToken()) != null);
+            if (depth > 0 || parser.nextToken() != null) {
+                return null;
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeInteger(final DataOutput out, final JsonParser parser) throws IOException {
+        switch (parser.getNumberType()) {
+            case INT:
+            case LONG:
+                out.writeByte(LONG);
+                writeVarLong(out, zigZag(parser.getLongValue()));
+                break;
+            default:
+                out.writeByte(BIG_INTEGER);
+                writeBytes(out, parser.getBigIntegerValue().toByteArray());
+        }
+    }
+
+    private static void writeDecimal(final DataOutput out, final BigDecimal value) throws IOException {
+        final BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            out.writeByte(DECIMAL);
+            writeVarLong(out, zigZag(value.scale()));
+            writeVarLong(out, zigZag(unscaled.longValue()));
+        } else {
+            out.writeByte(BIG_DECIMAL);
+            writeVarLong(out, zigZag(value.scale()));
+            writeBytes(out, unscaled.toByteArray());
+        }
+    }
+
+    private static void writeString(final DataOutput out, final String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(final DataOutput out, final byte[] value) throws IOException {
+        writeVarLong(out, value.length);
+        out.write(value);
+    }
+
+    private static long zigZag(final long value) {
+        return (value << 1) ^ (value >> (Long.SIZE - 1));
+    }
+
+    private static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /** Writes a non-negative (or zig-zag encoded) value with 7 bits per byte. */
+    private static void writeVarLong(final DataOutput out, final long value) throws IOException {
+        long v = value;
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int)((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int)v);
+    }
+
+    private static long readVarLong(final DataInput in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final byte b = in.readByte();
+            result |= (long)(b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed variable length integer in binary JSON");
+    }
+
+    private static String readString(final DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(final DataInput in) throws IOException {
+        final byte[] result = new byte[(int)readVarLong(in)];
+        in.readFully(result);
+        return result;
+    }
+
+    /**
+     * Decodes a single document, creating the normalized string and the tree at the same time.
+     */
+    private static JSONCellContent decode(final DataInput in) throws IOException {
+        final JsonProvider provider = JsonUtil.getProvider();
+        final List<String> keys = new ArrayList<>();
+        // the builders of the enclosing structures and the key of the current value in them
+        final Deque<Object> builders = new ArrayDeque<>();
+        final Deque<String> fieldNames = new ArrayDeque<>();
+        String fieldName = null;
+        JsonValue root = null;
+        final StringWriter text = new StringWriter();
+        try (JsonGenerator generator = JSONNormalizer.createGenerator(text, JSONCellContent.PRETTY_STORAGE)) {
+            do {
+                final byte type = in.readByte();
+                JsonValue value = null;
+                switch (type) {
+                    case START_OBJECT:
+                        generator.writeStartObject();
+                        builders.push(provider.createObjectBuilder());
+                        fieldNames.push(fieldName == null ? "" : fieldName);
+                        continue;
+                    case START_ARRAY:
+                        generator.writeStartArray();
+                        builders.push(provider.createArrayBuilder());
+                        fieldNames.push(fieldName == null ? "" : fieldName);
+                        continue;
+                    case END_OBJECT:
+                        generator.writeEndObject();
+                        value = ((JsonObjectBuilder)builders.pop()).build();
+                        fieldName = fieldNames.pop();
+                        break;
+                    case END_ARRAY:
+                        generator.writeEndArray();
+                        value = ((JsonArrayBuilder)builders.pop()).build();
+                        fieldName = fieldNames.pop();
+                        break;
+                    case NEW_KEY:
+                        fieldName = readString(in);
+                        keys.add(fieldName);
+                        generator.writeFieldName(fieldName);
+                        continue;
+                    case KEY_REFERENCE:
+                        fieldName = keys.get((int)readVarLong(in));
+                        generator.writeFieldName(fieldName);
+                        continue;
+                    case STRING:
+                        final String string = readString(in);
+                        generator.writeString(string);
+                        value = provider.createValue(string);
+                        break;
+                    case LONG:
+                        final long l = unZigZag(readVarLong(in));
+                        generator.writeNumber(l);
+                        value = provider.createValue(l);
+                        break;
+                    case BIG_INTEGER:
+                        final BigInteger bi = new BigInteger(readBytes(in));
+                        generator.writeNumber(bi);
+                        value = provider.createValue(bi);
+                        break;
+                    case DECIMAL:
+                        final int scale = (int)unZigZag(readVarLong(in));
+                        final BigDecimal d = BigDecimal.valueOf(unZigZag(readVarLong(in)), scale);
+                        generator.writeNumber(d);
+                        value = provider.createValue(d);
+                        break;
+                    case BIG_DECIMAL:
+                        final int bigScale = (int)unZigZag(readVarLong(in));
+                        final BigDecimal bd = new BigDecimal(new BigInteger(readBytes(in)), bigScale);
+                        generator.writeNumber(bd);
+                        value = provider.createValue(bd);
+                        break;
+                    case TRUE:
+                        generator.writeBoolean(true);
+                        value = JsonValue.TRUE;
+                        break;
+                    case FALSE:
+                        generator.writeBoolean(false);
+                        value = JsonValue.FALSE;
+                        break;
+                    case NULL:
+                        generator.writeNull();
+                        value = JsonValue.NULL;
+                        break;
+                    default:
+                        throw new IOException("Unknown token type in binary JSON: " + type);
+                }
+                if (builders.isEmpty()) {
+                    root = value;
+                } else if (builders.peek() instanceof JsonObjectBuilder) {
+                    ((JsonObjectBuilder)builders.peek()).add(fieldName, value);
+                } else {
+                    ((JsonArrayBuilder)builders.peek()).add(value);
+                }
+            } while (!builders.isEmpty());
+        }
+        return new JSONCellContent(text.toString(), root);
+    }
+}
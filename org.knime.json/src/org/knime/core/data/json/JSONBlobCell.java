@@ -85,11 +85,7 @@ public static final class JSONSerializer implements DataCellSerializer<JSONBlobC
          */
         @Override
         public void serialize(final JSONBlobCell cell, final DataCellDataOutput output) throws IOException {
-            try {
-                output.writeUTF(cell.getStringValue());
-            } catch (IOException ex) {
-                throw ex;
-            }
+            JSONBinaryCodec.write(cell.m_content, output);
         }
 
         /**
@@ -97,8 +93,7 @@ public void serialize(final JSONBlobCell cell, final DataCellDataOutput output)
          */
         @Override
         public JSONBlobCell deserialize(final DataCellDataInput input) throws IOException {
-            String s = input.readUTF();
-            return new JSONBlobCell(new JSONCellContent(s, false));
+            return new JSONBlobCell(JSONBinaryCodec.read(input));
         }
     }
 
@@ -89,11 +89,7 @@ public static final class JSONSerializer implements DataCellSerializer<JSONCell>
          */
         @Override
         public void serialize(final JSONCell cell, final DataCellDataOutput output) throws IOException {
-            try {
-                output.writeUTF(cell.getStringValue());
-            } catch (IOException ex) {
-                throw ex;
-            }
+            JSONBinaryCodec.write(cell.m_content, output);
         }
 
         /**
@@ -101,8 +97,7 @@ public void serialize(final JSONCell cell, final DataCellDataOutput output) thro
          */
         @Override
         public JSONCell deserialize(final DataCellDataInput input) throws IOException {
-            String s = input.readUTF();
-            return new JSONCell(new JSONCellContent(s, false));
+            return new JSONCell(JSONBinaryCodec.read(input));
         }
     }
 
@@ -133,6 +128,10 @@ public String toString() {
         return m_content.toString();
     }
 
+    JSONCellContent getContent() {
+        return m_content;
+    }
+
     /**
      * {@inheritDoc}
      */
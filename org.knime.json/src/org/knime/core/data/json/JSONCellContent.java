@@ -47,13 +47,17 @@
  */
 package org.knime.core.data.json;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
-import java.io.StringReader;
 import java.lang.ref.SoftReference;
+import java.util.Objects;
+import java.util.Optional;
 
+import org.knime.core.data.json.internal.JSONMapperRegistry;
+import org.knime.core.data.json.internal.JSONNormalizer;
+import org.knime.core.data.json.internal.JSONStructuralHash;
+import org.knime.core.data.json.internal.JSONTreeCache;
 import org.knime.core.data.xml.XMLCellContent;
 import org.knime.core.node.NodeLogger;
 
@@ -75,9 +79,33 @@
 public class JSONCellContent implements JSONValue {
     private static final NodeLogger LOGGER = NodeLogger.getLogger(JSONCellContent.class);
 
+    /**
+     * Name of the system property to store new cells pretty printed (as before 5.2) instead of in the compact form.
+     * Cells written by older versions are read as they are, independent of this setting.
+     */
+    static final String PRETTY_STORAGE_PROPERTY = "org.knime.jsonprettystorage";
+
+    static final boolean PRETTY_STORAGE = Boolean.getBoolean(PRETTY_STORAGE_PROPERTY);
+
+    /**
+     * Name of the system property to set the size (total length of the documents, with an optional {@code k} or
+     * {@code m} suffix) of the parsed JSON cache shared by the cells. When not set (or {@code 0}), each cell keeps
+     * its parsed value in a soft reference, as it does for documents too large for the cache (more than a sixteenth
+     * of its size). The statistics of the cache are logged (debug level) on shutdown.
+     */
+    static final String TREE_CACHE_SIZE_PROPERTY = "org.knime.jsontreecachesize";
+
+    private static final JSONTreeCache TREE_CACHE = createTreeCache();
+
+    private static final SoftReference<JsonValue> NO_TREE = new SoftReference<>(null);
+
     private final String m_jsonString;
 
-    private SoftReference<JsonValue> m_content;
+    /** The parsed value when the shared cache is not used or the document is too large for it. */
+    private SoftReference<JsonValue> m_content = NO_TREE;
+
+    /** The hash code of the content, {@code 0} if not yet computed (benign race as in {@link String}). */
+    private int m_hash;
 
     /**
      * Creates a {@link JsonValue} by parsing the passed string. It must contain a valid JSON. <br/>
@@ -93,17 +121,26 @@ public class JSONCellContent implements JSONValue {
 
     JSONCellContent(final String jsonString, final boolean checkJson, final boolean allowComments) throws IOException {
         if (checkJson) {
-            // check if JSON string is valid JSON
-            JsonValue json = parse(jsonString, allowComments);
-            // store the normalized string as cell content
-            m_jsonString = serialize(json);
-            m_content = new SoftReference<JsonValue>(json);
+            // check if JSON string is valid JSON and store the normalized string as cell content (single pass, the
+            // tree is only created when requested)
+            m_jsonString = JSONNormalizer.normalize(jsonString, allowComments, PRETTY_STORAGE);
         } else {
             m_jsonString = jsonString;
-            m_content = new SoftReference<JsonValue>(null);
         }
     }
 
+    /**
+     * Creates a new instance from an already normalized string and the corresponding {@link JsonValue}, for example
+     * when both were decoded at the same time.
+     *
+     * @param jsonString the normalized JSON string
+     * @param jsonValue the parsed {@code jsonString}
+     */
+    JSONCellContent(final String jsonString, final JsonValue jsonValue) {
+        m_jsonString = jsonString;
+        cacheTree(jsonValue);
+    }
+
     /**
      * Creates a {@link JsonValue} by parsing the contents of the passed {@link InputStream} (using the default
      * encoding, {@code UTF-8}). It must contain a valid JSON.
@@ -116,9 +153,22 @@ public class JSONCellContent implements JSONValue {
     }
 
     JSONCellContent(final InputStream is, final boolean allowComments) throws IOException {
-        JsonValue json = parse(is, allowComments);
-        m_content = new SoftReference<JsonValue>(json);
-        m_jsonString = serialize(json);
+        m_jsonString = JSONNormalizer.normalize(is, allowComments, PRETTY_STORAGE);
+    }
+
+    /**
+     * Creates a {@link JsonValue} by parsing the passed bytes (encoding is detected, default is {@code UTF-8}). They
+     * must contain a valid JSON.
+     *
+     * @param bytes the bytes of a JSON
+     * @param offset the offset of the JSON in {@code bytes}
+     * @param length the length of the JSON in bytes
+     * @param allowComments allow or not comments in the JSON
+     * @throws IOException If any IO errors occur.
+     */
+    JSONCellContent(final byte[] bytes, final int offset, final int length, final boolean allowComments)
+        throws IOException {
+        m_jsonString = JSONNormalizer.normalize(bytes, offset, length, allowComments, PRETTY_STORAGE);
     }
 
     /**
@@ -132,9 +182,7 @@ public class JSONCellContent implements JSONValue {
     }
 
     JSONCellContent(final Reader reader, final boolean allowComments) throws IOException {
-        JsonValue json = parse(reader, allowComments);
-        m_content = new SoftReference<JsonValue>(json);
-        m_jsonString = serialize(json);
+        m_jsonString = JSONNormalizer.normalize(reader, allowComments, PRETTY_STORAGE);
     }
 
     /**
@@ -143,7 +191,6 @@ public class JSONCellContent implements JSONValue {
      * @param jsonValue an {@link JsonValue}.
      */
     JSONCellContent(final JsonValue jsonValue) {
-        m_content = new SoftReference<JsonValue>(jsonValue);
         String s = null;
         try {
             s = serialize(jsonValue);
@@ -152,6 +199,7 @@ public class JSONCellContent implements JSONValue {
             throw new AssertionError("Should not happen", ex);
         }
         m_jsonString = s;
+        cacheTree(jsonValue);
     }
 
     /**
@@ -163,10 +211,13 @@ public class JSONCellContent implements JSONValue {
     @Override
     public final JsonValue getJsonValue() {
         JsonValue json = m_content.get();
+        if (json == null && TREE_CACHE != null) {
+            json = TREE_CACHE.get(m_jsonString);
+        }
         if (json == null) {
             try {
                 json = parse(m_jsonString);
-                m_content = new SoftReference<JsonValue>(json);
+                cacheTree(json);
             } catch (Exception ex) {
                 LOGGER.error("Error while parsing JSON in JSON Cell", ex);
             }
@@ -174,8 +225,35 @@ public final JsonValue getJsonValue() {
         return json;
     }
 
+    private void cacheTree(final JsonValue json) {
+        if (TREE_CACHE == null || json == null || !TREE_CACHE.put(m_jsonString, json)) {
+            // documents too large for the shared cache are kept like without it
+            m_content = new SoftReference<>(json);
+        }
+    }
+
+    private static JSONTreeCache createTreeCache() {
+        final long size = JSONCellFactory.getSizeProperty(TREE_CACHE_SIZE_PROPERTY, 0, "parsed JSON cache size");
+        if (size <= 0) {
+            return null;
+        }
+        final JSONTreeCache cache = new JSONTreeCache(size);
+        // the statistics help to choose the size of the cache
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> LOGGER.debug(cache), "JSON tree cache statistics"));
+        return cache;
+    }
+
+    /**
+     * @return The cache of the parsed values shared by the JSON cells (to query its statistics), empty if it is not
+     *         enabled with the {@value #TREE_CACHE_SIZE_PROPERTY} system property.
+     */
+    static Optional<JSONTreeCache> getTreeCache() {
+        return Optional.ofNullable(TREE_CACHE);
+    }
+
     /**
-     * Returns the JSON as a string.
+     * Returns the JSON as a string. New cells store it in the compact form (without insignificant whitespace), cells
+     * from older versions might be pretty printed.
      *
      * @return The JSON as a string.
      */
@@ -184,40 +262,11 @@ String getStringValue() {
     }
 
     private static String serialize(final JsonValue json) throws IOException {
-        ByteArrayOutputStream os = new ByteArrayOutputStream();
-        try (JSONCellWriter writer = JSONCellWriterFactory.getInstance().create(os)) {
-            writer.write(new JSONValue() {
-                @Override
-                public JsonValue getJsonValue() {
-                    return json;
-                }
-            });
-        }
-        return os.toString("UTF-8");
+        return JSONMapperRegistry.getWriter(PRETTY_STORAGE).writeValueAsString(json);
     }
 
     private static JsonValue parse(final String jsonString) throws IOException {
-        return parse(jsonString, false);
-    }
-
-    private static JsonValue parse(final String jsonString, final boolean allowComments) throws IOException {
-        try (JSONCellReader reader =
-            JSONCellReaderFactory.getInstance().createJSONCellReader(new StringReader(jsonString), allowComments)) {
-            return reader.readJSON().getJsonValue();
-        }
-    }
-
-    private static JsonValue parse(final InputStream is, final boolean allowComments) throws IOException {
-        try (JSONCellReader reader = JSONCellReaderFactory.getInstance().createJSONCellReader(is, allowComments)) {
-            return reader.readJSON().getJsonValue();
-        }
-    }
-
-    private static JsonValue parse(final Reader reader, final boolean allowComments) throws IOException {
-        try (JSONCellReader jsonReader =
-            JSONCellReaderFactory.getInstance().createJSONCellReader(reader, allowComments)) {
-            return jsonReader.readJSON().getJsonValue();
-        }
+        return JSONMapperRegistry.readValue(jsonString, false);
     }
 
     /**
@@ -233,9 +282,16 @@ public String toString() {
      */
     @Override
     public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
         if (obj instanceof JSONCellContent) {
             JSONCellContent that = (JSONCellContent)obj;
-            return this.getJsonValue().equals(that.getJsonValue());
+            if (m_jsonString.equals(that.m_jsonString)) {
+                return true;
+            }
+            // the trees are only compared when the structural hashes match (e.g. different member order)
+            return hashCode() == that.hashCode() && Objects.equals(getJsonValue(), that.getJsonValue());
         } else {
             return false;
         }
@@ -246,6 +302,31 @@ public boolean equals(final Object obj) {
      */
     @Override
     public int hashCode() {
-        return getJsonValue().hashCode();
+        int hash = m_hash;
+        if (hash == 0) {
+            // computed on the string without creating the tree, same as the hash code of the tree
+            final JsonValue json = m_content.get();
+            hash = json == null ? JSONStructuralHash.hash(m_jsonString) : json.hashCode();
+            m_hash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * @param value a {@link JSONValue}
+     * @return The {@link JSONCellContent} of {@code value} when it is one of the JSON cell implementations,
+     *         {@code null} otherwise.
+     */
+    static JSONCellContent of(final JSONValue value) {
+        if (value instanceof JSONCellContent) {
+            return (JSONCellContent)value;
+        } else if (value instanceof JSONCell) {
+            return ((JSONCell)value).getContent();
+        } else if (value instanceof JSONBlobCell) {
+            return ((JSONBlobCell)value).getContent();
+        } else if (value instanceof JSONFileStoreCell) {
+            return ((JSONFileStoreCell)value).getJSONContent();
+        }
+        return null;
     }
 }
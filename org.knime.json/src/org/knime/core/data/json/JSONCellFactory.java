@@ -60,9 +60,16 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.container.BlobDataCell;
 import org.knime.core.data.convert.DataCellFactoryMethod;
+import org.knime.core.data.json.internal.JSONNormalizer;
 import org.knime.core.data.xml.XMLCellFactory;
 import org.knime.core.node.NodeLogger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.JsonNode;
+
 import jakarta.json.JsonValue;
 
 /**
@@ -82,11 +89,19 @@ public final class JSONCellFactory implements FromSimpleString, FromComplexStrin
      */
     public static final int DEF_MIN_BLOB_SIZE_IN_BYTES = 8 * 1024;
 
-    private static final int MIN_BLOB_SIZE_IN_BYTES;
+    private static final int MIN_BLOB_SIZE_IN_BYTES =
+        (int)getSizeProperty("org.knime.jsonminblobsize", DEF_MIN_BLOB_SIZE_IN_BYTES, "min blob size for JSON cells");
 
-    static {
-        int size = DEF_MIN_BLOB_SIZE_IN_BYTES;
-        String envVar = "org.knime.jsonminblobsize";
+    /**
+     * Reads a size from a system property, which can have a {@code k} or {@code m} suffix.
+     *
+     * @param envVar the name of the system property
+     * @param defaultSize the size to use when the property is not set or cannot be parsed
+     * @param description what the size is used for (for logging)
+     * @return The size from the property, or {@code defaultSize}.
+     */
+    static long getSizeProperty(final String envVar, final long defaultSize, final String description) {
+        long size = defaultSize;
         String property = System.getProperty(envVar);
         if (property != null) {
             String s = property.trim();
@@ -103,15 +118,15 @@ public final class JSONCellFactory implements FromSimpleString, FromComplexStrin
                 if (newSize < 0) {
                     throw new NumberFormatException("Size < 0" + newSize);
                 }
-                size = newSize * multiplier;
+                size = (long)newSize * multiplier;
                 NodeLogger.getLogger(JSONCellFactory.class)
-                    .debug("Setting min blob size for JSON cells to " + size + " bytes");
+                    .debug("Setting " + description + " to " + size + " bytes");
             } catch (NumberFormatException e) {
                 NodeLogger.getLogger(JSONCellFactory.class)
                     .warn("Unable to parse property " + envVar + ", using default", e);
             }
         }
-        MIN_BLOB_SIZE_IN_BYTES = size;
+        return size;
     }
 
     /** Type for JSON cells. */
@@ -196,6 +211,34 @@ public static DataCell create(final InputStream is, final boolean allowComments)
         }
     }
 
+    /**
+     * Factory method to create {@link DataCell} representing the JSON in {@code bytes}, for example the content of a
+     * file. The bytes are parsed directly, neither copied nor decoded to characters first. The returned cell is either
+     * of type {@link JSONCell} (for small documents) or {@link JSONBlobCell} (otherwise, default threshold is
+     * {@value #DEF_MIN_BLOB_SIZE_IN_BYTES} bytes or larger).
+     *
+     * @param bytes the bytes of the JSON (encoding is detected, default is {@code UTF-8})
+     * @param offset the offset of the JSON in {@code bytes}
+     * @param length the length of the JSON in bytes
+     * @param allowComments allow or not comments in the JSON
+     * @return DataCell representing the JSON
+     * @throws IOException if the bytes are not a valid JSON
+     * @throws NullPointerException if {@code bytes} is null
+     * @since 5.2
+     */
+    public static DataCell create(final byte[] bytes, final int offset, final int length,
+        final boolean allowComments) throws IOException {
+        if (bytes == null) {
+            throw new NullPointerException("Bytes must not be null");
+        }
+        JSONCellContent content = new JSONCellContent(bytes, offset, length, allowComments);
+        if (content.getStringValue().length() >= MIN_BLOB_SIZE_IN_BYTES) {
+            return new JSONBlobCell(content);
+        } else {
+            return new JSONCell(content);
+        }
+    }
+
     /**
      * Factory method to create {@link DataCell} representing {@link JsonValue}. The returned cell is either of type
      * {@link JSONCell} (for small documents) or {@link JSONBlobCell} (otherwise, default threshold is
@@ -219,6 +262,112 @@ public static DataCell create(final Reader reader, final boolean allowComments)
         }
     }
 
+    /**
+     * Factory method to create {@link DataCell} representing the value at the current token of {@code parser}, for
+     * example one of the values in a stream of documents. The value is validated and normalized while it is read, the
+     * parser is positioned at the last token of the value after the call. The returned cell is either of type
+     * {@link JSONCell} (for small documents) or {@link JSONBlobCell} (otherwise, default threshold is
+     * {@value #DEF_MIN_BLOB_SIZE_IN_BYTES} bytes or larger).
+     *
+     * @param parser a parser positioned at the first token of a value (comments are allowed when the parser allows
+     *            them)
+     * @return DataCell representing the JSON
+     * @throws IOException if the value is not valid JSON or could not be read
+     * @throws NullPointerException if argument is null
+     * @since 5.2
+     */
+    public static DataCell create(final JsonParser parser) throws IOException {
+        if (parser == null) {
+            throw new NullPointerException("JsonParser must not be null");
+        }
+        if (parser.currentToken() == null) {
+            throw new IOException("The parser is not positioned at a value");
+        }
+        JSONCellContent content =
+            new JSONCellContent(JSONNormalizer.normalizeCurrentValue(parser, JSONCellContent.PRETTY_STORAGE), false);
+        if (content.getStringValue().length() >= MIN_BLOB_SIZE_IN_BYTES) {
+            return new JSONBlobCell(content);
+        } else {
+            return new JSONCell(content);
+        }
+    }
+
+    /**
+     * Writes a JSON document to a {@link JsonGenerator}.
+     *
+     * @since 5.2
+     */
+    @FunctionalInterface
+    public interface DocumentWriter {
+        /**
+         * Writes a single JSON value (with its children) to {@code generator}.
+         *
+         * @param generator the target, must not be closed
+         * @throws IOException if the document could not be written
+         */
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Factory method to create {@link DataCell} representing a document written incrementally by {@code writer}, for
+     * example one generated from the rows of a table. The generator produces the normalized representation of the
+     * cells, so no {@link JsonValue} tree is built and the written string is used as the content of the cell without
+     * tokenizing it again (the tree is only parsed when it is requested). The writer is responsible for writing a
+     * single valid value; the document must not contain objects with duplicate keys. The written text is kept in
+     * memory and copied once to the string of the cell, so the peak memory use is a small multiple of the size of the
+     * document. The returned cell is either of type {@link JSONCell} (for small documents) or {@link JSONBlobCell}
+     * (otherwise, default threshold is {@value #DEF_MIN_BLOB_SIZE_IN_BYTES} bytes or larger).
+     *
+     * @param writer writes the document
+     * @return DataCell representing the JSON
+     * @throws IOException if the document could not be written
+     * @throws NullPointerException if argument is null
+     * @since 5.2
+     */
+    public static DataCell create(final DocumentWriter writer) throws IOException {
+        if (writer == null) {
+            throw new NullPointerException("DocumentWriter must not be null");
+        }
+        // unlike a StringWriter, neither synchronized nor copied when growing (as in ObjectMapper.writeValueAsString)
+        final SegmentedStringWriter out = new SegmentedStringWriter(new BufferRecycler());
+        try (JsonGenerator generator = JSONNormalizer.createGenerator(out, JSONCellContent.PRETTY_STORAGE)) {
+            writer.write(generator);
+        }
+        // the generator already produced the normalized string, it is used as is (not checked), the segments are
+        // released once it is created
+        final String json = out.getAndClear();
+        JSONCellContent content = new JSONCellContent(json, false);
+        if (json.length() >= MIN_BLOB_SIZE_IN_BYTES) {
+            return new JSONBlobCell(content);
+        } else {
+            return new JSONCell(content);
+        }
+    }
+
+    /**
+     * Factory method to create {@link DataCell} representing an already parsed Jackson {@link JsonNode}, for example
+     * one returned by a streaming JSONPath evaluation. The node is converted to the cell's tree representation which is
+     * kept with the cell, so neither the string nor the tree has to be parsed again. The returned cell is either of
+     * type {@link JSONCell} (for small documents) or {@link JSONBlobCell} (otherwise, default threshold is
+     * {@value #DEF_MIN_BLOB_SIZE_IN_BYTES} bytes or larger).
+     *
+     * @param node The cell represents this value.
+     * @return DataCell representing the JSON
+     * @throws NullPointerException if argument is null
+     * @since 5.2
+     */
+    public static DataCell create(final JsonNode node) {
+        if (node == null) {
+            throw new NullPointerException("JsonNode must not be null");
+        }
+        JSONCellContent content = new JSONCellContent(JacksonConversions.getInstance().toJSR353(node));
+        if (content.getStringValue().length() >= MIN_BLOB_SIZE_IN_BYTES) {
+            return new JSONBlobCell(content);
+        } else {
+            return new JSONCell(content);
+        }
+    }
+
     /**
      * Factory method to create {@link DataCell} representing {@link JsonValue}. The returned cell is either of type
      * {@link JSONCell} (for small documents) or {@link JSONBlobCell} (otherwise, default threshold is
@@ -73,15 +73,24 @@ public class JSONFileStoreCell extends ObjectSerializerFileStoreCell<JSONCellCon
     private static final ObjectSerializer<JSONCellContent> SERIALIZER =
         (output, object) -> JSONValueFactory.SERIALIZER.serialize(output, object);
 
-    private static final ObjectDeserializer<JSONCellContent> DESERIALIZER =
-        input -> new JSONCellContent(JSONValueFactory.DESERIALIZER.deserialize(input).getJsonValue());
+    private static final ObjectDeserializer<JSONCellContent> DESERIALIZER = JSONValueFactory.CONTENT_DESERIALIZER;
 
     /**
      * @param createFileStore
      * @param content
      */
     JSONFileStoreCell(final FileStore fs, final JSONValue content) {
-        super(fs, new JSONCellContent(content.getJsonValue()), SERIALIZER, DESERIALIZER);
+        super(fs, toContent(content), SERIALIZER, DESERIALIZER);
+    }
+
+    private static JSONCellContent toContent(final JSONValue value) {
+        if (value instanceof JSONBlobCell) {
+            // no need to parse and serialize again
+            return ((JSONBlobCell)value).getContent();
+        } else if (value instanceof JSONCellContent) {
+            return (JSONCellContent)value;
+        }
+        return new JSONCellContent(value.getJsonValue());
     }
 
     /**
@@ -115,6 +124,10 @@ public String toString() {
         return getStringValue();
     }
 
+    JSONCellContent getJSONContent() {
+        return getContent();
+    }
+
     /**
      * Serializer for {@link JSONFileStoreCell}s
      *
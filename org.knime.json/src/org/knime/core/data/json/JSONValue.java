@@ -89,6 +89,12 @@ public interface JSONValue extends DataValue {
      * @since 3.0
      */
     static boolean equalContent(final JSONValue v1, final JSONValue v2) {
+        final JSONCellContent c1 = JSONCellContent.of(v1);
+        final JSONCellContent c2 = JSONCellContent.of(v2);
+        if (c1 != null && c2 != null) {
+            // compares the strings and structural hashes before creating the trees
+            return c1.equals(c2);
+        }
         return Objects.equals(v1.getJsonValue(), v2.getJsonValue());
     }
 
@@ -75,7 +75,14 @@ public class JSONValueFactory extends TableOrFileStoreValueFactory<JSONValue> {
 
     static final ObjectSerializer<JSONValue> SERIALIZER = (out, value) -> out.writeUTF(value.toString());
 
-    static final ObjectDeserializer<JSONValue> DESERIALIZER = in -> new JSONCellContent(in.readUTF(), true);
+    /**
+     * The data in the table was validated when it was written, so it is not parsed again here. Parsing only happens
+     * when the {@link JsonValue} is requested.
+     */
+    static final ObjectDeserializer<JSONCellContent> CONTENT_DESERIALIZER =
+        in -> new JSONCellContent(in.readUTF(), false);
+
+    static final ObjectDeserializer<JSONValue> DESERIALIZER = CONTENT_DESERIALIZER::deserialize;
 
     /**
      * Create an instance of the {@link JSONValueFactory}
@@ -96,6 +103,10 @@ public JsonValue getJsonValue() {
 
         @Override
         protected DataCell createCell(final JSONValue data) {
+            if (data instanceof JSONCellContent) {
+                // reuse the (lazily parsed) content
+                return new JSONCell((JSONCellContent)data);
+            }
             return new JSONCell(new JSONCellContent(data.getJsonValue()));
         }
 
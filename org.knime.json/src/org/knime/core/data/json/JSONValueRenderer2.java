@@ -46,17 +46,17 @@
  */
 package org.knime.core.data.json;
 
+import java.io.IOException;
+
 import org.apache.commons.lang3.StringUtils;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.renderer.AbstractDataValueRendererFactory;
 import org.knime.core.data.renderer.DataValueRenderer;
 import org.knime.core.data.renderer.MultiLineStringValueRenderer;
 import org.knime.core.data.xml.XMLValueRenderer;
+import org.knime.core.node.NodeLogger;
 import org.knime.json.util.JSONUtil;
 
-import jakarta.json.JsonStructure;
-import jakarta.json.JsonValue;
-
 /**
  * Default (multi-line String) renderer for JSON values. <br/>
  * Based on {@link XMLValueRenderer}.
@@ -68,6 +68,8 @@
  */
 @SuppressWarnings("serial")
 public final class JSONValueRenderer2 extends MultiLineStringValueRenderer {
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(JSONValueRenderer2.class);
+
     /**
      * Maximum number of characters to render
      */
@@ -100,8 +102,8 @@ public DataValueRenderer createRenderer(final DataColumnSpec colSpec) {
     }
 
     /**
-     * {@inheritDoc} Performance improvement for large JSON values Only pretty print JSONs smaller than
-     * {@link JSONValueRenderer2#MAX_RENDER_CHARS} otherwise truncate the string value
+     * {@inheritDoc} Performance improvement for large JSON values: the stored (compact) string is pretty printed on
+     * the token stream, only the first {@link JSONValueRenderer2#MAX_RENDER_CHARS} characters are converted.
      */
     @Override
     protected void setValue(final Object value) {
@@ -111,11 +113,11 @@ protected void setValue(final Object value) {
         }
         String s;
         s = ((JSONValue)value).toString();
-        if (s.length() < MAX_RENDER_CHARS) {
-            JsonValue v = ((JSONValue)value).getJsonValue();
-            if (v instanceof JsonStructure) {
-                s = JSONUtil.toPrettyJSONString(v);
-            }
+        try {
+            s = JSONUtil.toPrettyJSONString(s, MAX_RENDER_CHARS);
+        } catch (IOException e) {
+            // should not happen, the cells contain valid JSON, show the raw content
+            LOGGER.debug("Could not pretty print JSON value: " + e.getMessage(), e);
         }
         s = StringUtils.abbreviate(s, MAX_RENDER_CHARS);
         super.setValue(s);
@@ -0,0 +1,210 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.core.data.json.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+import org.knime.core.util.JsonUtil;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsonp.JSONPModule;
+
+import jakarta.json.JsonValue;
+
+/**
+ * Process-wide registry of preconfigured {@link ObjectReader}s and {@link ObjectWriter}s for JSR-353
+ * {@link JsonValue}s. <br/>
+ * Readers and writers are immutable and thread-safe, so they are created (and their (de)serializer caches warmed up)
+ * only once per feature set instead of once per cell.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class JSONMapperRegistry {
+    private static final ObjectReader STRICT_READER = createReader(false);
+
+    private static final ObjectReader LENIENT_READER = createReader(true);
+
+    private static final ObjectWriter INDENTING_WRITER = createWriter(true);
+
+    private static final ObjectWriter COMPACT_WRITER = createWriter(false);
+
+    private JSONMapperRegistry() {
+    }
+
+    /**
+     * @param allowComments allow or not (java and YAML style) comments in the parsed documents
+     * @return The shared {@link ObjectReader} reading {@link JsonValue}s.
+     */
+    public static ObjectReader getReader(final boolean allowComments) {
+        return allowComments ? LENIENT_READER : STRICT_READER;
+    }
+
+    /**
+     * @param indent whether the output should be pretty printed
+     * @return The shared {@link ObjectWriter} writing {@link JsonValue}s. It does not close the target.
+     */
+    public static ObjectWriter getWriter(final boolean indent) {
+        return indent ? INDENTING_WRITER : COMPACT_WRITER;
+    }
+
+    /**
+     * Parses a single JSON document, there must be no content after it.
+     *
+     * @param json the JSON document
+     * @param allowComments allow or not comments in the document
+     * @return The parsed {@link JsonValue}.
+     * @throws IOException If the document is not valid JSON.
+     */
+    public static JsonValue readValue(final String json, final boolean allowComments) throws IOException {
+        final ObjectReader reader = getReader(allowComments);
+        try (JsonParser parser = reader.getFactory().createParser(json)) {
+            return readValue(reader, parser);
+        }
+    }
+
+    /**
+     * Parses a single JSON document, there must be no content after it. Closes {@code json}.
+     *
+     * @param json the JSON document
+     * @param allowComments allow or not comments in the document
+     * @return The parsed {@link JsonValue}.
+     * @throws IOException If the document is not valid JSON or could not be read.
+     */
+    public static JsonValue readValue(final Reader json, final boolean allowComments) throws IOException {
+        final ObjectReader reader = getReader(allowComments);
+        try (JsonParser parser = reader.getFactory().createParser(json)) {
+            return readValue(reader, parser);
+        }
+    }
+
+    /**
+     * Parses a single JSON document, there must be no content after it. Closes {@code json}.
+     *
+     * @param json the JSON document (encoding is detected by Jackson, default is {@code UTF-8})
+     * @param allowComments allow or not comments in the document
+     * @return The parsed {@link JsonValue}.
+     * @throws IOException If the document is not valid JSON or could not be read.
+     */
+    public static JsonValue readValue(final InputStream json, final boolean allowComments) throws IOException {
+        final ObjectReader reader = getReader(allowComments);
+        try (JsonParser parser = reader.getFactory().createParser(json)) {
+            return readValue(reader, parser);
+        }
+    }
+
+    /**
+     * Reads a single JSON document from {@code parser} and checks that there is no content after it.
+     *
+     * @param reader the {@link ObjectReader} that created the parser
+     * @param parser the parser positioned before the document
+     * @return The parsed {@link JsonValue}.
+     * @throws IOException If the document is not valid JSON or there is content after it.
+     */
+    static JsonValue readValue(final ObjectReader reader, final JsonParser parser) throws IOException {
+        final JsonValue json = reader.readValue(parser);
+        checkEndOfInput(parser);
+        return json;
+    }
+
+    /**
+     * Checks that there is no content after the document just read from {@code parser}. The error is the same whether
+     * the content is a valid token or not, and whether the document was read as a tree or streamed.
+     *
+     * @param parser the parser positioned at the last token of the document
+     * @throws IOException If there is content after the document.
+     */
+    static void checkEndOfInput(final JsonParser parser) throws IOException {
+        final JsonLocation location = parser.getCurrentLocation();
+        final JsonToken nextToken;
+        try {
+            nextToken = parser.nextToken();
+        } catch (RuntimeException | JsonParseException e) {
+            throw contentAfterEnd(location, e);
+        }
+        if (nextToken != null) {
+            throw contentAfterEnd(location, null);
+        }
+    }
+
+    private static IOException contentAfterEnd(final JsonLocation location, final Exception cause) {
+        return new IOException("Expected end of input, but there were content after line: " + location.getLineNr()
+            + " column: " + location.getColumnNr(), cause);
+    }
+
+    private static ObjectMapper newJSONPMapper() {
+        return JacksonConversionsImpl.INSTANCE.newMapper().registerModule(new JSONPModule(JsonUtil.getProvider()));
+    }
+
+    private static ObjectReader createReader(final boolean allowComments) {
+        final ObjectMapper mapper = newJSONPMapper();
+        // the factory belongs to this mapper only, so it is safe to configure it
+        mapper.getFactory().configure(JsonParser.Feature.ALLOW_COMMENTS, allowComments)
+            .configure(JsonParser.Feature.ALLOW_YAML_COMMENTS, allowComments);
+        return mapper.readerFor(JsonValue.class);
+    }
+
+    private static ObjectWriter createWriter(final boolean indent) {
+        final ObjectMapper mapper = newJSONPMapper().configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT, false)
+            .disable(SerializationFeature.CLOSE_CLOSEABLE);
+        final ObjectWriter writer = mapper.writerFor(JsonValue.class);
+        return indent ? writer.with(SerializationFeature.INDENT_OUTPUT)
+            : writer.without(SerializationFeature.INDENT_OUTPUT);
+    }
+}
@@ -53,24 +53,18 @@
 import org.knime.core.data.json.JSONCell;
 import org.knime.core.data.json.JSONCellWriter;
 import org.knime.core.data.json.JSONValue;
-import org.knime.core.data.json.JacksonConversions;
-import org.knime.core.util.JsonUtil;
 
-import com.fasterxml.jackson.core.JsonGenerator.Feature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsonp.JSONPModule;
-
-import jakarta.json.JsonValue;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 /**
- * An @link{JSONCellWriter} to write {@link JSONCell}s that can optionally be enclosed in a root element.
+ * An @link{JSONCellWriter} to write {@link JSONCell}s that can optionally be enclosed in a root element. <br/>
+ * The stored text of the cells is copied to the output token by token (see
+ * {@link JSONNormalizer#copyValue(JSONValue, JsonGenerator)}), so writing does not create
+ * their {@link jakarta.json.JsonValue} trees.
  *
  * @author Heiko Hofer
  */
 class JSONMultiCellWriter implements JSONCellWriter {
-    private ObjectMapper m_writer;
-
     private final OutputStream m_os;
 
     /**
@@ -80,28 +74,18 @@ class JSONMultiCellWriter implements JSONCellWriter {
      * @throws IOException when header could not be written.
      */
     JSONMultiCellWriter(final OutputStream os) throws IOException {
-        initWriter();
         m_os = os;
     }
 
-    /**
-     * Initialize the stream writer object.
-     */
-    private void initWriter() {
-        ObjectMapper mapper =
-            JacksonConversions.getInstance().newMapper().configure(Feature.AUTO_CLOSE_TARGET, false)
-                .configure(Feature.AUTO_CLOSE_JSON_CONTENT, false);
-        m_writer = mapper.registerModule(new JSONPModule(JsonUtil.getProvider()));
-        m_writer.disable(SerializationFeature.CLOSE_CLOSEABLE);
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public void write(final JSONValue cell) throws IOException {
-        JsonValue json = cell.getJsonValue();
-        m_writer.writeValue(m_os, json);
+        // a new generator per value, like ObjectWriter#writeValue, so consecutive values are not separated
+        try (JsonGenerator generator = JSONNormalizer.createGenerator(m_os, true)) {
+            JSONNormalizer.copyValue(cell, generator);
+        }
     }
 
     /**
@@ -109,7 +93,7 @@ public void write(final JSONValue cell) throws IOException {
      */
     @Override
     public void close() throws IOException {
-        // close stream since m_writer.close() does no necessarily do it
+        // close stream since the generators do not do it
         m_os.close();
     }
 }
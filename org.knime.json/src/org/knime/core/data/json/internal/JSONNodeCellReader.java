@@ -47,7 +47,6 @@
  */
 package org.knime.core.data.json.internal;
 
-import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
@@ -55,19 +54,12 @@
 import org.knime.core.data.json.JSONCellFactory;
 import org.knime.core.data.json.JSONCellReader;
 import org.knime.core.data.json.JSONValue;
-import org.knime.core.data.json.JacksonConversions;
 import org.knime.core.data.xml.io.XMLCellReader;
-import org.knime.core.util.JsonUtil;
 import org.xml.sax.InputSource;
 
 import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonLocation;
-import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
-import com.fasterxml.jackson.datatype.jsonp.JSONPModule;
 
 import jakarta.json.JsonValue;
 
@@ -87,14 +79,7 @@ class JSONNodeCellReader implements JSONCellReader {
 
     private JSONNodeCellReader(final InputSource is, final boolean allowComments) {
         m_in = is;
-        ObjectMapper mapper =
-            JacksonConversions.getInstance().newMapper().registerModule(new JSONPModule(JsonUtil.getProvider()));
-        ObjectReader reader = mapper.reader();
-        JsonFactory factory = reader.getFactory();
-        factory = factory.configure(JsonParser.Feature.ALLOW_COMMENTS, allowComments);
-        factory = factory.configure(JsonParser.Feature.ALLOW_YAML_COMMENTS, allowComments);
-        reader = reader.with(factory);
-        m_builder = reader;
+        m_builder = JSONMapperRegistry.getReader(allowComments);
     }
 
     /**
@@ -140,17 +125,7 @@ public JSONValue readJSON() throws IOException {
             } else {
                 parser = jsonFactory.createParser(m_in.getByteStream());
             }
-            json = m_builder.readValue(parser, JsonValue.class);
-            final JsonLocation location = parser.getCurrentLocation();
-            try {
-                JsonToken nextToken = parser.nextToken();
-                if (nextToken != null) {
-                    throw new EOFException("Expected end of input, but there were content: " + nextToken);
-                }
-            } catch (RuntimeException | JsonParseException e) {
-                throw new IOException("Expected end of input, but there were content after line: "
-                    + location.getLineNr() + " column: " + location.getColumnNr(), e);
-            }
+            json = JSONMapperRegistry.readValue(m_builder, parser);
             return (JSONValue)JSONCellFactory.create(json);
         } else {
             return null;
@@ -0,0 +1,367 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.core.data.json.internal;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.knime.core.data.StringValue;
+import org.knime.core.data.json.JSONBlobCell;
+import org.knime.core.data.json.JSONCell;
+import org.knime.core.data.json.JSONFileStoreCell;
+import org.knime.core.data.json.JSONValue;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+
+import jakarta.json.JsonValue;
+
+/**
+ * Validates and normalizes JSON documents in a single pass over the token stream, without building a
+ * {@link JsonValue} tree and serializing it again. <br/>
+ * The result is the same as parsing with {@link JSONMapperRegistry#getReader(boolean)} and writing with
+ * {@link JSONMapperRegistry#getWriter(boolean)}. Documents with duplicate keys (where the last value wins in the tree)
+ * are normalized through the tree.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class JSONNormalizer {
+    private JSONNormalizer() {
+    }
+
+    /**
+     * Validates and normalizes a JSON document.
+     *
+     * @param json a JSON document
+     * @param allowComments allow or not comments in {@code json}
+     * @param indent whether the result should be pretty printed
+     * @return The normalized JSON string.
+     * @throws IOException If {@code json} is not a valid JSON document.
+     */
+    public static String normalize(final String json, final boolean allowComments, final boolean indent)
+        throws IOException {
+        final JsonFactory factory = JSONMapperRegistry.getReader(allowComments).getFactory();
+        try (JsonParser parser = factory.createParser(json)) {
+            final String normalized = tryNormalize(parser, indent);
+            if (normalized != null) {
+                return normalized;
+            }
+        } catch (JsonProcessingException e) { // NOSONAR the tree based path reports the proper error
+        }
+        return JSONMapperRegistry.getWriter(indent)
+            .writeValueAsString(JSONMapperRegistry.readValue(json, allowComments));
+    }
+
+    /**
+     * Validates and normalizes a JSON document. Closes {@code json}.
+     *
+     * @param json a JSON document (encoding is detected by Jackson, default is {@code UTF-8})
+     * @param allowComments allow or not comments in {@code json}
+     * @param indent whether the result should be pretty printed
+     * @return The normalized JSON string.
+     * @throws IOException If {@code json} is not a valid JSON document or could not be read.
+     */
+    public static String normalize(final InputStream json, final boolean allowComments, final boolean indent)
+        throws IOException {
+        final byte[] bytes;
+        try (InputStream is = json) {
+            bytes = is.readAllBytes();
+        }
+        return normalize(bytes, 0, bytes.length, allowComments, indent);
+    }
+
+    /**
+     * Validates and normalizes a JSON document given as bytes, without copying or decoding them first.
+     *
+     * @param json the bytes of a JSON document (encoding is detected by Jackson, default is {@code UTF-8})
+     * @param offset the offset of the document in {@code json}
+     * @param length the length of the document in bytes
+     * @param allowComments allow or not comments in {@code json}
+     * @param indent whether the result should be pretty printed
+     * @return The normalized JSON string.
+     * @throws IOException If {@code json} is not a valid JSON document.
+     */
+    public static String normalize(final byte[] json, final int offset, final int length,
+        final boolean allowComments, final boolean indent) throws IOException {
+        final JsonFactory factory = JSONMapperRegistry.getReader(allowComments).getFactory();
+        try (JsonParser parser = factory.createParser(json, offset, length)) {
+            final String normalized = tryNormalize(parser, indent);
+            if (normalized != null) {
+                return normalized;
+            }
+        } catch (JsonProcessingException e) { // NOSONAR the tree based path reports the proper error
+        }
+        final JsonValue tree;
+        try (JsonParser parser = factory.createParser(json, offset, length)) {
+            tree = JSONMapperRegistry.readValue(JSONMapperRegistry.getReader(allowComments), parser);
+        }
+        return JSONMapperRegistry.getWriter(indent).writeValueAsString(tree);
+    }
+
+    /**
+     * Validates and normalizes a JSON document. Closes {@code json}.
+     *
+     * @param json a JSON document
+     * @param allowComments allow or not comments in {@code json}
+     * @param indent whether the result should be pretty printed
+     * @return The normalized JSON string.
+     * @throws IOException If {@code json} is not a valid JSON document or could not be read.
+     */
+    public static String normalize(final Reader json, final boolean allowComments, final boolean indent)
+        throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        try (Reader reader = json) {
+            final char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) >= 0) {
+                sb.append(buffer, 0, read);
+            }
+        }
+        return normalize(sb.toString(), allowComments, indent);
+    }
+
+    /**
+     * Validates and normalizes the value at the current token of {@code parser}, for example one of the values in a
+     * stream of documents. After the call the parser is positioned at the last token of the value.
+     *
+     * @param parser a parser positioned at the first token of a value
+     * @param indent whether the result should be pretty printed
+     * @return The normalized JSON string.
+     * @throws IOException If the value is not valid JSON or could not be read.
+     */
+    public static String normalizeCurrentValue(final JsonParser parser, final boolean indent) throws IOException {
+        final StringWriter out = new StringWriter();
+        final boolean duplicateKeys;
+        try (JsonGenerator generator = createGenerator(out, indent)) {
+            duplicateKeys = copyCurrentStructureFindingDuplicates(parser, generator);
+        }
+        if (!duplicateKeys) {
+            return out.toString();
+        }
+        // the last value wins, as in the tree
+        return JSONMapperRegistry.getWriter(indent)
+            .writeValueAsString(JSONMapperRegistry.readValue(out.toString(), false));
+    }
+
+    /**
+     * Same as {@link #copyCurrentStructure(JsonParser, JsonGenerator)}, but also checks the keys of the objects.
+     *
+     * @return Whether there was an object with a duplicate key.
+     */
+    private static boolean copyCurrentStructureFindingDuplicates(final JsonParser parser,
+        final JsonGenerator generator) throws IOException {
+        final Deque<Set<String>> keys = new ArrayDeque<>();
+        boolean duplicateKeys = false;
+        int depth = 0;
+        JsonToken token = parser.currentToken();
+        do {
+            if (token.isStructStart()) {
+                depth++;
+                if (token == JsonToken.START_OBJECT) {
+                    keys.push(new HashSet<>());
+                }
+            } else if (token.isStructEnd()) {
+                depth--;
+                if (token == JsonToken.END_OBJECT) {
+                    keys.pop();
+                }
+            } else if (token == JsonToken.FIELD_NAME) {
+                duplicateKeys |= !keys.peek().add(parser.getCurrentName());
+            }
+            copyCurrentEvent(parser, generator);
+        } while (depth > 0 && (token = parser.nextToken()) != null);
+        if (depth > 0) {
+            throw new EOFException("Unexpected end of input");
+        }
+        return duplicateKeys;
+    }
+
+    /**
+     * Copies a single document from {@code parser}, rejecting duplicate keys.
+     *
+     * @return The normalized document, or {@code null} if there was no content.
+     */
+    private static String tryNormalize(final JsonParser parser, final boolean indent) throws IOException {
+        parser.enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+        if (parser.nextToken() == null) {
+            return null;
+        }
+        final StringWriter out = new StringWriter();
+        try (JsonGenerator generator = createGenerator(out, indent)) {
+            copyCurrentStructure(parser, generator);
+        }
+        // not a JsonProcessingException, so the message is the same as on the tree based path
+        JSONMapperRegistry.checkEndOfInput(parser);
+        return out.toString();
+    }
+
+    /**
+     * Creates a generator producing the same output as {@link JSONMapperRegistry#getWriter(boolean)}. It does not
+     * close {@code out} and does not complete unfinished structures on close.
+     *
+     * @param out the target
+     * @param indent whether the output should be pretty printed
+     * @return A new {@link JsonGenerator}.
+     * @throws IOException If the generator could not be created.
+     */
+    public static JsonGenerator createGenerator(final Writer out, final boolean indent) throws IOException {
+        final JsonGenerator generator = JSONMapperRegistry.getWriter(indent).getFactory().createGenerator(out);
+        generator.enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+        if (indent) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+        }
+        return generator;
+    }
+
+    /**
+     * Creates a generator producing the same (UTF-8 encoded) output as {@link JSONMapperRegistry#getWriter(boolean)}.
+     * It does not close {@code out} and does not complete unfinished structures on close.
+     *
+     * @param out the target
+     * @param indent whether the output should be pretty printed
+     * @return A new {@link JsonGenerator}.
+     * @throws IOException If the generator could not be created.
+     */
+    public static JsonGenerator createGenerator(final OutputStream out, final boolean indent) throws IOException {
+        final JsonGenerator generator =
+            JSONMapperRegistry.getWriter(indent).getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+        if (indent) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+        }
+        return generator;
+    }
+
+    /**
+     * Writes {@code value} to {@code generator}. The stored text of the JSON cells is streamed through a parser into
+     * the generator token by token (so the generator's pretty printer re-indents it), neither the {@link JsonValue}
+     * tree nor an intermediate string is created. Other {@link JSONValue}s are written from their tree.
+     *
+     * @param value the value to write
+     * @param generator the target
+     * @throws IOException If the stored text is not valid JSON or the output could not be written.
+     */
+    public static void copyValue(final JSONValue value, final JsonGenerator generator) throws IOException {
+        if (value instanceof JSONCell || value instanceof JSONBlobCell || value instanceof JSONFileStoreCell) {
+            try (JsonParser parser =
+                JSONMapperRegistry.getReader(false).getFactory().createParser(((StringValue)value).getStringValue())) {
+                parser.nextToken();
+                copyCurrentStructure(parser, generator);
+            }
+        } else {
+            JSONMapperRegistry.getWriter(false).writeValue(generator, value.getJsonValue());
+        }
+    }
+
+    /**
+     * Copies the value at the current token of {@code parser} (including its children) to {@code generator}. After the
+     * call the parser is positioned at the last token of the value.
+     *
+     * @param parser a parser positioned at the first token of a value
+     * @param generator the target
+     * @throws IOException If the input is not valid JSON or the output could not be written.
+     * @see #copyCurrentEvent(JsonParser, JsonGenerator)
+     */
+    public static void copyCurrentStructure(final JsonParser parser, final JsonGenerator generator)
+        throws IOException {
+        int depth = 0;
+        JsonToken token = parser.currentToken();
+        do {
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            copyCurrentEvent(parser, generator);
+        } while (depth > 0 && (token = parser.nextToken()) != null);
+        if (depth > 0) {
+            throw new EOFException("Unexpected end of input");
+        }
+    }
+
+    /**
+     * Copies the current token of {@code parser} to {@code generator}. Unlike
+     * {@link JsonGenerator#copyCurrentEvent(JsonParser)} numbers are copied exactly, floating point values as
+     * {@link java.math.BigDecimal}s.
+     *
+     * @param parser a parser positioned at a token
+     * @param generator the target
+     * @throws IOException If the input is not valid JSON or the output could not be written.
+     */
+    public static void copyCurrentEvent(final JsonParser parser, final JsonGenerator generator) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    generator.writeNumber(parser.getBigIntegerValue());
+                } else {
+                    generator.writeNumber(parser.getLongValue());
+                }
+                break;
+            case VALUE_NUMBER_FLOAT:
+                generator.writeNumber(parser.getDecimalValue());
+                break;
+            default:
+                generator.copyCurrentEvent(parser);
+        }
+    }
+}
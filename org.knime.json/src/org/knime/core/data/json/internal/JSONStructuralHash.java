@@ -0,0 +1,166 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.core.data.json.internal;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import jakarta.json.JsonValue;
+
+/**
+ * Computes the hash code of JSON documents as specified by the JSR-353 {@link JsonValue} implementations (the sum of
+ * the member hashes for objects, {@link java.util.List#hashCode()} for arrays, {@link BigDecimal#hashCode()} for
+ * numbers), so it does not depend on the order of object members and is consistent with the equality of the trees.
+ * <br/>
+ * The hash of a serialized document is computed on the token stream, without building the tree.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class JSONStructuralHash {
+    private JSONStructuralHash() {
+    }
+
+    /**
+     * Computes the hash code of a serialized JSON document.
+     *
+     * @param json a serialized JSON document
+     * @return The hash, the same as the {@link JsonValue#hashCode()} of the parsed document ({@code 0} for invalid
+     *         JSON).
+     */
+    public static int hash(final String json) {
+        try (JsonParser parser = JSONMapperRegistry.getReader(false).getFactory().createParser(json)) {
+            // duplicate keys collapse in the tree, only the tree based hash handles that
+            parser.enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+            if (parser.nextToken() != null) {
+                return hashCurrentValue(parser);
+            }
+        } catch (JsonParseException e) { // NOSONAR falling back to the tree
+        } catch (IOException e) { // NOSONAR cannot happen for strings, falling back to the tree
+        }
+        try {
+            return Objects.hashCode(JSONMapperRegistry.readValue(json, false));
+        } catch (IOException e) { // NOSONAR not a valid JSON
+            return 0;
+        }
+    }
+
+    /**
+     * Computes the hash of the value starting at the current token, leaves the parser at the last token of it.
+     */
+    private static int hashCurrentValue(final JsonParser parser) throws IOException {
+        // state of the enclosing structures
+        int[] hashes = new int[16];
+        int[] keyHashes = new int[16];
+        boolean[] objects = new boolean[16];
+        int depth = -1;
+        JsonToken token = parser.currentToken();
+        while (true) {
+            int valueHash;
+            switch (token) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    depth++;
+                    if (depth == hashes.length) {
+                        hashes = Arrays.copyOf(hashes, depth * 2);
+                        keyHashes = Arrays.copyOf(keyHashes, depth * 2);
+                        objects = Arrays.copyOf(objects, depth * 2);
+                    }
+                    objects[depth] = token == JsonToken.START_OBJECT;
+                    // Map#hashCode and List#hashCode
+                    hashes[depth] = objects[depth] ? 0 : 1;
+                    token = parser.nextToken();
+                    continue;
+                case FIELD_NAME:
+                    keyHashes[depth] = parser.getCurrentName().hashCode();
+                    token = parser.nextToken();
+                    continue;
+                case END_OBJECT:
+                case END_ARRAY:
+                    valueHash = hashes[depth];
+                    depth--;
+                    break;
+                case VALUE_STRING:
+                    valueHash = parser.getText().hashCode();
+                    break;
+                case VALUE_NUMBER_INT:
+                    valueHash = (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER
+                        ? new BigDecimal(parser.getBigIntegerValue()) : BigDecimal.valueOf(parser.getLongValue()))
+                            .hashCode();
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    valueHash = parser.getDecimalValue().hashCode();
+                    break;
+                case VALUE_TRUE:
+                    valueHash = JsonValue.TRUE.hashCode();
+                    break;
+                case VALUE_FALSE:
+                    valueHash = JsonValue.FALSE.hashCode();
+                    break;
+                default:
+                    valueHash = JsonValue.NULL.hashCode();
+            }
+            if (depth < 0) {
+                return valueHash;
+            }
+            if (objects[depth]) {
+                // Map.Entry#hashCode
+                hashes[depth] += keyHashes[depth] ^ valueHash;
+            } else {
+                hashes[depth] = 31 * hashes[depth] + valueHash;
+            }
+            token = parser.nextToken();
+        }
+    }
+}
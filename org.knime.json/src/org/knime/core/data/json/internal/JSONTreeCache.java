@@ -0,0 +1,222 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.core.data.json.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.json.JsonValue;
+
+/**
+ * A bounded cache of parsed JSON documents shared by the JSON cells, used instead of the per-cell soft references
+ * (which are all cleared at the same time under memory pressure). <br/>
+ * The entries are keyed by the serialized document and weighted by its length, least recently used entries are
+ * evicted when the total weight exceeds the maximum. The cache is split into independently locked segments, the
+ * eviction order is maintained per segment.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class JSONTreeCache {
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment[] m_segments;
+
+    private final long m_maxWeight;
+
+    private final LongAdder m_hits = new LongAdder();
+
+    private final LongAdder m_misses = new LongAdder();
+
+    private final LongAdder m_evictions = new LongAdder();
+
+    /**
+     * @param maxWeight the maximal total length (in characters) of the cached documents, must be positive
+     */
+    public JSONTreeCache(final long maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("The maximal weight must be positive: " + maxWeight);
+        }
+        m_maxWeight = maxWeight;
+        m_segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            m_segments[i] = new Segment(Math.max(1, maxWeight / SEGMENT_COUNT));
+        }
+    }
+
+    /**
+     * @param json a serialized JSON document
+     * @return The cached parsed {@code json}, or {@code null} if it is not in the cache.
+     */
+    public JsonValue get(final String json) {
+        final JsonValue value = segment(json).get(json);
+        if (value == null) {
+            m_misses.increment();
+        } else {
+            m_hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Adds a parsed document to the cache, documents larger than the capacity of a segment are not cached.
+     *
+     * @param json a serialized JSON document
+     * @param value the parsed {@code json}, not {@code null}
+     * @return {@code false} if {@code json} is too large to be cached (the caller has to keep the value itself)
+     */
+    public boolean put(final String json, final JsonValue value) {
+        final int evicted = segment(json).put(json, value);
+        if (evicted < 0) {
+            return false;
+        }
+        m_evictions.add(evicted);
+        return true;
+    }
+
+    /** Removes all entries (the statistics are kept). */
+    public void clear() {
+        for (Segment segment : m_segments) {
+            segment.clear();
+        }
+    }
+
+    /** @return The number of lookups that found the document. */
+    public long getHitCount() {
+        return m_hits.sum();
+    }
+
+    /** @return The number of lookups that did not find the document. */
+    public long getMissCount() {
+        return m_misses.sum();
+    }
+
+    /** @return The ratio of lookups that found the document ({@code 1} if there were no lookups). */
+    public double getHitRate() {
+        final long hits = getHitCount();
+        final long lookups = hits + getMissCount();
+        return lookups == 0 ? 1 : hits / (double)lookups;
+    }
+
+    /** @return The number of documents evicted to keep the weight below the maximum. */
+    public long getEvictionCount() {
+        return m_evictions.sum();
+    }
+
+    /** @return The current total length of the cached documents. */
+    public long getWeight() {
+        long weight = 0;
+        for (Segment segment : m_segments) {
+            weight += segment.getWeight();
+        }
+        return weight;
+    }
+
+    /** @return The maximal total length of the cached documents. */
+    public long getMaxWeight() {
+        return m_maxWeight;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("JSON tree cache (weight: %d/%d, hit rate: %.3f, hits: %d, misses: %d, evictions: %d)",
+            getWeight(), m_maxWeight, getHitRate(), getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    private Segment segment(final String json) {
+        final int hash = json.hashCode();
+        return m_segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    /** Least recently used part of the cache. */
+    private static final class Segment {
+        private final LinkedHashMap<String, JsonValue> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final long m_maxWeight;
+
+        private long m_weight;
+
+        Segment(final long maxWeight) {
+            m_maxWeight = maxWeight;
+        }
+
+        synchronized JsonValue get(final String json) {
+            return m_entries.get(json);
+        }
+
+        /** @return the number of evicted entries, {@code -1} if {@code json} is too large to be cached */
+        synchronized int put(final String json, final JsonValue value) {
+            final int weight = json.length();
+            if (weight > m_maxWeight) {
+                return -1;
+            }
+            if (m_entries.put(json, value) == null) {
+                m_weight += weight;
+            }
+            int evicted = 0;
+            for (Iterator<Entry<String, JsonValue>> it = m_entries.entrySet().iterator(); m_weight > m_maxWeight;) {
+                final String evictedJson = it.next().getKey();
+                it.remove();
+                m_weight -= evictedJson.length();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        synchronized void clear() {
+            m_entries.clear();
+            m_weight = 0;
+        }
+
+        synchronized long getWeight() {
+            return m_weight;
+        }
+    }
+}
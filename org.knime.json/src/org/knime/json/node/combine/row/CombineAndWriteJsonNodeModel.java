@@ -7,7 +7,6 @@
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -16,6 +15,7 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.StringValue;
 import org.knime.core.data.json.JSONValue;
+import org.knime.core.data.json.internal.JSONMapperRegistry;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -24,11 +24,21 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.util.FileUtil;
-import org.knime.core.util.JsonUtil;
+import org.knime.json.node.combine.row.RowCombineSettings.ObjectOrArray;
+import org.knime.json.util.JsonGeneratorUtil;
 
-import jakarta.json.stream.JsonGenerator;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 /**
  * This is the model implementation of CombineAndWriteJson. Combines the values from a JSON column to a single JSON
@@ -53,12 +63,48 @@ protected CombineAndWriteJsonNodeModel() {
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
         throws Exception {
         final BufferedDataTable table = inData[0];
-        final DataTableSpec spec = table.getSpec();
+        write(new DataTableRowInput(table), exec, table.size());
+        return new BufferedDataTable[]{};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        // the rows are written one after the other to a single file
+        return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_STREAMABLE};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                write((RowInput)inputs[0], exec, -1);
+            }
+        };
+    }
+
+    /**
+     * Writes the rows of {@code input} to the output file and closes {@code input}.
+     *
+     * @param input the rows to combine
+     * @param exec the execution context
+     * @param rowCount the number of rows, or {@code -1} if not known (streaming)
+     */
+    private void write(final RowInput input, final ExecutionContext exec, final long rowCount) throws Exception {
+        final DataTableSpec spec = input.getDataTableSpec();
         final int idx = spec.findColumnIndex(m_settings.getInputColumn());
-        final int objectKeyIndex = table.getSpec().findColumnIndex(m_settings.getObjectKeyColumn());
+        final int objectKeyIndex = spec.findColumnIndex(m_settings.getObjectKeyColumn());
         final Set<String> processedKeys = new HashSet<>();
-        int i = 0;
-        double allRows = table.size();
+        long i = 0;
         URL outputUrl = FileUtil.toURL(m_settings.getOutputFile());
         Path outputPath = FileUtil.resolveToPath(outputUrl);
         OutputStream stream;
@@ -73,14 +119,12 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         }
         final String[] keys = m_settings.getKeys(), values = m_settings.getValues();
         try {
-            try (final JsonGenerator generator = JsonUtil.getProvider()
-                .createGeneratorFactory(Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, Boolean.TRUE))
-                .createGenerator(stream)) {
+            try (final JsonGenerator generator = createGenerator(stream)) {
                 switch (m_settings.getObjectOrArray()) {
                     case Array:
                         if (m_settings.isAddRootKey()) {
                             generator.writeStartObject();
-                            generator.writeStartArray(m_settings.getRootKey());
+                            generator.writeArrayFieldStart(m_settings.getRootKey());
                         } else {
                             generator.writeStartArray();
                         }
@@ -88,7 +132,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
                     case Object:
                         if (m_settings.isAddRootKey()) {
                             generator.writeStartObject();
-                            generator.writeStartObject(m_settings.getRootKey());
+                            generator.writeObjectFieldStart(m_settings.getRootKey());
                         } else {
                             generator.writeStartObject();
                         }
@@ -97,9 +141,15 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
                         CheckUtils.checkState(false, "Not supported collection type: " + m_settings.getObjectOrArray());
 
                 }
-                for (final DataRow row : table) {
+                for (DataRow row = input.poll(); row != null; row = input.poll()) {
                     exec.checkCanceled();
-                    exec.setProgress(i++ / allRows, "Processing row: " + row.getKey().getString());
+                    final DataRow current = row;
+                    if (rowCount > 0) {
+                        exec.setProgress(i++ / (double)rowCount,
+                            () -> "Processing row: " + current.getKey().getString());
+                    } else {
+                        exec.setMessage(() -> "Processing row: " + current.getKey().getString());
+                    }
                     String key = null;
                     switch (m_settings.getObjectOrArray()) {
                         case Array:
@@ -131,10 +181,11 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
                         JSONValue jv = (JSONValue)jsonCell;
                         switch (m_settings.getObjectOrArray()) {
                             case Array:
-                                generator.write(jv.getJsonValue());
+                                JsonGeneratorUtil.writeJSON(jv, generator);
                                 break;
                             case Object:
-                                generator.write(key, jv.getJsonValue());
+                                generator.writeFieldName(key);
+                                JsonGeneratorUtil.writeJSON(jv, generator);
                                 break;
                             default:
                                 CheckUtils.checkState(false,
@@ -146,7 +197,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
                                 generator.writeNull();
                                 break;
                             case Object:
-                                generator.writeNull(key);
+                                generator.writeNullField(key);
                                 break;
                             default:
                                 CheckUtils.checkState(false,
@@ -155,19 +206,34 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
                     }
                 }
                 //end array or object
-                generator.writeEnd();
+                if (m_settings.getObjectOrArray() == ObjectOrArray.Array) {
+                    generator.writeEndArray();
+                } else {
+                    generator.writeEndObject();
+                }
                 if (m_settings.isAddRootKey()) {
                     for (int c = 0; c < keys.length; ++c) {
-                        generator.write(keys[c], values[c]);
+                        generator.writeStringField(keys[c], values[c]);
                     }
                     //end object
-                    generator.writeEnd();
+                    generator.writeEndObject();
                 }
             }
         } finally {
             stream.close();
+            input.close();
         }
-        return new BufferedDataTable[]{};
+    }
+
+    /**
+     * Creates a generator writing the same layout as the formerly used pretty printing {@code jakarta.json} generator.
+     * The JSON cells are copied to it token by token from their stored text, without creating their trees.
+     */
+    private static JsonGenerator createGenerator(final OutputStream stream) throws IOException {
+        final JsonGenerator generator =
+            JSONMapperRegistry.getWriter(false).getFactory().createGenerator(stream, JsonEncoding.UTF8);
+        generator.setPrettyPrinter(new JsonpPrettyPrinter());
+        return generator;
     }
 
     /**
@@ -0,0 +1,85 @@
+package org.knime.json.node.combine.row;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.PrettyPrinter;
+
+/**
+ * A Jackson {@link PrettyPrinter} producing the same layout as the pretty printing {@code jakarta.json} generator
+ * (four spaces indentation, {@code ": "} between keys and values, empty structures on two lines), so files written
+ * with a Jackson {@link JsonGenerator} look like the ones written before.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JsonpPrettyPrinter implements PrettyPrinter {
+
+    private static final String INDENT = "    ";
+
+    private int m_level;
+
+    @Override
+    public void writeRootValueSeparator(final JsonGenerator gen) throws IOException {
+        // only a single root value is written
+    }
+
+    @Override
+    public void writeStartObject(final JsonGenerator gen) throws IOException {
+        gen.writeRaw('{');
+        m_level++;
+    }
+
+    @Override
+    public void writeEndObject(final JsonGenerator gen, final int nrOfEntries) throws IOException {
+        m_level--;
+        newLine(gen);
+        gen.writeRaw('}');
+    }
+
+    @Override
+    public void writeObjectEntrySeparator(final JsonGenerator gen) throws IOException {
+        gen.writeRaw(',');
+        newLine(gen);
+    }
+
+    @Override
+    public void writeObjectFieldValueSeparator(final JsonGenerator gen) throws IOException {
+        gen.writeRaw(": ");
+    }
+
+    @Override
+    public void writeStartArray(final JsonGenerator gen) throws IOException {
+        gen.writeRaw('[');
+        m_level++;
+    }
+
+    @Override
+    public void writeEndArray(final JsonGenerator gen, final int nrOfValues) throws IOException {
+        m_level--;
+        newLine(gen);
+        gen.writeRaw(']');
+    }
+
+    @Override
+    public void writeArrayValueSeparator(final JsonGenerator gen) throws IOException {
+        gen.writeRaw(',');
+        newLine(gen);
+    }
+
+    @Override
+    public void beforeArrayValues(final JsonGenerator gen) throws IOException {
+        newLine(gen);
+    }
+
+    @Override
+    public void beforeObjectEntries(final JsonGenerator gen) throws IOException {
+        newLine(gen);
+    }
+
+    private void newLine(final JsonGenerator gen) throws IOException {
+        gen.writeRaw('\n');
+        for (var i = 0; i < m_level; i++) {
+            gen.writeRaw(INDENT);
+        }
+    }
+}
@@ -2,8 +2,8 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -11,6 +11,8 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.StringValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.json.JSONCell;
 import org.knime.core.data.json.JSONCellFactory;
@@ -25,10 +27,9 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.util.CheckUtils;
-import org.knime.core.util.JsonUtil;
+import org.knime.json.util.JsonGeneratorUtil;
 
-import jakarta.json.JsonArrayBuilder;
-import jakarta.json.JsonObjectBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 /**
  * This is the model implementation of RowCombineJson. Appends JSON values in the rows to a single JSON value.
@@ -53,90 +54,145 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         throws Exception {
         BufferedDataTable table = inData[0];
         BufferedDataContainer container = exec.createDataContainer(configure(new DataTableSpec[]{table.getSpec()})[0]);
-        int counter = 0;
-        final double all = table.size();
-        final int idx = table.getSpec().findColumnIndex(m_settings.getInputColumn());
-        final JsonArrayBuilder builder = JsonUtil.getProvider().createArrayBuilder();
-        final JsonObjectBuilder innerObjectBuilder = JsonUtil.getProvider().createObjectBuilder();
+        final DataCell cell;
+        try {
+            // the document is written row by row, neither the trees of the values nor of the result are built
+            cell = JSONCellFactory.create(generator -> writeDocument(table, generator, exec));
+        } catch (CanceledIOException e) {
+            throw e.getCause();
+        }
+        container.addRowToTable(new DefaultRow(RowKey.createRowKey(1L), cell));
+        container.close();
+        return new BufferedDataTable[]{container.getTable()};
+    }
+
+    private void writeDocument(final BufferedDataTable table, final JsonGenerator generator,
+        final ExecutionContext exec) throws IOException {
+        if (!m_settings.isAddRootKey()) {
+            writeCombined(table, generator, exec);
+            return;
+        }
+        // same as adding them to an object builder: a later value with the same key replaces the earlier one
+        final Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(m_settings.getRootKey(), null);
         final String[] keys = m_settings.getKeys();
         final String[] values = m_settings.getValues();
-        final int objectKeyIndex = table.getSpec().findColumnIndex(m_settings.getObjectKeyColumn());
-        final Set<String> processedKeys = new HashSet<>();
-        for (DataRow row : table) {
-            exec.checkCanceled();
-            exec.setProgress(counter++ / all, "Processing row: " + row.getKey().getString());
-            DataCell cell = row.getCell(idx);
-            switch (m_settings.getObjectOrArray()) {
-                case Array:
-                    if (cell.isMissing() || !(cell instanceof JSONValue)) {
-                        builder.addNull();
-                    } else {
-                        builder.add(((JSONValue)cell).getJsonValue());
-                    }
-                    break;
-                case Object:
-                    if (m_settings.isObjectKeyIsRowID()) {
-                        if (cell.isMissing() || !(cell instanceof JSONValue)) {
-                            innerObjectBuilder.addNull(row.getKey().getString());
-                        } else {
-                            innerObjectBuilder.add(row.getKey().getString(), ((JSONValue)cell).getJsonValue());
-                        }
-                    } else {
-                        CheckUtils.checkState(-1 != objectKeyIndex,
-                            "Not found column: " + m_settings.getObjectKeyColumn());
-                        final DataCell cell2 = row.getCell(objectKeyIndex);
-                        CheckUtils.checkState(!cell2.isMissing(), "Key cell is missing in row: " + row.getKey());
-                        CheckUtils.checkState(cell2 instanceof StringValue,
-                            "The value for key is not a String in row: " + row.getKey());
-                        final StringValue sv = (StringValue)cell2;
-                        CheckUtils.checkState(
-                            processedKeys.add(sv.getStringValue()),
-                            "The value \"" + sv.getStringValue() + "\" for the key was already present in row: "
-                                + row.getKey());
-                        if (cell.isMissing() || !(cell instanceof JSONValue)) {
-                            innerObjectBuilder.addNull(sv.getStringValue());
-                        } else {
-                            innerObjectBuilder.add(sv.getStringValue(), ((JSONValue)cell).getJsonValue());
-                        }
-                    }
-                    break;
-                default:
-                    CheckUtils.checkState(false, "Not supported collection type: " + m_settings.getObjectOrArray());
-            }
+        for (int i = 0; i < keys.length; ++i) {
+            fields.put(keys[i], values[i]);
         }
-        final DataCell cell;
-        if (m_settings.isAddRootKey()) {
-            JsonObjectBuilder objectBuilder = JsonUtil.getProvider().createObjectBuilder();
-            switch (m_settings.getObjectOrArray()) {
-                case Array:
-                    objectBuilder.add(m_settings.getRootKey(), builder.build());
-                    break;
-                case Object:
-                    objectBuilder.add(m_settings.getRootKey(), innerObjectBuilder.build());
-                    break;
-                default:
-                    CheckUtils.checkState(false, "Not supported collection type: " + m_settings.getObjectOrArray());
+        generator.writeStartObject();
+        for (final Map.Entry<String, String> field : fields.entrySet()) {
+            generator.writeFieldName(field.getKey());
+            if (field.getValue() == null) {
+                writeCombined(table, generator, exec);
+            } else {
+                generator.writeString(field.getValue());
             }
-            for (int i = 0; i < keys.length; ++i) {
-                objectBuilder.add(keys[i], values[i]);
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeCombined(final BufferedDataTable table, final JsonGenerator generator,
+        final ExecutionContext exec) throws IOException {
+        final int idx = table.getSpec().findColumnIndex(m_settings.getInputColumn());
+        final int objectKeyIndex = table.getSpec().findColumnIndex(m_settings.getObjectKeyColumn());
+        final boolean asObject;
+        switch (m_settings.getObjectOrArray()) {
+            case Array:
+                asObject = false;
+                generator.writeStartArray();
+                break;
+            case Object:
+                asObject = true;
+                generator.writeStartObject();
+                break;
+            default:
+                CheckUtils.checkState(false, "Not supported collection type: " + m_settings.getObjectOrArray());
+                throw new IllegalStateException("To make the compiler happy");
+        }
+        final StringHashSet processedKeys = new StringHashSet();
+        final double all = table.size();
+        long counter = 0;
+        try (final CloseableRowIterator iterator = table.iterator()) {
+            while (iterator.hasNext()) {
+                final DataRow row = iterator.next();
+                checkCanceled(exec);
+                exec.setProgress(counter / all, () -> "Processing row: " + row.getKey().getString());
+                if (asObject) {
+                    generator.writeFieldName(getKey(table, row, objectKeyIndex, processedKeys, counter));
+                }
+                final DataCell cell = row.getCell(idx);
+                if (cell.isMissing() || !(cell instanceof JSONValue)) {
+                    generator.writeNull();
+                } else {
+                    // copies the stored text
+                    JsonGeneratorUtil.writeJSON((JSONValue)cell, generator);
+                }
+                counter++;
             }
-            cell = JSONCellFactory.create(objectBuilder.build());
+        }
+        if (asObject) {
+            generator.writeEndObject();
         } else {
-            switch (m_settings.getObjectOrArray()) {
-                case Array:
-                    cell = JSONCellFactory.create(builder.build());
-                    break;
-                case Object:
-                    cell = JSONCellFactory.create(innerObjectBuilder.build());
-                    break;
-                default:
-                    CheckUtils.checkState(false, "Not supported collection type: " + m_settings.getObjectOrArray());
-                    throw new IllegalStateException("To make the compiler happy");
+            generator.writeEndArray();
+        }
+    }
+
+    private String getKey(final BufferedDataTable table, final DataRow row, final int objectKeyIndex,
+        final StringHashSet processedKeys, final long rowIndex) {
+        if (m_settings.isObjectKeyIsRowID()) {
+            return row.getKey().getString();
+        }
+        CheckUtils.checkState(-1 != objectKeyIndex, "Not found column: " + m_settings.getObjectKeyColumn());
+        final DataCell cell2 = row.getCell(objectKeyIndex);
+        CheckUtils.checkState(!cell2.isMissing(), "Key cell is missing in row: " + row.getKey());
+        CheckUtils.checkState(cell2 instanceof StringValue,
+            "The value for key is not a String in row: " + row.getKey());
+        final String key = ((StringValue)cell2).getStringValue();
+        // only the hashes are kept, so a rejected key is verified against the preceding rows
+        CheckUtils.checkState(processedKeys.add(key) || !containsKey(table, objectKeyIndex, key, rowIndex),
+            "The value \"" + key + "\" for the key was already present in row: " + row.getKey());
+        return key;
+    }
+
+    private static boolean containsKey(final BufferedDataTable table, final int objectKeyIndex, final String key,
+        final long rowCount) {
+        long i = 0;
+        try (final CloseableRowIterator iterator = table.filter(TableFilter.materializeCols(objectKeyIndex))) {
+            while (i++ < rowCount && iterator.hasNext()) {
+                final DataCell cell = iterator.next().getCell(objectKeyIndex);
+                if (cell instanceof StringValue && key.equals(((StringValue)cell).getStringValue())) {
+                    return true;
+                }
             }
         }
-        container.addRowToTable(new DefaultRow(RowKey.createRowKey(1L), cell));
-        container.close();
-        return new BufferedDataTable[]{container.getTable()};
+        return false;
+    }
+
+    private static void checkCanceled(final ExecutionContext exec) throws CanceledIOException {
+        try {
+            exec.checkCanceled();
+        } catch (CanceledExecutionException e) {
+            throw new CanceledIOException(e);
+        }
+    }
+
+    /**
+     * Passes the cancellation through the {@link JSONCellFactory.DocumentWriter}, which can only throw
+     * {@link IOException}s.
+     */
+    private static final class CanceledIOException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        CanceledIOException(final CanceledExecutionException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized CanceledExecutionException getCause() {
+            return (CanceledExecutionException)super.getCause();
+        }
     }
 
     /**
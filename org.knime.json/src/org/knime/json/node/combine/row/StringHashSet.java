@@ -0,0 +1,95 @@
+package org.knime.json.node.combine.row;
+
+/**
+ * A set of the 64 bit hashes of strings, a compact replacement of a {@code HashSet<String>} when checking many keys
+ * for duplicates: it needs 8 to 16 bytes per key and does not keep the keys alive. As only the hashes are compared, a
+ * rejected key might (very unlikely) just collide with a different one, so callers have to verify rejections.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class StringHashSet {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** {@code 0} marks the free slots of the table, the hash {@code 0} is tracked separately. */
+    private long[] m_table = new long[INITIAL_CAPACITY];
+
+    private boolean m_containsZero;
+
+    private int m_size;
+
+    /**
+     * Adds the hash of {@code key}.
+     *
+     * @param key a key
+     * @return {@code true} if the hash of {@code key} was not yet in the set, {@code false} if it was (either the same
+     *         key or a hash collision was added before)
+     */
+    boolean add(final String key) {
+        final long hash = hash(key);
+        if (hash == 0) {
+            if (m_containsZero) {
+                return false;
+            }
+            m_containsZero = true;
+            m_size++;
+            return true;
+        }
+        if (!insert(m_table, hash)) {
+            return false;
+        }
+        m_size++;
+        // keep the load factor below 1/2
+        if (2 * m_size > m_table.length) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of distinct hashes in the set
+     */
+    int size() {
+        return m_size;
+    }
+
+    private void grow() {
+        final long[] table = new long[2 * m_table.length];
+        for (final long hash : m_table) {
+            if (hash != 0) {
+                insert(table, hash);
+            }
+        }
+        m_table = table;
+    }
+
+    private static boolean insert(final long[] table, final long hash) {
+        final int mask = table.length - 1;
+        for (int i = (int)hash & mask;; i = (i + 1) & mask) {
+            if (table[i] == 0) {
+                table[i] = hash;
+                return true;
+            } else if (table[i] == hash) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 64 bit FNV-1a over the characters, followed by the finalization step of MurmurHash3 so the lower bits used to
+     * index the table are well distributed.
+     */
+    static long hash(final String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
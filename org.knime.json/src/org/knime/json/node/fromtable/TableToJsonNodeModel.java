@@ -21,8 +21,10 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.json.JSONCell;
@@ -41,6 +43,9 @@
 import org.knime.core.util.JsonUtil;
 import org.knime.core.util.Pair;
 import org.knime.json.util.JSR353Util;
+import org.knime.json.util.JsonGeneratorUtil;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObjectBuilder;
@@ -177,7 +182,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
      * @throws InvalidSettingsException
      */
     private BufferedDataTable columnsOutside(final BufferedDataTable data, final ExecutionContext exec)
-        throws InvalidSettingsException {
+        throws InvalidSettingsException, IOException {
         BufferedDataContainer container = exec.createDataContainer(configure(new DataTableSpec[]{data.getSpec()})[0]);
         container.addRowToTable(new DefaultRow(RowKey.createRowKey(1L), createCellColumnsOutside(data)));
         container.close();
@@ -185,31 +190,30 @@ private BufferedDataTable columnsOutside(final BufferedDataTable data, final Exe
     }
 
     /**
+     * Writes the document column by column with a {@link JsonGenerator}, every column is read with a separate pass
+     * over the table (only materializing that column), so neither the rows nor a JSON tree are kept in memory.
+     *
      * @param data
      * @return
+     * @throws IOException
      */
-    private DataCell createCellColumnsOutside(final BufferedDataTable data) {
+    private DataCell createCellColumnsOutside(final BufferedDataTable data) throws IOException {
         final String[] includes = m_settings.getSelectedColumns().applyTo(data.getSpec()).getIncludes();
         final int[] indices = new int[includes.length];
-        Map<String, Object> structure = new LinkedHashMap<>();
-        Map<String, List<String>> keys = new LinkedHashMap<>();
-        SortedMap<List<String>, Integer> keysSplit = createListKeySortedMap();
+        final Map<String, Object> structure = new LinkedHashMap<>();
+        final Map<String, List<String>> keys = new LinkedHashMap<>();
+        final SortedMap<List<String>, Integer> keysSplit = createListKeySortedMap();
         fillStructures(data.getSpec(), m_settings.getColumnNameSeparator(), includes, indices, keys, keysSplit,
             structure);
-        JsonObjectBuilder root = JsonUtil.getProvider().createObjectBuilder();
-        Map<String, JsonArrayBuilder> keysToArrays = new LinkedHashMap<>();
-        for (int i = 0; i < includes.length; i++) {
-            String colName = includes[i];
-            JsonArrayBuilder ab = JsonUtil.getProvider().createArrayBuilder();
-            keysToArrays.put(colName, ab);
-        }
-        String key = m_settings.getRowKeyKey();
+        final String key = m_settings.getRowKeyKey();
         switch (m_settings.getRowKey()) {
             case omit:
                 break;
             case asValue:
-                JsonArrayBuilder ab = JsonUtil.getProvider().createArrayBuilder();
-                keysToArrays.put(key, ab);
+                if (isTopLevelKey(key, includes, structure)) {
+                    // the row keys share the array of the column with the same name, kept as it was
+                    return createCellColumnsOutsideWithBuilders(data, includes, indices, structure);
+                }
                 break;
             case asKey:
                 CheckUtils.checkState(false, "Row key as key is not allowed for the columns outside option.");
@@ -217,6 +221,110 @@ private DataCell createCellColumnsOutside(final BufferedDataTable data) {
             default:
                 CheckUtils.checkState(false, "Unsupported row key option: " + m_settings.getRowKey());
         }
+        final boolean rowKeyAsValue = m_settings.getRowKey() == RowKeyOption.asValue;
+        return JSONCellFactory.create(generator -> {
+            generator.writeStartObject();
+            if (!m_settings.isColumnNamesAsPath()) {
+                for (int i = 0; i < includes.length; i++) {
+                    generator.writeFieldName(includes[i]);
+                    writeColumn(data, indices[i], generator);
+                }
+                if (rowKeyAsValue) {
+                    generator.writeFieldName(key);
+                    writeRowKeys(data, generator);
+                }
+            } else {
+                if (rowKeyAsValue) {
+                    generator.writeFieldName(key);
+                    writeRowKeys(data, generator);
+                }
+                writeStructure(structure, data, generator);
+            }
+            generator.writeEndObject();
+        });
+    }
+
+    /**
+     * @param key a key
+     * @param includes the included columns
+     * @param structure the hierarchical structure of the included columns
+     * @return whether {@code key} is also a key of the top level object created from the columns
+     */
+    private boolean isTopLevelKey(final String key, final String[] includes, final Map<String, Object> structure) {
+        return m_settings.isColumnNamesAsPath() ? structure.containsKey(key) : Arrays.asList(includes).contains(key);
+    }
+
+    private static void writeColumn(final BufferedDataTable data, final int index, final JsonGenerator generator)
+        throws IOException {
+        generator.writeStartArray();
+        try (final CloseableRowIterator iterator = data.filter(TableFilter.materializeCols(index))) {
+            while (iterator.hasNext()) {
+                final DataRow dataRow = iterator.next();
+                try {
+                    JsonGeneratorUtil.writeArrayElement(dataRow.getCell(index), generator);
+                } catch (IOException e) {
+                    LOGGER.warn("Failed to read binary object in row (" + dataRow.getKey() + "), replaced with null.",
+                        e);
+                    generator.writeNull();
+                }
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeRowKeys(final BufferedDataTable data, final JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        try (final CloseableRowIterator iterator = data.filter(TableFilter.materializeCols())) {
+            while (iterator.hasNext()) {
+                generator.writeString(iterator.next().getKey().getString());
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeStructure(
+        final Map<String, Object/*Map<String, rec> | Integer | Pair<Integer, Map<String, rec>*/> structure,
+        final BufferedDataTable data, final JsonGenerator generator) throws IOException {
+        for (Entry<String, Object> entry : structure.entrySet()) {
+            final Object object = entry.getValue();
+            generator.writeFieldName(entry.getKey());
+            if (object instanceof Integer) {
+                writeColumn(data, (Integer)object, generator);
+            } else {
+                // as with the builders only the nested columns are written for a column which is also a prefix
+                generator.writeStartObject();
+                writeStructure(nested(object), data, generator);
+                generator.writeEndObject();
+            }
+        }
+    }
+
+    /**
+     * @param object a {@link Map} or a {@link Pair} of the column index and a {@link Map} from the structure
+     * @return the nested structure
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> nested(final Object object) {
+        return (Map<String, Object>)(object instanceof Pair<?, ?> ? ((Pair<?, ?>)object).getSecond() : object);
+    }
+
+    /**
+     * Creates the document with the JSON-P builders, all values are kept in memory.
+     */
+    private DataCell createCellColumnsOutsideWithBuilders(final BufferedDataTable data, final String[] includes,
+        final int[] indices, final Map<String, Object> structure) {
+        JsonObjectBuilder root = JsonUtil.getProvider().createObjectBuilder();
+        Map<String, JsonArrayBuilder> keysToArrays = new LinkedHashMap<>();
+        for (int i = 0; i < includes.length; i++) {
+            String colName = includes[i];
+            JsonArrayBuilder ab = JsonUtil.getProvider().createArrayBuilder();
+            keysToArrays.put(colName, ab);
+        }
+        String key = m_settings.getRowKeyKey();
+        if (m_settings.getRowKey() == RowKeyOption.asValue) {
+            JsonArrayBuilder ab = JsonUtil.getProvider().createArrayBuilder();
+            keysToArrays.put(key, ab);
+        }
         for (DataRow dataRow : data) {
             for (int i = 0; i < indices.length; i++) {
                 final int index = indices[i];
@@ -301,7 +409,7 @@ private BufferedDataTable keepRows(final BufferedDataTable data, final Execution
      * @throws InvalidSettingsException
      */
     private BufferedDataTable rowsOutside(final BufferedDataTable data, final ExecutionContext exec)
-        throws InvalidSettingsException {
+        throws InvalidSettingsException, IOException {
         BufferedDataContainer container = exec.createDataContainer(configure(new DataTableSpec[]{data.getSpec()})[0]);
         container.addRowToTable(new DefaultRow(RowKey.createRowKey(1L), createCellRowsOutside(data)));
         container.close();
@@ -309,10 +417,14 @@ private BufferedDataTable rowsOutside(final BufferedDataTable data, final Execut
     }
 
     /**
+     * Writes the document row by row with a {@link JsonGenerator}, so neither the rows nor a JSON tree are kept in
+     * memory.
+     *
      * @param data
      * @return
+     * @throws IOException
      */
-    private DataCell createCellRowsOutside(final BufferedDataTable data) {
+    private DataCell createCellRowsOutside(final BufferedDataTable data) throws IOException {
         final String[] includes = m_settings.getSelectedColumns().applyTo(data.getSpec()).getIncludes();
         final int[] indices = new int[includes.length];
         final Map<String, List<String>> keys = new LinkedHashMap<>();
@@ -320,6 +432,87 @@ private DataCell createCellRowsOutside(final BufferedDataTable data) {
         final Map<String, Object> structure = new LinkedHashMap<>();
         fillStructures(data.getSpec(), m_settings.getColumnNameSeparator(), includes, indices, keys, keysSplit,
             structure);
+        final RowKeyOption rowKey = m_settings.getRowKey();
+        if (rowKey == RowKeyOption.asValue && isTopLevelKey(m_settings.getRowKeyKey(), includes, structure)) {
+            // the row key replaces the value of the column with the same name, kept as it was
+            return createCellRowsOutsideWithBuilders(data, includes, indices, structure);
+        }
+        return JSONCellFactory.create(generator -> {
+            if (rowKey == RowKeyOption.asKey) {
+                generator.writeStartObject();
+                for (DataRow dataRow : data) {
+                    generator.writeFieldName(dataRow.getKey().getString());
+                    writeRow(includes, indices, structure, dataRow, generator);
+                }
+                generator.writeEndObject();
+            } else {
+                generator.writeStartArray();
+                for (DataRow dataRow : data) {
+                    writeRow(includes, indices, structure, dataRow, generator);
+                }
+                generator.writeEndArray();
+            }
+        });
+    }
+
+    private void writeRow(final String[] includes, final int[] indices, final Map<String, Object> structure,
+        final DataRow dataRow, final JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        if (m_settings.isColumnNamesAsPath()) {
+            writeStructure(structure, dataRow, generator);
+        } else {
+            for (int i = 0; i < indices.length; i++) {
+                writeCell(includes[i], dataRow.getCell(indices[i]), dataRow, generator);
+            }
+        }
+        if (m_settings.getRowKey() == RowKeyOption.asValue) {
+            generator.writeStringField(m_settings.getRowKeyKey(), dataRow.getKey().getString());
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeStructure(
+        final Map<String, Object/*Map<String, rec> | Integer | Pair<Integer, Map<String, rec>*/> structure,
+        final DataRow row, final JsonGenerator generator) throws IOException {
+        for (Entry<String, Object> entry : structure.entrySet()) {
+            final Object object = entry.getValue();
+            if (object instanceof Integer) {
+                writeCell(entry.getKey(), row.getCell((Integer)object), row, generator);
+            } else {
+                // as with the builders only the nested columns are written for a column which is also a prefix
+                generator.writeFieldName(entry.getKey());
+                generator.writeStartObject();
+                writeStructure(nested(object), row, generator);
+                generator.writeEndObject();
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #fromCell(JsonObjectBuilder, String, DataCell)}, with a {@link JsonGenerator}.
+     */
+    private void writeCell(final String key, final DataCell cell, final DataRow row, final JsonGenerator generator)
+        throws IOException {
+        if (!m_settings.isMissingsAreOmitted() || !cell.isMissing()) {
+            try {
+                if (m_settings.isBooleansAsNumbers() && (cell instanceof BooleanValue)) {
+                    JsonGeneratorUtil.writeField(key, ((BooleanValue)cell).getBooleanValue() ? TRUE : FALSE,
+                        generator);
+                } else {
+                    JsonGeneratorUtil.writeField(key, cell, generator);
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Failed to read binary object data value (row: " + row.getKey() + ")", e);
+                generator.writeNullField(key);
+            }
+        }
+    }
+
+    /**
+     * Creates the document with the JSON-P builders, all values are kept in memory.
+     */
+    private DataCell createCellRowsOutsideWithBuilders(final BufferedDataTable data, final String[] includes,
+        final int[] indices, final Map<String, Object> structure) {
         if (m_settings.getRowKey() == RowKeyOption.asKey) {
             JsonObjectBuilder root = JsonUtil.getProvider().createObjectBuilder();
             for (DataRow dataRow : data) {
@@ -80,6 +80,7 @@
 import org.knime.json.internal.Activator;
 import org.knime.json.node.util.ErrorHandling;
 import org.knime.json.node.util.OutputType;
+import org.knime.json.node.util.ParallelProcessing;
 import org.knime.json.node.util.SingleColumnReplaceOrAddNodeModel;
 
 import com.fasterxml.jackson.core.Base64Variants;
@@ -177,7 +178,7 @@ protected CellFactory createCellFactory(final DataColumnSpec output, final int i
         final JsonPath jsonPath = JsonPath.compile(getSettings().getJsonPath());
         final OutputType returnType = getSettings().getReturnType();
         final boolean resultIsList = getSettings().isResultIsList();
-        return new SingleCellFactory(output) {
+        final SingleCellFactory factory = new SingleCellFactory(output) {
             @Override
             public DataCell getCell(final DataRow row) {
                 DataCell cell = row.getCell(inputIndex);
@@ -301,6 +302,8 @@ private DataCell asJson(final Object object) {
             }
 
         };
+        // the configuration, the compiled path and the providers are immutable, shared by the workers
+        return ParallelProcessing.configure(factory, getSettings().getWorkerCount());
     }
 
     /**
@@ -8,7 +8,9 @@
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
 import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnNameSelection;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.json.node.util.OutputType;
+import org.knime.json.node.util.ParallelProcessing;
 
 /**
  * <code>NodeDialog</code> for the "JSONPathDict" Node. Collect parts of JSON documents based on JSONPath values
@@ -59,5 +61,7 @@ protected JSONPathDictNodeDialog() {
         @SuppressWarnings("unchecked")
         DialogComponentColumnNameSelection output = new DialogComponentColumnNameSelection(JSONPathDictNodeModel.createOutputColumn(), "Output column name", JSONPathDictNodeModel.DICT_TABLE, StringValue.class);
         addDialogComponent(output);
+        addDialogComponent(new DialogComponentNumber(ParallelProcessing.createWorkerCountModel(),
+            ParallelProcessing.WORKER_COUNT_LABEL, 1));
     }
 }
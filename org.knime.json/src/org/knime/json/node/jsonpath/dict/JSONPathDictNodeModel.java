@@ -31,10 +31,13 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.json.node.jsonpath.JsonPathUtil;
 import org.knime.json.node.jsonpath.util.JsonPathUtils;
+import org.knime.json.node.jsonpath.util.StreamingPathEvaluator;
 import org.knime.json.node.util.ErrorHandling;
+import org.knime.json.node.util.ParallelProcessing;
 import org.knime.json.util.OutputType;
 
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -77,6 +80,7 @@ public class JSONPathDictNodeModel extends NodeModel {
     private SettingsModelString m_typeColumn = createTypeColumn();
     private SettingsModelString m_outputColumn = createOutputColumn();
     private SettingsModelBoolean m_removeSourceColumn = createRemoveSourceColumn();
+    private SettingsModelIntegerBounded m_workerCount = ParallelProcessing.createWorkerCountModel();
     //private SettingsModelBoolean m_onInvalidFail = createOnInvalidFail();
 
     /**
@@ -155,9 +159,11 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             if (outputCell instanceof StringValue) {
                 StringValue outputValue = (StringValue)outputCell;
                 final JsonPath jsonPath;
+                final String path;
                 if (pathCell instanceof StringValue) {
                     StringValue pathValue = (StringValue)pathCell;
-                    jsonPath = JsonPath.compile(pathValue.getStringValue());
+                    path = pathValue.getStringValue();
+                    jsonPath = JsonPath.compile(path);
                 } else {
                     throw new IllegalStateException("Path is not String: " + pathCell + " (" + pathCell.getType() + ")");
                 }
@@ -197,7 +203,10 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
                 } else {
                     throw new IllegalStateException("Output type is not String: " + typeCell + " (" + typeCell.getType() + ")");
                 }
-                rearranger.append(new SingleCellFactory(new DataColumnSpecCreator(name, type).createSpec()) {
+                final StreamingPathEvaluator streamingPath = StreamingPathEvaluator.compile(path, config).orElse(null);
+                // the configuration, the compiled paths and the providers are immutable, shared by the workers
+                rearranger.append(ParallelProcessing.configure(
+                    new SingleCellFactory(new DataColumnSpecCreator(name, type).createSpec()) {
                     private Runnable m_setWarning =
                             () -> setWarningMessage("Large value cannot be stored in an integer column");
                     @Override
@@ -205,16 +214,19 @@ public DataCell getCell(final DataRow row) {
                         DataCell cell = row.getCell(inputIdx);
                         if (cell instanceof JSONValue) {
                             JSONValue jsonCell = (JSONValue)cell;
-                            JsonValue jsonValue = jsonCell.getJsonValue();
-                            Object readObject;
-                            try {
-                                if (config.jsonProvider().getClass().getName().contains("JacksonJsonNode")) {
-                                    readObject = jsonPath.read(conv.toJackson(jsonValue), config);
-                                } else {
-                                    readObject = jsonPath.read(jsonValue.toString(), config);
+                            // simple paths are evaluated on the token stream of the document
+                            Object readObject = readStreaming(jsonCell);
+                            if (readObject == null) {
+                                try {
+                                    JsonValue jsonValue = jsonCell.getJsonValue();
+                                    if (config.jsonProvider().getClass().getName().contains("JacksonJsonNode")) {
+                                        readObject = jsonPath.read(conv.toJackson(jsonValue), config);
+                                    } else {
+                                        readObject = jsonPath.read(jsonValue.toString(), config);
+                                    }
+                                } catch (RuntimeException e) {
+                                    return new MissingCell(e.getMessage());
                                 }
-                            } catch (RuntimeException e) {
-                                return new MissingCell(e.getMessage());
                             }
                             Iterable<?> read = config.jsonProvider().toIterable(readObject);
                             List<Object> values = new ArrayList<>();
@@ -253,8 +265,21 @@ public DataCell getCell(final DataRow row) {
                         return DataType.getMissingCell();
                     }
 
-                }
-                    );
+                    /**
+                     * @return The result of the path when it could be evaluated on the token stream, {@code null}
+                     *         otherwise.
+                     */
+                    private Object readStreaming(final JSONValue jsonCell) {
+                        if (streamingPath == null || !(jsonCell instanceof StringValue)) {
+                            return null;
+                        }
+                        try {
+                            return streamingPath.read(((StringValue)jsonCell).getStringValue(), config);
+                        } catch (RuntimeException e) { // NOSONAR JsonPath reports the problem
+                            return null;
+                        }
+                    }
+                }, m_workerCount.getIntValue()));
             } else {
                 throw new InvalidSettingsException("Output column name is not valid: " + outputCell + " (" + outputCell.getType() + ")");
             }
@@ -333,6 +358,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_typeColumn.saveSettingsTo(settings);
         m_outputColumn.saveSettingsTo(settings);
         m_removeSourceColumn.saveSettingsTo(settings);
+        m_workerCount.saveSettingsTo(settings);
         //m_onInvalidFail.saveSettingsTo(settings);
     }
 
@@ -347,6 +373,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
         m_typeColumn.loadSettingsFrom(settings);
         m_outputColumn.loadSettingsFrom(settings);
         m_removeSourceColumn.loadSettingsFrom(settings);
+        try {
+            m_workerCount.loadSettingsFrom(settings);
+        } catch (InvalidSettingsException e) {
+            //added later, older workflows processed the rows one after the other
+            m_workerCount.setIntValue(ParallelProcessing.LEGACY_WORKER_COUNT);
+        }
         //m_onInvalidFail.loadSettingsFrom(settings);
     }
 
@@ -361,6 +393,7 @@ protected void validateSettings(final NodeSettingsRO settings)
         m_typeColumn.validateSettings(settings);
         m_outputColumn.validateSettings(settings);
         m_removeSourceColumn.validateSettings(settings);
+        ParallelProcessing.validate(ParallelProcessing.loadWorkerCount(settings));
         //m_onInvalidFail.validateSettings(settings);
     }
 
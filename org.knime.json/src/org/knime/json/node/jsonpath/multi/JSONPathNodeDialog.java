@@ -83,6 +83,7 @@
 import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
 import javax.swing.JScrollPane;
+import javax.swing.JSpinner;
 import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.KeyStroke;
@@ -129,6 +130,7 @@
 import org.knime.json.node.jsonpath.util.Jsr353WithCanonicalPaths;
 import org.knime.json.node.jsonpath.util.OutputKind;
 import org.knime.json.node.util.GUIFactory;
+import org.knime.json.node.util.ParallelProcessing;
 import org.knime.json.util.OutputType;
 
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
@@ -214,6 +216,8 @@ private String suggestColumnName(final String path) {
 
     private final JCheckBox m_removeSourceColumn = new JCheckBox("Remove source column");
 
+    private final JSpinner m_workerCount = ParallelProcessing.createWorkerCountSpinner();
+
     private JTextField m_path, m_outputColumn;
 
     private JCheckBox m_resultIsList;
@@ -629,6 +633,11 @@ public void actionPerformed(final ActionEvent e) {
         m_inputColumn.setBorder(null);
         gbc.gridy++;
         panel.add(m_removeSourceColumn, gbc);
+        gbc.gridy++;
+        JPanel workers = new JPanel(new FlowLayout(FlowLayout.LEADING));
+        workers.add(new JLabel(ParallelProcessing.WORKER_COUNT_LABEL));
+        workers.add(m_workerCount);
+        panel.add(workers, gbc);
         return ++gbc.gridy;
     }
 
@@ -893,6 +902,7 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final DataTableSp
         //m_inputColumn.setSelectedColumn(m_settings.getInputColumnName());
         m_inputColumn.update(specs[0], m_settings.getInputColumnName());
         m_removeSourceColumn.setSelected(m_settings.isRemoveInputColumn());
+        m_workerCount.setValue(m_settings.getWorkerCount());
         m_tableModel.clear();
         boolean enableEditAndRemove = false;
         for (SingleSetting single : m_settings.getOutputSettings()) {
@@ -969,6 +979,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         //        }
         m_settings.setInputColumnName(m_inputColumn.getSelectedColumn());
         m_settings.setRemoveInputColumn(m_removeSourceColumn.isSelected());
+        m_settings.setWorkerCount(((Number)m_workerCount.getValue()).intValue());
         m_settings.clearOutputSettings();
         for (int i = 0; i < m_tableModel.getRowCount(); ++i) {
             SingleSetting setting = new SingleSetting();
@@ -51,6 +51,8 @@
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.knime.core.data.DataCell;
@@ -60,12 +62,13 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.MissingCell;
+import org.knime.core.data.StringValue;
 import org.knime.core.data.blob.BinaryObjectCellFactory;
 import org.knime.core.data.collection.CollectionCellFactory;
 import org.knime.core.data.collection.ListCell;
+import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.data.container.CellFactory;
 import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.container.SingleCellFactory;
 import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
@@ -82,7 +85,9 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.streamable.simple.SimpleStreamableFunctionNodeModel;
 import org.knime.json.node.jsonpath.util.JsonPathUtils;
+import org.knime.json.node.jsonpath.util.StreamingPathEvaluator;
 import org.knime.json.node.util.ErrorHandling;
+import org.knime.json.node.util.ParallelProcessing;
 import org.knime.json.util.OutputType;
 
 import com.fasterxml.jackson.core.Base64Variants;
@@ -96,8 +101,6 @@
 import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.spi.mapper.MappingProvider;
 
-import jakarta.json.JsonValue;
-
 /**
  * This is the model implementation of JSONPath. Selects certain paths from the selected JSON column.
  *
@@ -213,18 +216,24 @@ protected ColumnRearranger createColumnRearranger(final DataTableSpec inSpecs) t
             input = handleNonSetColumn(inSpecs).getName();
         }
         final int inputIndex = inSpecs.findColumnIndex(input);
+        final List<PathEvaluator> evaluators = new ArrayList<>();
+        final List<DataColumnSpec> outputs = new ArrayList<>();
+        DataTableSpec spec = ret.createSpec();
         int index = 0;
         for (SingleSetting setting : m_settings.getOutputSettings()) {
-            String outputColName = DataTableSpec.getUniqueColumnName(ret.createSpec(), setting.getNewColumnName());
+            String outputColName = DataTableSpec.getUniqueColumnName(spec, setting.getNewColumnName());
             DataColumnSpec output = createOutputSpec(outputColName, index++);
-            CellFactory factory;
             try {
-                factory = createCellFactory(setting, output, inputIndex);
-                ret.append(factory);
+                evaluators.add(new PathEvaluator(setting));
             } catch (RuntimeException e) {
                 throw new InvalidSettingsException(e);
             }
+            outputs.add(output);
+            spec = new DataTableSpec(spec, new DataTableSpec(output));
         }
+        ret.append(ParallelProcessing.configure(
+            new MultiPathCellFactory(evaluators, outputs.toArray(new DataColumnSpec[0]), inputIndex),
+            m_settings.getWorkerCount()));
         if (m_settings.isRemoveInputColumn()) {
             ret.remove(input);
         }
@@ -239,171 +248,296 @@ protected ColumnRearranger createColumnRearranger(final DataTableSpec inSpecs) t
      */
     protected CellFactory createCellFactory(final SingleSetting setting, final DataColumnSpec output,
         final int inputIndex) {
-        final JacksonConversions conv = JacksonConversions.getInstance();
-        Configuration jsonPathConfiguration =
-            Configuration.builder().build();
-        List<Option> options = new ArrayList<>();
-        if (setting.isReturnPaths()) {
-            options.add(Option.AS_PATH_LIST);
+        return ParallelProcessing.configure(new MultiPathCellFactory(
+            Collections.singletonList(new PathEvaluator(setting)), new DataColumnSpec[]{output}, inputIndex),
+            m_settings.getWorkerCount());
+    }
+
+    /**
+     * Evaluates all paths on a single parsed representation of the input document (per row), instead of parsing or
+     * converting it for each path. The simple paths are evaluated together in a single pass over the tokens of the
+     * document. The evaluators are immutable (the JsonPath {@link Configuration}s and providers are thread-safe), so
+     * rows can be processed in parallel; the per-row state is kept in local variables.
+     */
+    private final class MultiPathCellFactory extends AbstractCellFactory {
+        private final PathEvaluator[] m_evaluators;
+
+        private final int m_inputIndex;
+
+        /** The paths which can be evaluated on the token stream. */
+        private final List<StreamingPathEvaluator> m_streamingPaths = new ArrayList<>();
+
+        /** The indices of the evaluators of {@link #m_streamingPaths}. */
+        private final int[] m_streamingIndices;
+
+        MultiPathCellFactory(final List<PathEvaluator> evaluators, final DataColumnSpec[] outputs,
+            final int inputIndex) {
+            super(true, outputs);
+            m_evaluators = evaluators.toArray(new PathEvaluator[0]);
+            m_inputIndex = inputIndex;
+            final List<Integer> streamingIndices = new ArrayList<>();
+            for (int i = 0; i < m_evaluators.length; i++) {
+                if (m_evaluators[i].m_streamingPath != null) {
+                    m_streamingPaths.add(m_evaluators[i].m_streamingPath);
+                    streamingIndices.add(i);
+                }
+            }
+            m_streamingIndices = streamingIndices.stream().mapToInt(Integer::intValue).toArray();
         }
-        options.add(Option.ALWAYS_RETURN_LIST);
-        options.add(Option.DEFAULT_PATH_LEAF_TO_NULL);
-        final Configuration config = jsonPathConfiguration.setOptions(options.toArray(new Option[0]));
-        final MappingProvider mappingProvider = config.mappingProvider();
-
-        // currently, a bug in the JsonPath library requires commas in quotes to be (un)escaped manually, see
-        // - AP-10014
-        // - https://github.com/json-path/JsonPath/issues/400
-        // - https://github.com/json-path/JsonPath/issues/487
-        final JsonPath jsonPath = JsonPath.compile(JsonPathUtils.escapeCommas(setting.getJsonPath()));
-
-        final OutputType returnType = setting.getReturnType();
-        final boolean resultIsList = setting.isResultIsList();
-        return new SingleCellFactory(true, output) {
-            private Runnable m_setWarning =
-                () -> setWarningMessage("Large value cannot be stored in an integer column");
-
-            @Override
-            public DataCell getCell(final DataRow row) {
-                DataCell cell = row.getCell(inputIndex);
-                if (cell instanceof JSONValue) {
-                    JSONValue jsonCell = (JSONValue)cell;
-                    JsonValue jsonValue = jsonCell.getJsonValue();
-                    Object readObject;
+
+        @Override
+        public DataCell[] getCells(final DataRow row) {
+            final DataCell[] cells = new DataCell[m_evaluators.length];
+            DataCell cell = row.getCell(m_inputIndex);
+            if (!(cell instanceof JSONValue)) {
+                Arrays.fill(cells, DataType.getMissingCell());
+                return cells;
+            }
+            final JSONValue jsonCell = (JSONValue)cell;
+            final String json = jsonCell instanceof StringValue ? ((StringValue)jsonCell).getStringValue() : null;
+            final Object[] streamed = readStreaming(json);
+            // only created when a path cannot be evaluated on the token stream
+            Object document = null;
+            boolean documentCreated = false;
+            RuntimeException documentError = null;
+            for (int i = 0; i < m_evaluators.length; i++) {
+                final Object readObject = streamed[i];
+                if (readObject != null) {
+                    cells[i] = m_evaluators[i].toCell(readObject, row);
+                    continue;
+                }
+                if (!documentCreated) {
+                    documentCreated = true;
                     try {
-                        if (config.jsonProvider().getClass().getName().contains("JacksonJsonNode")) {
-                            readObject = jsonPath.read(conv.toJackson(jsonValue), config);
-                        } else {
-                            readObject = jsonPath.read(jsonValue.toString(), config);
-                        }
+                        // all configurations use the same kind of provider
+                        document = m_evaluators[0].toDocument(jsonCell);
                     } catch (RuntimeException e) {
-                        return new MissingCell(e.getMessage());
-                    }
-                    Iterable<?> read = config.jsonProvider().toIterable(readObject);
-                    List<Object> values = new ArrayList<>();
-                    for (Object object : read) {
-                        values.add(object);
+                        documentError = e;
                     }
-                    List<DataCell> cells = new ArrayList<>();
-                    if (setting.isReturnPaths() || (returnType == OutputType.String && resultIsList)) {
-                        for (Object v : values) {
-                            if (v != null) {
-                                cells.add(new StringCell(v.toString()));
-                            } else {
-                                cells.add(DataType.getMissingCell());
-                            }
-                        }
-                        return CollectionCellFactory.createListCell(cells);
-                    }
-                    if (!resultIsList && values.size() > 1) {
-                        if (returnType == OutputType.Json) {
-                            JsonNodeFactory nodeFactory = JacksonUtils.nodeFactory();
-                            ArrayNode array = nodeFactory.arrayNode();
-                            for (Object value : values) {
-                                array.add(org.knime.json.node.jsonpath.JsonPathUtil.toJackson(
-                                    nodeFactory, value));
-                            }
-                            return convertObjectToReturnType(array);
-                        }
-                        throw new IllegalStateException("Expected at most one result, but got: " + values.size() + " ["
-                            + shorten(values.toString()) + "]" + "\n   in row: " + row.getKey());
+                }
+                cells[i] = documentError == null ? m_evaluators[i].evaluate(document, row)
+                    : new MissingCell(documentError.getMessage());
+            }
+            return cells;
+        }
+
+        /**
+         * @param json a serialized JSON document, can be {@code null}
+         * @return The results of the paths which could be evaluated on the token stream (in a single pass),
+         *         {@code null} elements for the others.
+         */
+        private Object[] readStreaming(final String json) {
+            final Object[] results = new Object[m_evaluators.length];
+            if (json == null || m_streamingIndices.length == 0) {
+                return results;
+            }
+            final Object[] streamed;
+            try {
+                // the configurations of the streamed paths only differ in their output settings
+                streamed = StreamingPathEvaluator.read(json, m_streamingPaths,
+                    m_evaluators[m_streamingIndices[0]].m_config);
+            } catch (RuntimeException e) { // NOSONAR JsonPath reports the problem
+                return results;
+            }
+            for (int i = 0; i < m_streamingIndices.length; i++) {
+                results[m_streamingIndices[i]] = streamed[i];
+            }
+            return results;
+        }
+    }
+
+    /** A compiled path with its output settings. */
+    private final class PathEvaluator {
+        private final JacksonConversions m_conv = JacksonConversions.getInstance();
+
+        private final SingleSetting m_setting;
+
+        private final Configuration m_config;
+
+        private final MappingProvider m_mappingProvider;
+
+        private final JsonPath m_jsonPath;
+
+        /** Evaluates simple paths on the token stream, {@code null} for other paths. */
+        private final StreamingPathEvaluator m_streamingPath;
+
+        private final OutputType m_returnType;
+
+        private final boolean m_resultIsList;
+
+        private final Runnable m_setWarning =
+            () -> setWarningMessage("Large value cannot be stored in an integer column");
+
+        PathEvaluator(final SingleSetting setting) {
+            m_setting = setting;
+            Configuration jsonPathConfiguration =
+                Configuration.builder().build();
+            List<Option> options = new ArrayList<>();
+            if (setting.isReturnPaths()) {
+                options.add(Option.AS_PATH_LIST);
+            }
+            options.add(Option.ALWAYS_RETURN_LIST);
+            options.add(Option.DEFAULT_PATH_LEAF_TO_NULL);
+            m_config = jsonPathConfiguration.setOptions(options.toArray(new Option[0]));
+            m_mappingProvider = m_config.mappingProvider();
+
+            // currently, a bug in the JsonPath library requires commas in quotes to be (un)escaped manually, see
+            // - AP-10014
+            // - https://github.com/json-path/JsonPath/issues/400
+            // - https://github.com/json-path/JsonPath/issues/487
+            m_jsonPath = JsonPath.compile(JsonPathUtils.escapeCommas(setting.getJsonPath()));
+            m_streamingPath = StreamingPathEvaluator.compile(setting.getJsonPath(), m_config).orElse(null);
+
+            m_returnType = setting.getReturnType();
+            m_resultIsList = setting.isResultIsList();
+        }
+
+        /**
+         * @param jsonCell a JSON value
+         * @return The representation of {@code jsonCell} the paths are evaluated on.
+         */
+        Object toDocument(final JSONValue jsonCell) {
+            if (m_config.jsonProvider().getClass().getName().contains("JacksonJsonNode")) {
+                return m_conv.toJackson(jsonCell.getJsonValue());
+            }
+            // the stored string can be parsed without creating the JSR-353 tree
+            return m_config.jsonProvider().parse(jsonCell instanceof StringValue
+                ? ((StringValue)jsonCell).getStringValue() : jsonCell.getJsonValue().toString());
+        }
+
+        DataCell evaluate(final Object document, final DataRow row) {
+            Object readObject;
+            try {
+                readObject = m_jsonPath.read(document, m_config);
+            } catch (RuntimeException e) {
+                return new MissingCell(e.getMessage());
+            }
+            return toCell(readObject, row);
+        }
+
+        DataCell toCell(final Object readObject, final DataRow row) {
+            Iterable<?> read = m_config.jsonProvider().toIterable(readObject);
+            List<Object> values = new ArrayList<>();
+            for (Object object : read) {
+                values.add(object);
+            }
+            List<DataCell> cells = new ArrayList<>();
+            if (m_setting.isReturnPaths() || (m_returnType == OutputType.String && m_resultIsList)) {
+                for (Object v : values) {
+                    if (v != null) {
+                        cells.add(new StringCell(v.toString()));
                     } else {
-                        for (final Object object : values) {
-                            cells.add(convertObjectToReturnType(object));
-                        }
-                    }
-                    if (resultIsList) {
-                        return CollectionCellFactory.createListCell(cells);
-                    }
-                    //At most one element
-                    if (cells.size() == 1) {
-                        return cells.get(0);
+                        cells.add(DataType.getMissingCell());
                     }
                 }
-                return DataType.getMissingCell();
+                return CollectionCellFactory.createListCell(cells);
             }
-
-            /**
-             * @param object An Object which should be converted to a JSONValue.
-             * @return The converted cell.
-             */
-            private DataCell convertObjectToReturnType(final Object object) {
-                try {
-                    switch (returnType) {
-                        case Boolean:
-                            Boolean bool = mappingProvider.map(object, Boolean.class, config);
-                            if (bool == null) {
-                                return BooleanCellFactory.create(object.toString());
-                            }
-                            return BooleanCellFactory.create(bool.booleanValue());
-                        case Integer:
-                            if (JsonPathUtils.checkLongProblem(returnType, object, m_setWarning)) {
-                                return new MissingCell("Value " + object + " is too large for an integer");
-                            }
-
-                            Integer integer = mappingProvider.map(object, Integer.class, config);
-                            if (integer == null) {
-                                return new IntCell(Integer.parseInt(object.toString()));
-                            }
-                            return new IntCell(integer.intValue());
-                        case Long:
-                            Long longVal = mappingProvider.map(object, Long.class, config);
-                            if (longVal == null) {
-                                return new LongCell(Long.parseLong(object.toString()));
-                            }
-                            return new LongCell(longVal.longValue());
-                        case Json:
-                            return asJson(object);
-                        case Double:
-                            Double d = mappingProvider.map(object, Double.class, config);
-                            if (d == null) {
-                                return DataType.getMissingCell();
-                            }
-                            return new DoubleCell(d.doubleValue());
-                        case String:
-                            return object == null ? DataType.getMissingCell() : new StringCell(object.toString());
-                        case Base64:
-                            if (object == null) {
-                                return DataType.getMissingCell();
-                            }
-                            byte[] arr;
-                            if (object instanceof byte[]) {
-                                arr = (byte[])object;
-                            } else if (object instanceof String) {
-                                String str = (String)object;
-                                arr = Base64Variants.getDefaultVariant().decode(str);
-                            } else if (object instanceof BinaryNode) {
-                                BinaryNode node = (BinaryNode)object;
-                                arr = node.binaryValue();
-                            } else {
-                                throw new IllegalArgumentException("Unkown binary type: " + object.getClass());
-                            }
-                            return new BinaryObjectCellFactory().create(arr);
-                        default:
-                            throw new UnsupportedOperationException("Unsupported return type: " + returnType);
+            if (!m_resultIsList && values.size() > 1) {
+                if (m_returnType == OutputType.Json) {
+                    JsonNodeFactory nodeFactory = JacksonUtils.nodeFactory();
+                    ArrayNode array = nodeFactory.arrayNode();
+                    for (Object value : values) {
+                        array.add(org.knime.json.node.jsonpath.JsonPathUtil.toJackson(
+                            nodeFactory, value));
                     }
-                } catch (RuntimeException | IOException e) {
-                    return new MissingCell(e.getMessage());
+                    return convertObjectToReturnType(array);
                 }
+                throw new IllegalStateException("Expected at most one result, but got: " + values.size() + " ["
+                    + shorten(values.toString()) + "]" + "\n   in row: " + row.getKey());
+            } else {
+                for (final Object object : values) {
+                    cells.add(convertObjectToReturnType(object));
+                }
+            }
+            if (m_resultIsList) {
+                return CollectionCellFactory.createListCell(cells);
             }
+            //At most one element
+            if (cells.size() == 1) {
+                return cells.get(0);
+            }
+            return DataType.getMissingCell();
+        }
 
-            /**
-             * @param object
-             * @return The {@code object} as a JSON {@link DataCell}.
-             */
-            private DataCell asJson(final Object object) {
-                if (object instanceof JsonNode) {
-                    return JSONCellFactory.create(conv.toJSR353((JsonNode)object));
-                }
-                try {
-                    return JSONCellFactory.create(conv.toJSR353(org.knime.json.node.jsonpath.JsonPathUtil.toJackson(
-                        JacksonUtils.nodeFactory(), object)));
-                } catch (RuntimeException e) {
-                    return new MissingCell(e.getMessage());
+        /**
+         * @param object An Object which should be converted to a JSONValue.
+         * @return The converted cell.
+         */
+        private DataCell convertObjectToReturnType(final Object object) {
+            try {
+                switch (m_returnType) {
+                    case Boolean:
+                        Boolean bool = m_mappingProvider.map(object, Boolean.class, m_config);
+                        if (bool == null) {
+                            return BooleanCellFactory.create(object.toString());
+                        }
+                        return BooleanCellFactory.create(bool.booleanValue());
+                    case Integer:
+                        if (JsonPathUtils.checkLongProblem(m_returnType, object, m_setWarning)) {
+                            return new MissingCell("Value " + object + " is too large for an integer");
+                        }
+
+                        Integer integer = m_mappingProvider.map(object, Integer.class, m_config);
+                        if (integer == null) {
+                            return new IntCell(Integer.parseInt(object.toString()));
+                        }
+                        return new IntCell(integer.intValue());
+                    case Long:
+                        Long longVal = m_mappingProvider.map(object, Long.class, m_config);
+                        if (longVal == null) {
+                            return new LongCell(Long.parseLong(object.toString()));
+                        }
+                        return new LongCell(longVal.longValue());
+                    case Json:
+                        return asJson(object);
+                    case Double:
+                        Double d = m_mappingProvider.map(object, Double.class, m_config);
+                        if (d == null) {
+                            return DataType.getMissingCell();
+                        }
+                        return new DoubleCell(d.doubleValue());
+                    case String:
+                        return object == null ? DataType.getMissingCell() : new StringCell(object.toString());
+                    case Base64:
+                        if (object == null) {
+                            return DataType.getMissingCell();
+                        }
+                        byte[] arr;
+                        if (object instanceof byte[]) {
+                            arr = (byte[])object;
+                        } else if (object instanceof String) {
+                            String str = (String)object;
+                            arr = Base64Variants.getDefaultVariant().decode(str);
+                        } else if (object instanceof BinaryNode) {
+                            BinaryNode node = (BinaryNode)object;
+                            arr = node.binaryValue();
+                        } else {
+                            throw new IllegalArgumentException("Unkown binary type: " + object.getClass());
+                        }
+                        return new BinaryObjectCellFactory().create(arr);
+                    default:
+                        throw new UnsupportedOperationException("Unsupported return type: " + m_returnType);
                 }
+            } catch (RuntimeException | IOException e) {
+                return new MissingCell(e.getMessage());
             }
+        }
 
-        };
+        /**
+         * @param object
+         * @return The {@code object} as a JSON {@link DataCell}.
+         */
+        private DataCell asJson(final Object object) {
+            if (object instanceof JsonNode) {
+                return JSONCellFactory.create(m_conv.toJSR353((JsonNode)object));
+            }
+            try {
+                return JSONCellFactory.create(m_conv.toJSR353(org.knime.json.node.jsonpath.JsonPathUtil.toJackson(
+                    JacksonUtils.nodeFactory(), object)));
+            } catch (RuntimeException e) {
+                return new MissingCell(e.getMessage());
+            }
+        }
     }
 
     /**
@@ -60,6 +60,7 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.port.PortObjectSpec;
+import org.knime.json.node.util.ParallelProcessing;
 import org.knime.json.node.util.PathOrPointerSettings;
 
 /**
@@ -84,6 +85,8 @@ final class JSONPathSettings {
 
     private boolean m_removeInputColumn = DEFAULT_REMOVE_SOURCE;
 
+    private int m_workerCount = ParallelProcessing.DEFAULT_WORKER_COUNT;
+
     private NodeLogger m_logger;
 
     private final List<SingleSetting> m_outputSettings = new ArrayList<>();
@@ -125,6 +128,20 @@ protected final void setRemoveInputColumn(final boolean removeInputColumn) {
         this.m_removeInputColumn = removeInputColumn;
     }
 
+    /**
+     * @return the number of worker threads ({@code 0}: automatic)
+     */
+    protected final int getWorkerCount() {
+        return m_workerCount;
+    }
+
+    /**
+     * @param workerCount the number of worker threads to set ({@code 0}: automatic)
+     */
+    protected final void setWorkerCount(final int workerCount) {
+        this.m_workerCount = workerCount;
+    }
+
     /**
      * Loads the settings with defaults if those are not available. It might use the input table {@code specs}.
      *
@@ -135,6 +152,7 @@ protected void loadSettingsForDialogs(final NodeSettingsRO settings, final PortO
         DataTableSpec spec = (DataTableSpec)specs[0];
         m_inputColumnName = settings.getString(INPUT_COLUMN, defaultColumnName(spec));
         m_removeInputColumn = settings.getBoolean(REMOVE_SOURCE, DEFAULT_REMOVE_SOURCE);
+        m_workerCount = ParallelProcessing.loadWorkerCount(settings);
         int n = settings.getStringArray(SingleSetting.RETURN_TYPE, new String[0]).length;
         m_outputSettings.clear();
         for (int i = 0; i < n; i++) {
@@ -178,6 +196,8 @@ private String defaultColumnName(final DataTableSpec spec) {
     protected void loadSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
         m_inputColumnName = settings.getString(INPUT_COLUMN);
         m_removeInputColumn = settings.getBoolean(REMOVE_SOURCE);
+        m_workerCount = ParallelProcessing.loadWorkerCount(settings);
+        ParallelProcessing.validate(m_workerCount);
         int n = settings.getStringArray(SingleSetting.RETURN_TYPE).length;
         m_outputSettings.clear();
         for (int i = 0; i < n; i++) {
@@ -195,6 +215,7 @@ protected void loadSettingsFrom(final NodeSettingsRO settings) throws InvalidSet
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         settings.addString(INPUT_COLUMN, m_inputColumnName);
         settings.addBoolean(REMOVE_SOURCE, m_removeInputColumn);
+        settings.addInt(ParallelProcessing.CFG_WORKER_COUNT, m_workerCount);
         String[] paths = new String[m_outputSettings.size()], returnTypes = new String[m_outputSettings.size()], colNames =
             new String[m_outputSettings.size()];
         boolean[] resultIsListArray = new boolean[m_outputSettings.size()], resultPaths =
@@ -0,0 +1,315 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.jsonpath.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+
+/**
+ * Evaluates simple {@link JsonPath}s (properties, non-negative array indices and wildcards, like
+ * {@code $.items[*].id} or {@code $['a'].b[3]}) on the token stream of a serialized JSON document, without creating
+ * the tree of the document. Only the matched values are parsed (by the {@link JsonProvider} of the configuration).
+ * <br/>
+ * The results are the same as of {@link JsonPath#read(Object, Configuration)} with the
+ * {@link Option#ALWAYS_RETURN_LIST} and {@link Option#DEFAULT_PATH_LEAF_TO_NULL} options. When {@link JsonPath}
+ * would fail (for example a missing property in a definite path), the evaluation reports that {@link JsonPath} has
+ * to be used for that document. Several paths can be evaluated in a single pass over the tokens.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class StreamingPathEvaluator {
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private static final EnumSet<Option> SUPPORTED_OPTIONS =
+        EnumSet.of(Option.ALWAYS_RETURN_LIST, Option.DEFAULT_PATH_LEAF_TO_NULL);
+
+    /** A single step of the path: {@code .name}, {@code ['name']}, {@code [3]}, {@code .*} or {@code [*]}. */
+    private static final Pattern STEP = Pattern.compile(
+        "\\.([A-Za-z0-9_$-]+)|\\['([^'\"\\\\,*]*)'\\]|\\[\"([^'\"\\\\,*]*)\"\\]|\\[([0-9]{1,9})\\]|\\.\\*|\\[\\*\\]");
+
+    /** Property name for property steps, {@code null} for index and wildcard steps. */
+    private final String[] m_keys;
+
+    /** Array index for index steps, {@code -1} for the others. */
+    private final int[] m_indices;
+
+    /** Whether all steps before (not including) the step are definite, that is there is no wildcard before. */
+    private final boolean[] m_definite;
+
+    /** Whether the path has no wildcards. */
+    private final boolean m_definitePath;
+
+    private StreamingPathEvaluator(final List<String> keys, final List<Integer> indices) {
+        final int length = keys.size();
+        m_keys = keys.toArray(new String[length]);
+        m_indices = new int[length];
+        m_definite = new boolean[length];
+        boolean definite = true;
+        for (int i = 0; i < length; i++) {
+            m_indices[i] = indices.get(i);
+            m_definite[i] = definite;
+            definite &= m_keys[i] != null || m_indices[i] >= 0;
+        }
+        m_definitePath = definite;
+    }
+
+    /**
+     * Creates an evaluator for the path if it is simple enough and the configuration is supported.
+     *
+     * @param jsonPath a JSONPath (without escaped commas)
+     * @param configuration the configuration the path would be evaluated with by {@link JsonPath}
+     * @return The evaluator, or empty if {@code jsonPath} has to be evaluated by {@link JsonPath}.
+     */
+    public static Optional<StreamingPathEvaluator> compile(final String jsonPath,
+        final Configuration configuration) {
+        if (jsonPath == null || !jsonPath.startsWith("$")
+            || !SUPPORTED_OPTIONS.equals(EnumSet.copyOf(configuration.getOptions()))) {
+            return Optional.empty();
+        }
+        final List<String> keys = new ArrayList<>();
+        final List<Integer> indices = new ArrayList<>();
+        final Matcher matcher = STEP.matcher(jsonPath);
+        int position = 1;
+        while (position < jsonPath.length()) {
+            if (!matcher.find(position) || matcher.start() != position) {
+                return Optional.empty();
+            }
+            String key = matcher.group(1) != null ? matcher.group(1)
+                : matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+            keys.add(key);
+            indices.add(matcher.group(4) == null ? -1 : Integer.valueOf(matcher.group(4)));
+            position = matcher.end();
+        }
+        return Optional.of(new StreamingPathEvaluator(keys, indices));
+    }
+
+    /**
+     * Evaluates the path.
+     *
+     * @param json a serialized JSON document
+     * @param configuration the configuration to create the result (with its {@link JsonProvider})
+     * @return The results like from {@link JsonPath#read(Object, Configuration)} (an array of the
+     *         {@link JsonProvider}), or {@code null} if {@link JsonPath} has to be used for {@code json}.
+     */
+    public Object read(final String json, final Configuration configuration) {
+        return read(json, Collections.singletonList(this), configuration)[0];
+    }
+
+    /**
+     * Evaluates several paths in a single pass over the tokens of the document.
+     *
+     * @param json a serialized JSON document
+     * @param evaluators the paths to evaluate
+     * @param configuration the configuration to create the results (with its {@link JsonProvider})
+     * @return The results of {@code evaluators} (in the same order) like from {@link #read(String, Configuration)},
+     *         {@code null} elements for the paths which have to be evaluated by {@link JsonPath}.
+     */
+    public static Object[] read(final String json, final List<StreamingPathEvaluator> evaluators,
+        final Configuration configuration) {
+        final List<List<String>> values = evaluate(json, evaluators);
+        final JsonProvider provider = configuration.jsonProvider();
+        final Object[] results = new Object[evaluators.size()];
+        for (int p = 0; p < results.length; p++) {
+            final List<String> pathValues = values.get(p);
+            if (pathValues == null) {
+                continue;
+            }
+            final Object result = provider.createArray();
+            for (int i = 0; i < pathValues.size(); i++) {
+                final String value = pathValues.get(i);
+                provider.setArrayIndex(result, i, value == null ? null : provider.parse(value));
+            }
+            results[p] = result;
+        }
+        return results;
+    }
+
+    /**
+     * @param json a serialized JSON document
+     * @param evaluators the paths to evaluate
+     * @return Per path the serialized form of the matched values in document order ({@code null} elements for missing
+     *         leaf properties), or {@code null} if {@link JsonPath} has to be used for {@code json}.
+     */
+    static List<List<String>> evaluate(final String json, final List<StreamingPathEvaluator> evaluators) {
+        final int count = evaluators.size();
+        final List<List<String>> values = new ArrayList<>(count);
+        final int[] paths = new int[count];
+        for (int p = 0; p < count; p++) {
+            values.add(new ArrayList<>());
+            paths[p] = p;
+        }
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() == null) {
+                return Collections.nCopies(count, null);
+            }
+            match(parser, json, evaluators, values, paths, 0);
+        } catch (IOException e) { // NOSONAR invalid JSON, JsonPath reports the problem
+            return Collections.nCopies(count, null);
+        }
+        for (int p = 0; p < count; p++) {
+            if (values.get(p) != null && values.get(p).isEmpty() && evaluators.get(p).m_definitePath) {
+                // JsonPath fails when there is no result for a definite path
+                values.set(p, null);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Matches the value starting at the current token of the parser for the {@code paths} which matched the
+     * {@code step} steps before. The parser is left at the last token of the value. When {@link JsonPath} would fail
+     * for a path, its values are set to {@code null} and it is not matched anymore.
+     */
+    private static void match(final JsonParser parser, final String json,
+        final List<StreamingPathEvaluator> evaluators, final List<List<String>> values, final int[] paths,
+        final int step) throws IOException {
+        final JsonToken token = parser.currentToken();
+        final int start = (int)parser.getTokenLocation().getCharOffset();
+        final int[] descending = new int[paths.length];
+        int descendingCount = 0;
+        boolean complete = false;
+        for (final int p : paths) {
+            if (values.get(p) == null) {
+                continue;
+            }
+            final StreamingPathEvaluator evaluator = evaluators.get(p);
+            if (step == evaluator.m_keys.length) {
+                complete = true;
+            } else if (evaluator.m_keys[step] != null || evaluator.m_indices[step] >= 0) {
+                if (token == (evaluator.m_keys[step] != null ? JsonToken.START_OBJECT : JsonToken.START_ARRAY)) {
+                    descending[descendingCount++] = p;
+                } else if (evaluator.m_definite[step]) {
+                    // JsonPath fails for definite paths, ignores the value otherwise
+                    values.set(p, null);
+                }
+            } else if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                // wildcard, scalars have no children
+                descending[descendingCount++] = p;
+            }
+        }
+        if (descendingCount > 0) {
+            matchChildren(parser, json, evaluators, values, Arrays.copyOf(descending, descendingCount), step);
+        } else if (token.isStructStart()) {
+            parser.skipChildren();
+        } else if (complete) {
+            // strings are parsed lazily
+            parser.finishToken();
+        }
+        if (complete) {
+            final String value = json.substring(start, (int)parser.getCurrentLocation().getCharOffset());
+            for (final int p : paths) {
+                if (values.get(p) != null && step == evaluators.get(p).m_keys.length) {
+                    values.get(p).add(value);
+                }
+            }
+        }
+    }
+
+    /** Matches the children of the object or array at the current token for the {@code paths} at {@code step}. */
+    private static void matchChildren(final JsonParser parser, final String json,
+        final List<StreamingPathEvaluator> evaluators, final List<List<String>> values, final int[] paths,
+        final int step) throws IOException {
+        final JsonToken end =
+            parser.currentToken() == JsonToken.START_OBJECT ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+        // only the first child matching a property or an index is used
+        final boolean[] found = new boolean[paths.length];
+        final int[] childPaths = new int[paths.length];
+        for (int index = 0; parser.nextToken() != end; index++) {
+            String name = null;
+            if (parser.currentToken() == JsonToken.FIELD_NAME) {
+                name = parser.getCurrentName();
+                parser.nextToken();
+            }
+            int childCount = 0;
+            for (int i = 0; i < paths.length; i++) {
+                final StreamingPathEvaluator evaluator = evaluators.get(paths[i]);
+                final String key = evaluator.m_keys[step];
+                final int stepIndex = evaluator.m_indices[step];
+                final boolean matches = key != null ? key.equals(name) : (stepIndex < 0 || stepIndex == index);
+                if (matches && !found[i] && values.get(paths[i]) != null) {
+                    found[i] = key != null || stepIndex >= 0;
+                    childPaths[childCount++] = paths[i];
+                }
+            }
+            if (childCount == 0) {
+                parser.skipChildren();
+            } else {
+                match(parser, json, evaluators, values, Arrays.copyOf(childPaths, childCount), step + 1);
+            }
+        }
+        for (int i = 0; i < paths.length; i++) {
+            final StreamingPathEvaluator evaluator = evaluators.get(paths[i]);
+            if (found[i] || evaluator.m_keys[step] == null || values.get(paths[i]) == null) {
+                // missing array indices are ignored by JsonPath
+                continue;
+            }
+            if (step == evaluator.m_keys.length - 1) {
+                // DEFAULT_PATH_LEAF_TO_NULL
+                values.get(paths[i]).add(null);
+            } else if (evaluator.m_definite[step]) {
+                values.set(paths[i], null);
+            }
+        }
+    }
+}
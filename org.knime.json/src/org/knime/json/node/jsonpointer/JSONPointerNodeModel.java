@@ -74,6 +74,7 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.json.node.util.OutputType;
+import org.knime.json.node.util.ParallelProcessing;
 import org.knime.json.node.util.SingleColumnReplaceOrAddNodeModel;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -161,7 +162,7 @@ protected CellFactory createCellFactory(final DataColumnSpec output, final int i
             throw new IllegalStateException("Invalid pointer: " + e.getMessage(), e);
         }
         final OutputType returnType = getSettings().getReturnType();
-        return new SingleCellFactory(output) {
+        final SingleCellFactory factory = new SingleCellFactory(output) {
 
             @Override
             public DataCell getCell(final DataRow row) {
@@ -202,6 +203,8 @@ public DataCell getCell(final DataRow row) {
                 return DataType.getMissingCell();
             }
         };
+        // the compiled pointer and the conversions are immutable, shared by the workers
+        return ParallelProcessing.configure(factory, getSettings().getWorkerCount());
     }
 
     /**
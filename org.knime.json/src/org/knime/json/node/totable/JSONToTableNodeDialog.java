@@ -1,5 +1,6 @@
 package org.knime.json.node.totable;
 
+import java.awt.FlowLayout;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.event.ActionEvent;
@@ -8,9 +9,12 @@
 import javax.swing.BoxLayout;
 import javax.swing.ButtonGroup;
 import javax.swing.JCheckBox;
+import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JRadioButton;
+import javax.swing.JScrollPane;
 import javax.swing.JSpinner;
+import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.SpinnerNumberModel;
 import javax.swing.border.TitledBorder;
@@ -23,6 +27,7 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.NotConfigurableException;
 import org.knime.core.node.util.ColumnSelectionPanel;
+import org.knime.json.node.util.ParallelProcessing;
 
 /**
  * <code>NodeDialog</code> for the "JSONToTable" Node. Converts JSON values to new columns.
@@ -53,8 +58,24 @@ class JSONToTableNodeDialog extends NodeDialogPane {
 
     private final JCheckBox m_removeSourceChecker = new JCheckBox("Remove source column");
 
+    private final JSpinner m_workerCount = ParallelProcessing.createWorkerCountSpinner();
+
     private JCheckBox m_omitNestedObjects = new JCheckBox("Omit nested objects");
 
+    private final JRadioButton m_allRows = new JRadioButton("All rows"), m_firstRows = new JRadioButton(
+        "First rows: "), m_template = new JRadioButton("Template JSON (allows streaming)");
+
+    private final JSpinner m_inferenceRowCount = new JSpinner(new SpinnerNumberModel(
+        JSONToTableSettings.DEFAULT_INFERENCE_ROW_COUNT, 1, Integer.MAX_VALUE, 100));
+
+    private final JTextArea m_templateJson = new JTextArea(8, 40);
+
+    private final JRadioButton m_unmatchedMissing = new JRadioButton("Drop the values (missing values)"),
+            m_unmatchedColumn = new JRadioButton("Add the JSON value to an \"Unmatched JSON\" column"),
+            m_unmatchedFail = new JRadioButton("Fail");
+
+    private final ButtonGroup m_columnInference = new ButtonGroup(), m_unmatchedHandling = new ButtonGroup();
+
     /**
      * New pane for configuring the JSONToTable node.
      */
@@ -86,9 +107,94 @@ protected JSONToTableNodeDialog() {
         c.gridy++;
         panel.add(expansion, c);
         c.gridy++;
+        JPanel workers = new JPanel(new FlowLayout(FlowLayout.LEADING));
+        workers.add(new JLabel(ParallelProcessing.WORKER_COUNT_LABEL));
+        workers.add(m_workerCount);
+        panel.add(workers, c);
+        c.gridy++;
         c.fill = GridBagConstraints.BOTH;
         panel.add(new JPanel(), c);
         addTab("Settings", panel);
+        addTab("Column Inference", columnInference());
+    }
+
+    /**
+     * @return
+     */
+    private JPanel columnInference() {
+        m_columnInference.add(m_allRows);
+        m_columnInference.add(m_firstRows);
+        m_columnInference.add(m_template);
+        m_unmatchedHandling.add(m_unmatchedMissing);
+        m_unmatchedHandling.add(m_unmatchedColumn);
+        m_unmatchedHandling.add(m_unmatchedFail);
+        JPanel inference = new JPanel(new GridBagLayout());
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        gbc.anchor = GridBagConstraints.LINE_START;
+        gbc.gridx = 0;
+        gbc.gridy = 0;
+        gbc.gridwidth = 2;
+        gbc.weightx = 1;
+        inference.add(m_allRows, gbc);
+        gbc.gridy++;
+        gbc.gridwidth = 1;
+        gbc.weightx = 0;
+        inference.add(m_firstRows, gbc);
+        gbc.gridx = 1;
+        gbc.weightx = 1;
+        inference.add(m_inferenceRowCount, gbc);
+        gbc.gridx = 0;
+        gbc.gridy++;
+        gbc.gridwidth = 2;
+        inference.add(m_template, gbc);
+        gbc.gridy++;
+        gbc.fill = GridBagConstraints.BOTH;
+        gbc.weighty = 1;
+        inference.add(new JScrollPane(m_templateJson), gbc);
+        inference.setBorder(new TitledBorder("Infer output columns from"));
+        ActionListener inferenceListener = new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent e) {
+                updateInferenceEnablement();
+            }
+        };
+        m_allRows.addActionListener(inferenceListener);
+        m_firstRows.addActionListener(inferenceListener);
+        m_template.addActionListener(inferenceListener);
+
+        JPanel unmatched = new JPanel();
+        unmatched.setLayout(new BoxLayout(unmatched, BoxLayout.PAGE_AXIS));
+        unmatched.add(m_unmatchedMissing);
+        unmatched.add(m_unmatchedColumn);
+        unmatched.add(m_unmatchedFail);
+        unmatched.setBorder(new TitledBorder("Rows not fitting the inferred columns"));
+
+        JPanel ret = new JPanel(new GridBagLayout());
+        GridBagConstraints c = new GridBagConstraints();
+        c.fill = GridBagConstraints.BOTH;
+        c.gridx = 0;
+        c.gridy = 0;
+        c.weightx = 1;
+        c.weighty = 1;
+        ret.add(inference, c);
+        c.gridy++;
+        c.weighty = 0;
+        c.fill = GridBagConstraints.HORIZONTAL;
+        ret.add(unmatched, c);
+        return ret;
+    }
+
+    /**
+     * Updates the enabled state of the column inference controls.
+     */
+    private void updateInferenceEnablement() {
+        m_inferenceRowCount.setEnabled(m_firstRows.isSelected());
+        m_templateJson.setEnabled(m_template.isSelected());
+        final boolean unmatchedPossible = !m_allRows.isSelected();
+        m_unmatchedMissing.setEnabled(unmatchedPossible);
+        m_unmatchedColumn.setEnabled(unmatchedPossible);
+        m_unmatchedFail.setEnabled(unmatchedPossible);
     }
 
     /**
@@ -187,9 +293,42 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         m_settings.setSeparator(m_pathSeparator.getText());
         m_settings.setRemoveSourceColumn(m_removeSourceChecker.isSelected());
         m_settings.setOmitNestedObjects(m_omitNestedObjects.isSelected());
+        m_settings.setColumnInference(selectedColumnInference());
+        m_settings.setInferenceRowCount(((Number)m_inferenceRowCount.getValue()).intValue());
+        m_settings.setTemplate(m_templateJson.getText());
+        m_settings.setUnmatchedHandling(selectedUnmatchedHandling());
+        m_settings.setWorkerCount(((Number)m_workerCount.getValue()).intValue());
         m_settings.saveSettings(settings);
     }
 
+    /**
+     * @return
+     */
+    private ColumnInference selectedColumnInference() {
+        if (m_firstRows.isSelected()) {
+            return ColumnInference.FirstRows;
+        }
+        if (m_template.isSelected()) {
+            return ColumnInference.Template;
+        }
+        assert m_allRows.isSelected();
+        return ColumnInference.AllRows;
+    }
+
+    /**
+     * @return
+     */
+    private UnmatchedHandling selectedUnmatchedHandling() {
+        if (m_unmatchedColumn.isSelected()) {
+            return UnmatchedHandling.JsonColumn;
+        }
+        if (m_unmatchedFail.isSelected()) {
+            return UnmatchedHandling.Fail;
+        }
+        assert m_unmatchedMissing.isSelected();
+        return UnmatchedHandling.Missing;
+    }
+
     /**
      * @return
      */
@@ -276,5 +415,37 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final DataTableSp
         m_upToN.setEnabled(m_onlyUpTo.isSelected());
         m_removeSourceChecker.setSelected(m_settings.isRemoveSourceColumn());
         m_omitNestedObjects.setSelected(m_settings.isOmitNestedObjects());
+        switch (m_settings.getColumnInference()) {
+            case AllRows:
+                m_allRows.setSelected(true);
+                break;
+            case FirstRows:
+                m_firstRows.setSelected(true);
+                break;
+            case Template:
+                m_template.setSelected(true);
+                break;
+            default:
+                throw new UnsupportedOperationException("Unknown column inference: "
+                    + m_settings.getColumnInference());
+        }
+        m_inferenceRowCount.setValue(m_settings.getInferenceRowCount());
+        m_templateJson.setText(m_settings.getTemplate());
+        switch (m_settings.getUnmatchedHandling()) {
+            case Missing:
+                m_unmatchedMissing.setSelected(true);
+                break;
+            case JsonColumn:
+                m_unmatchedColumn.setSelected(true);
+                break;
+            case Fail:
+                m_unmatchedFail.setSelected(true);
+                break;
+            default:
+                throw new UnsupportedOperationException("Unknown handling of unmatched rows: "
+                    + m_settings.getUnmatchedHandling());
+        }
+        updateInferenceEnablement();
+        m_workerCount.setValue(m_settings.getWorkerCount());
     }
 }
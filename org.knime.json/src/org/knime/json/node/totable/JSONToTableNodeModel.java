@@ -25,7 +25,9 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.MissingCell;
 import org.knime.core.data.container.AbstractCellFactory;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.json.JSONCellFactory;
 import org.knime.core.data.json.JSONValue;
 import org.knime.core.data.json.JacksonConversions;
 import org.knime.core.node.BufferedDataTable;
@@ -34,23 +36,30 @@
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
-import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.StreamableFunction;
+import org.knime.core.node.streamable.simple.SimpleStreamableFunctionNodeModel;
 import org.knime.core.util.UniqueNameGenerator;
 import org.knime.json.node.jsonpath.JsonPathUtil;
 import org.knime.json.node.jsonpath.util.JsonPathUtils;
 import org.knime.json.node.jsonpath.util.OutputKind;
-import org.knime.json.node.jsonpath.util.SimplePathParser;
 import org.knime.json.node.jsonpath.util.SimplePathParser.Path;
+import org.knime.json.node.util.ParallelProcessing;
 import org.knime.json.util.OutputType;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.fge.jackson.JacksonUtils;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
-import com.jayway.jsonpath.Option;
-import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
 import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 
@@ -62,16 +71,19 @@
  *
  * @author Gabor Bakos
  */
-public class JSONToTableNodeModel extends NodeModel {
+public class JSONToTableNodeModel extends SimpleStreamableFunctionNodeModel {
     private static final NodeLogger LOGGER = NodeLogger.getLogger(JSONToTableNodeModel.class);
 
+    /** Proposed name of the column holding the JSON values of the rows not fitting the column layout. */
+    private static final String UNMATCHED_COLUMN_NAME = "Unmatched JSON";
+
     private final JSONToTableSettings m_settings = new JSONToTableSettings();
 
     /**
      * Constructor for the node model.
      */
     protected JSONToTableNodeModel() {
-        super(1, 1);
+        super();
     }
 
     /**
@@ -79,78 +91,106 @@ protected JSONToTableNodeModel() {
      */
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
-        throws CanceledExecutionException {
-        ExecutionContext columnSelectionContext = exec.createSubExecutionContext(.5);
+        throws CanceledExecutionException, InvalidSettingsException {
         final DataTableSpec spec = inData[0].getSpec();
-        ColumnRearranger rearranger = new ColumnRearranger(spec);
+        final Map<String, OutputKind> kinds;
+        final ExecutionContext columnApplyContext;
+        if (m_settings.getColumnInference() == ColumnInference.Template) {
+            kinds = templateLayout();
+            columnApplyContext = exec;
+        } else {
+            ExecutionContext columnSelectionContext = exec.createSubExecutionContext(.5);
+            kinds = inferLayout(inData[0], spec.findColumnIndex(m_settings.getInputColumn()), columnSelectionContext);
+            columnApplyContext = exec.createSubExecutionContext(.5);
+        }
+        return new BufferedDataTable[]{columnApplyContext.createColumnRearrangeTable(inData[0],
+            createColumnRearranger(spec, kinds), columnApplyContext)};
+    }
 
-        long r = 0, all = inData[0].size();
-        final int jsonIndex = spec.findColumnIndex(m_settings.getInputColumn());
-        final JsonPath jsonPath = JsonPath.compile("$..*");
-        final JacksonConversions conv = JacksonConversions.getInstance();
-        final Configuration conf = Configuration.builder().options(Option.AS_PATH_LIST).build();
-        final Map<String, OutputKind> kinds = new LinkedHashMap<>();
-        boolean wasRoot = false;
-        OutputKind rootKind = new OutputKind(true, null);
-        kinds.put("$", rootKind);
-        for (DataRow row : inData[0]) {
-            columnSelectionContext.checkCanceled();
-            columnSelectionContext.setProgress(r++ / (double)all,
-                "Analysing: " + r + "/" + all + " (\"" + row.getKey() + "\")");
-            DataCell cell = row.getCell(jsonIndex);
-            if (cell instanceof JSONValue) {
-                JSONValue jv = (JSONValue)cell;
-                List<Path> paths;
-                try {
-                    List<String> rawPaths = jsonPath.read(jv.getJsonValue().toString(), conf);
-                    paths = new ArrayList<>(rawPaths.size());
-                    for (String rawPath : rawPaths) {
-                        // currently, a bug in the JsonPath library requires commas in quotes to be (un)escaped manually, see
-                        // - AP-10014
-                        // - https://github.com/json-path/JsonPath/issues/400
-                        // - https://github.com/json-path/JsonPath/issues/487
-                        paths.add(new SimplePathParser.Path(JsonPathUtils.escapeCommas(rawPath)));
-                    }
-                } catch (PathNotFoundException e) {
-                    LOGGER.debug("Warning: " + e.getMessage(), e);
-                    paths = Collections.emptyList();
-                    wasRoot = true;
-                }
-                TreeSet<Path> origPaths = new TreeSet<>(paths);
-                filterArrays(paths);
-                filterNonLeaves(paths, origPaths);
-                for (Path path : paths) {
-                    OutputKind kind = processValueAndPath(jv, path);
-                    if (kinds.containsKey(path.toString())) {
-                        OutputKind orig = kinds.get(path.toString());
-                        boolean single = kind.isSingle() && orig.isSingle();
-                        OutputType type = JsonPathUtils.commonRepresentation(orig.getType(), kind.getType());
-                        kinds.put(path.toString(), new OutputKind(single, type));
-                    } else {
-                        kinds.put(path.toString(), kind);
-                    }
+    /**
+     * Analyses the rows of {@code table} (only the first ones with {@link ColumnInference#FirstRows}).
+     *
+     * @param table The input table.
+     * @param jsonIndex The index of the JSON column.
+     * @param exec The context to report progress and to check cancellation.
+     * @return The inferred column layout.
+     * @throws CanceledExecutionException Execution was cancelled.
+     */
+    private Map<String, OutputKind> inferLayout(final BufferedDataTable table, final int jsonIndex,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        final long all = m_settings.getColumnInference() == ColumnInference.FirstRows
+            ? Math.min(table.size(), m_settings.getInferenceRowCount()) : table.size();
+        final LayoutInference inference = new LayoutInference();
+        long r = 0;
+        try (CloseableRowIterator it = table.iterator()) {
+            while (r < all && it.hasNext()) {
+                final DataRow row = it.next();
+                exec.checkCanceled();
+                exec.setProgress(r++ / (double)all, "Analysing: " + r + "/" + all + " (\"" + row.getKey() + "\")");
+                DataCell cell = row.getCell(jsonIndex);
+                if (cell instanceof JSONValue) {
+                    inference.add((JSONValue)cell);
                 }
-                OutputKind kind = processValueAndPath(jv, new Path("$"));
-                rootKind = new OutputKind(rootKind.isSingle() && kind.isSingle(), JsonPathUtils.commonRepresentation(rootKind.getType(), kind.getType()));
             }
         }
-        if (wasRoot) {
-            //For root, we do not want collection of JSON values, that would be confusing.
-            if (!rootKind.isSingle() && rootKind.getType() != null && rootKind.getType() == OutputType.Json) {
-                rootKind = new OutputKind(true, OutputType.Json);
-            }
-            kinds.put("$", rootKind);
-        } else {
-            kinds.remove("$");
+        reportWarning(inference.warning());
+        return inference.layout();
+    }
+
+    /**
+     * @return The column layout of the template JSON value.
+     * @throws InvalidSettingsException The template is missing or not a valid JSON value.
+     */
+    private Map<String, OutputKind> templateLayout() throws InvalidSettingsException {
+        if (m_settings.getTemplate().trim().isEmpty()) {
+            throw new InvalidSettingsException("No template JSON value is specified.");
+        }
+        final DataCell template;
+        try {
+            template = JSONCellFactory.create(m_settings.getTemplate(), false);
+        } catch (IOException | RuntimeException e) {
+            throw new InvalidSettingsException("The template is not a valid JSON value: " + e.getMessage(), e);
+        }
+        final LayoutInference inference = new LayoutInference();
+        inference.add((JSONValue)template);
+        reportWarning(inference.warning());
+        return inference.layout();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Only available when the columns are inferred from the {@link ColumnInference#Template template}, otherwise the
+     * input has to be analysed first.
+     */
+    @Override
+    protected ColumnRearranger createColumnRearranger(final DataTableSpec spec) throws InvalidSettingsException {
+        if (m_settings.getColumnInference() != ColumnInference.Template) {
+            throw new InvalidSettingsException(
+                "The output columns are only known in advance when they are inferred from a template.");
         }
-        removeRedundant(kinds);
-        DataColumnSpec[] specs = new DataColumnSpec[kinds.size()];
+        return createColumnRearranger(spec, templateLayout());
+    }
+
+    /**
+     * @param spec The input table spec.
+     * @param kinds The column layout: the {@link OutputKind}s by the JSONPaths.
+     * @return The {@link ColumnRearranger} extracting the values of the JSON column.
+     */
+    private ColumnRearranger createColumnRearranger(final DataTableSpec spec, final Map<String, OutputKind> kinds) {
+        ColumnRearranger rearranger = new ColumnRearranger(spec);
+        final int jsonIndex = spec.findColumnIndex(m_settings.getInputColumn());
+        final JacksonConversions conv = JacksonConversions.getInstance();
+        // with all rows analysed, every row fits the layout by construction
+        final UnmatchedHandling unmatchedHandling = m_settings.getColumnInference() == ColumnInference.AllRows
+            ? null : m_settings.getUnmatchedHandling();
+        final boolean unmatchedColumn = unmatchedHandling == UnmatchedHandling.JsonColumn;
+        DataColumnSpec[] specs = new DataColumnSpec[kinds.size() + (unmatchedColumn ? 1 : 0)];
         final Map<String, JsonPath> jsonPaths = new LinkedHashMap<>();
         {
             final UniqueNameGenerator nameGenerator = new UniqueNameGenerator(spec);
             int i = 0;
             for (Entry<String, OutputKind> kindEntry : kinds.entrySet()) {
-                columnSelectionContext.checkCanceled();
                 final String proposedName = proposedName(kindEntry.getKey());
 
                 // currently, a bug in the JsonPath library requires commas in quotes to be (un)escaped manually, see
@@ -162,32 +202,59 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
                 specs[i++] = new DataColumnSpecCreator(realName, kindEntry.getValue().getDataType()).createSpec();
                 jsonPaths.put(kindEntry.getKey(), JsonPath.compile(kindEntry.getKey()));
             }
+            if (unmatchedColumn) {
+                specs[i] = nameGenerator.newColumn(UNMATCHED_COLUMN_NAME, spec.getColumnSpec(jsonIndex).getType());
+            }
         }
-        rearranger.append(new AbstractCellFactory(true, specs) {
-            private final DataCell[] m_missingCells = new DataCell[kinds.size()];
+        // the configuration and the providers are thread-safe, shared by the workers
+        rearranger.append(ParallelProcessing.configure(new AbstractCellFactory(true, specs) {
+            private final DataCell[] m_missingCells = new DataCell[specs.length];
             {
                 Arrays.fill(m_missingCells, DataType.getMissingCell());
             }
 
+            private final Configuration m_configuration =
+                Configuration.defaultConfiguration()
+                    .jsonProvider(new JacksonJsonNodeJsonProvider(JacksonUtils.newMapper()))
+                    .mappingProvider(new JacksonMappingProvider(JacksonUtils.newMapper())).setOptions()/*.addOptions(Option.SUPPRESS_EXCEPTIONS)*/;
+
+            /** The last warning of the conformity checks, set by the workers, reported after processing. */
+            private final AtomicReference<String> m_warning = new AtomicReference<>();
+
             @Override
             public DataCell[] getCells(final DataRow row) {
-                Configuration defaultConfiguration =
-                    Configuration.defaultConfiguration()
-                        .jsonProvider(new JacksonJsonNodeJsonProvider(JacksonUtils.newMapper()))
-                        .mappingProvider(new JacksonMappingProvider(JacksonUtils.newMapper())).setOptions()/*.addOptions(Option.SUPPRESS_EXCEPTIONS)*/;
                 DataCell cell = row.getCell(jsonIndex);
                 if (cell instanceof JSONValue) {
                     final JSONValue jv = (JSONValue)cell;
-                    final DataCell[] ret = new DataCell[kinds.size()];
+                    final DataCell[] ret = new DataCell[specs.length];
+                    // converted only once, all paths are evaluated on it
+                    final JsonNode tree;
+                    final Object unwrap;
+                    try {
+                        tree = conv.toJackson(jv.getJsonValue());
+                        unwrap = m_configuration.jsonProvider().unwrap(tree);
+                    } catch (RuntimeException e) {
+                        Arrays.fill(ret, new MissingCell(e.getMessage()));
+                        return ret;
+                    }
+                    if (unmatchedHandling != null && unmatchedHandling != UnmatchedHandling.Missing) {
+                        final boolean fits = fits(tree, kinds, m_warning);
+                        if (!fits && unmatchedHandling == UnmatchedHandling.Fail) {
+                            throw new IllegalStateException("The JSON value in row \"" + row.getKey()
+                                + "\" does not fit the inferred output columns.");
+                        }
+                        if (unmatchedColumn) {
+                            ret[ret.length - 1] = fits ? DataType.getMissingCell() : cell;
+                        }
+                    }
                     int i = 0;
                     for (Entry<String, JsonPath> entry : jsonPaths.entrySet()) {
                         try {
-                            Object unwrap = defaultConfiguration.jsonProvider().unwrap(conv.toJackson(jv.getJsonValue()));
-                            Object read = entry.getValue().read(unwrap, defaultConfiguration);
+                            Object read = entry.getValue().read(unwrap, m_configuration);
                             ret[i++] =
                                 m_settings.isOmitNestedObjects() ? JsonPathUtils.convertObjectToReturnTypeWithoutNestedObjects(read, kinds.get(entry.getKey()),
-                                    defaultConfiguration, conv) : JsonPathUtils.convertObjectToReturnType(read, kinds.get(entry.getKey()),
-                                    defaultConfiguration, conv);
+                                    m_configuration, conv) : JsonPathUtils.convertObjectToReturnType(read, kinds.get(entry.getKey()),
+                                    m_configuration, conv);
                         } catch (RuntimeException e) {
                             ret[i++] = new MissingCell(e.getMessage());
                         }
@@ -196,13 +263,176 @@ public DataCell[] getCells(final DataRow row) {
                 }
                 return m_missingCells;
             }
-        });
+
+            @Override
+            public void afterProcessing() {
+                reportWarning(m_warning.get());
+            }
+        }, m_settings.getWorkerCount()));
         if (m_settings.isRemoveSourceColumn()) {
             rearranger.remove(jsonIndex);
         }
-        ExecutionContext columnApplyContext = exec.createSubExecutionContext(.5);
-        return new BufferedDataTable[]{columnApplyContext.createColumnRearrangeTable(inData[0], rearranger,
-            columnApplyContext)};
+        return rearranger;
+    }
+
+    /**
+     * Checks whether every non-{@code null} value of {@code tree} has a column in the layout that can represent it.
+     * Safe to call from multiple threads.
+     *
+     * @param tree The already parsed JSON value.
+     * @param kinds The column layout.
+     * @param warning Collects the warnings of the check.
+     * @return Whether the values of {@code tree} can be extracted without loss.
+     */
+    private boolean fits(final JsonNode tree, final Map<String, OutputKind> kinds,
+        final AtomicReference<String> warning) {
+        final LayoutInference inference = new LayoutInference(warning);
+        inference.add(tree);
+        for (Entry<String, OutputKind> entry : inference.layout().entrySet()) {
+            final OutputKind actual = entry.getValue();
+            if (actual.getType() == null) {
+                //only nulls, nothing is lost
+                continue;
+            }
+            final OutputKind expected = kinds.get(entry.getKey());
+            if (expected == null || (expected.isSingle() && !actual.isSingle())
+                || JsonPathUtils.commonRepresentation(expected.getType(), actual.getType()) != expected.getType()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the {@link OutputKind}s by JSONPath of the analysed JSON values.
+     */
+    private final class LayoutInference {
+        private final Map<String, OutputKind> m_kinds = new LinkedHashMap<>();
+
+        private final AtomicReference<String> m_warning;
+
+        private boolean m_wasRoot = false;
+
+        private OutputKind m_rootKind = new OutputKind(true, null);
+
+        LayoutInference() {
+            this(new AtomicReference<>());
+        }
+
+        /**
+         * @param warning Collects the warnings of the analysis.
+         */
+        LayoutInference(final AtomicReference<String> warning) {
+            m_warning = warning;
+            m_kinds.put("$", m_rootKind);
+        }
+
+        /**
+         * @param jv The next {@link JSONValue} to analyse.
+         */
+        void add(final JSONValue jv) {
+            add(JacksonConversions.getInstance().toJackson(jv.getJsonValue()));
+        }
+
+        /**
+         * @param document The next JSON value to analyse.
+         */
+        void add(final JsonNode document) {
+            // a single walk of the tree collects every path together with the value it selects
+            final Map<Path, JsonNode> values = new LinkedHashMap<>();
+            final Map<Path, JsonNode> arrays = new LinkedHashMap<>();
+            collectPaths("$", document, values, arrays);
+            final List<Path> paths = new ArrayList<>(values.keySet());
+            if (paths.isEmpty()) {
+                m_wasRoot = true;
+            }
+            TreeSet<Path> origPaths = new TreeSet<>(paths);
+            filterArrays(paths);
+            filterNonLeaves(paths, origPaths);
+            for (Path path : paths) {
+                // the paths ending with [*] select the whole array
+                OutputKind kind = kindOf(values.containsKey(path) ? values.get(path) : arrays.get(path), m_warning);
+                if (m_kinds.containsKey(path.toString())) {
+                    OutputKind orig = m_kinds.get(path.toString());
+                    boolean single = kind.isSingle() && orig.isSingle();
+                    OutputType type = JsonPathUtils.commonRepresentation(orig.getType(), kind.getType());
+                    m_kinds.put(path.toString(), new OutputKind(single, type));
+                } else {
+                    m_kinds.put(path.toString(), kind);
+                }
+            }
+            OutputKind kind = kindOf(document, m_warning);
+            m_rootKind = new OutputKind(m_rootKind.isSingle() && kind.isSingle(), JsonPathUtils.commonRepresentation(m_rootKind.getType(), kind.getType()));
+        }
+
+        /**
+         * Collects the paths below {@code node} in the order of {@code $..*}: the children of a container first, then
+         * their descendants.
+         *
+         * @param path The canonical path of {@code node}.
+         * @param node The current node.
+         * @param values The values by their paths.
+         * @param arrays The non-empty arrays by their paths ending with {@code [*]}.
+         */
+        private void collectPaths(final String path, final JsonNode node, final Map<Path, JsonNode> values,
+            final Map<Path, JsonNode> arrays) {
+            if (!node.isContainerNode() || node.size() == 0) {
+                return;
+            }
+            final String[] childPaths = new String[node.size()];
+            final JsonNode[] children = new JsonNode[node.size()];
+            if (node.isObject()) {
+                int i = 0;
+                for (Iterator<Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ++i) {
+                    final Entry<String, JsonNode> field = it.next();
+                    childPaths[i] = path + "['" + field.getKey() + "']";
+                    children[i] = field.getValue();
+                }
+            } else {
+                for (int i = 0; i < children.length; ++i) {
+                    childPaths[i] = path + "[" + i + "]";
+                    children[i] = node.get(i);
+                }
+            }
+            for (int i = 0; i < children.length; ++i) {
+                // currently, a bug in the JsonPath library requires commas in quotes to be (un)escaped manually, see
+                // - AP-10014
+                // - https://github.com/json-path/JsonPath/issues/400
+                // - https://github.com/json-path/JsonPath/issues/487
+                final Path childPath = new Path(JsonPathUtils.escapeCommas(childPaths[i]));
+                values.put(childPath, children[i]);
+                if (i == 0 && node.isArray()) {
+                    arrays.put(childPath.replaceLastWithStar(), node);
+                }
+            }
+            for (int i = 0; i < children.length; ++i) {
+                collectPaths(childPaths[i], children[i], values, arrays);
+            }
+        }
+
+        /**
+         * @return The last warning of the analysis, or {@code null}.
+         */
+        String warning() {
+            return m_warning.get();
+        }
+
+        /**
+         * @return The column layout of the values added so far (should be called only once).
+         */
+        Map<String, OutputKind> layout() {
+            if (m_wasRoot) {
+                //For root, we do not want collection of JSON values, that would be confusing.
+                if (!m_rootKind.isSingle() && m_rootKind.getType() != null && m_rootKind.getType() == OutputType.Json) {
+                    m_rootKind = new OutputKind(true, OutputType.Json);
+                }
+                m_kinds.put("$", m_rootKind);
+            } else {
+                m_kinds.remove("$");
+            }
+            removeRedundant(m_kinds);
+            return m_kinds;
+        }
     }
 
     /**
@@ -227,13 +457,34 @@ private void removeRedundant(final Map<String, OutputKind> kinds) {
      * @return The {@link OutputKind} of the values at that position.
      */
     protected OutputKind processValueAndPath(final JSONValue jv, final Path path) {
-        Object object = JsonPath.read(jv.toString(), path.toString());
-        JsonNode jackson = JsonPathUtil.toJackson(JacksonUtils.nodeFactory(), object);
+        Object object =
+            JsonPath.read(Configuration.defaultConfiguration().jsonProvider().parse(jv.toString()), path.toString());
         final AtomicReference<String> warning = new AtomicReference<>();
-        OutputKind kind = JsonPathUtils.kindOfJackson(jackson, warning);
-        if (warning.get() != null) {
-            setWarningMessage(warning.get());
+        final OutputKind kind = kindOf(JsonPathUtil.toJackson(JacksonUtils.nodeFactory(), object), warning);
+        reportWarning(warning.get());
+        return kind;
+    }
+
+    /**
+     * Sets the warning message of the node (only from the thread executing the node).
+     *
+     * @param warning A warning, can be {@code null}.
+     */
+    private void reportWarning(final String warning) {
+        if (warning != null) {
+            setWarningMessage(warning);
         }
+    }
+
+    /**
+     * Finds the common {@link OutputKind} for the values selected by a path.
+     *
+     * @param jackson The selected value, an array for the paths ending with {@code [*]}.
+     * @param warning Collects the warnings.
+     * @return The {@link OutputKind} of the values at that position.
+     */
+    private OutputKind kindOf(final JsonNode jackson, final AtomicReference<String> warning) {
+        OutputKind kind = JsonPathUtils.kindOfJackson(jackson, warning);
         if (!kind.isSingle() && m_settings.getArrayHandling() == ArrayHandling.KeepAllArrayAsJsonArray) {
             return new OutputKind(true, OutputType.Json);
         }
@@ -241,9 +492,6 @@ protected OutputKind processValueAndPath(final JSONValue jv, final Path path) {
                 OutputType type = null;
                 for (JsonNode jsonNode : jackson) {
                     OutputKind kindOfJackson = JsonPathUtils.kindOfJackson(jsonNode, warning);
-                    if (warning.get() != null) {
-                        setWarningMessage(warning.get());
-                    }
                     if (kindOfJackson.getType() == OutputType.Json) {
                         continue;
                     }
@@ -435,10 +683,64 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws Invali
             assert inputColumn != null : inSpecs[0];
             m_settings.setInputColumn(inputColumn == null ?/* should not happen */ null : inputColumn.getName());
         }
+        if (m_settings.getColumnInference() == ColumnInference.Template) {
+            return new DataTableSpec[]{createColumnRearranger(inSpecs[0]).createSpec()};
+        }
         //Cannot predict the new column names in advance.
         return new DataTableSpec[]{null};
     }
 
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Streamable only when the columns are inferred from the {@link ColumnInference#Template template}.
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        return m_settings.getColumnInference() == ColumnInference.Template ? super.getInputPortRoles()
+            : new InputPortRole[]{InputPortRole.NONDISTRIBUTED_NONSTREAMABLE};
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Without a template the whole input has to be analysed first, so it is received as a table (see
+     * {@link #getInputPortRoles()}) and the rows are pushed to the output once the column layout is known.
+     */
+    @Override
+    public StreamableFunction createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (m_settings.getColumnInference() == ColumnInference.Template) {
+            return super.createStreamableOperator(partitionInfo, inSpecs);
+        }
+        return new StreamableFunction(0, 0) {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                final BufferedDataTable table = (BufferedDataTable)((PortObjectInput)inputs[0]).getPortObject();
+                final DataTableSpec spec = table.getDataTableSpec();
+                final Map<String, OutputKind> kinds = inferLayout(table,
+                    spec.findColumnIndex(m_settings.getInputColumn()), exec.createSubExecutionContext(.5));
+                createColumnRearranger(spec, kinds).createStreamableFunction().runFinal(
+                    new PortInput[]{new DataTableRowInput(table)}, outputs, exec.createSubExecutionContext(.5));
+            }
+
+            @Override
+            public DataRow compute(final DataRow input) throws Exception {
+                throw new IllegalStateException("Should not be called");
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return m_settings.getColumnInference() == ColumnInference.Template ? super.getOutputPortRoles()
+            : new OutputPortRole[]{OutputPortRole.NONDISTRIBUTED};
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -54,6 +54,7 @@
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.json.node.util.ParallelProcessing;
 
 /**
  * Settings for the JSON to Table node.
@@ -71,6 +72,10 @@ final class JSONToTableSettings {
     private static final String UP_TO_N = "up.to.n.levels";
     private static final String DEFAULT_PATH_SEGMENT_SEPARATOR = ".";
     private static final String OMIT_NESTED_OBJECTS = "omit.nested.objects";
+    private static final String COLUMN_INFERENCE = "column.inference", INFERENCE_ROW_COUNT = "inference.row.count",
+            TEMPLATE = "template", UNMATCHED_HANDLING = "unmatched.handling";
+    /** Default number of rows to analyse when only the first rows are used. */
+    static final int DEFAULT_INFERENCE_ROW_COUNT = 1000;
     /** Default value for removing source column. */
     static final boolean DEFAULT_REMOVE_SOURCE_COLUMN = true;
     /** Default value for omit nested objects */
@@ -81,6 +86,11 @@ final class JSONToTableSettings {
     private Expansion m_expansion = Expansion.OnlyLeaves;
     private int m_upToNLevel = DEFAULT_UP_TO_N_LEVELS;
     private boolean m_removeSourceColumn = DEFAULT_REMOVE_SOURCE_COLUMN, m_omitNestedObjects = DEFAULT_OMIT_NESTED_OBJECTS;
+    private ColumnInference m_columnInference = ColumnInference.AllRows;
+    private int m_inferenceRowCount = DEFAULT_INFERENCE_ROW_COUNT;
+    private String m_template = "";
+    private UnmatchedHandling m_unmatchedHandling = UnmatchedHandling.Missing;
+    private int m_workerCount = ParallelProcessing.DEFAULT_WORKER_COUNT;
 
     /**
      * Constructs the default settings.
@@ -200,6 +210,76 @@ final void setOmitNestedObjects(final boolean omitNestedObjects) {
         this.m_omitNestedObjects = omitNestedObjects;
     }
 
+    /**
+     * @return the columnInference
+     */
+    final ColumnInference getColumnInference() {
+        return m_columnInference;
+    }
+
+    /**
+     * @param columnInference the columnInference to set
+     */
+    final void setColumnInference(final ColumnInference columnInference) {
+        this.m_columnInference = columnInference;
+    }
+
+    /**
+     * @return the number of rows analysed for {@link ColumnInference#FirstRows}
+     */
+    final int getInferenceRowCount() {
+        return m_inferenceRowCount;
+    }
+
+    /**
+     * @param inferenceRowCount the number of rows analysed for {@link ColumnInference#FirstRows}
+     */
+    final void setInferenceRowCount(final int inferenceRowCount) {
+        this.m_inferenceRowCount = inferenceRowCount;
+    }
+
+    /**
+     * @return the template JSON used for {@link ColumnInference#Template}
+     */
+    final String getTemplate() {
+        return m_template;
+    }
+
+    /**
+     * @param template the template JSON used for {@link ColumnInference#Template}
+     */
+    final void setTemplate(final String template) {
+        this.m_template = template;
+    }
+
+    /**
+     * @return the unmatchedHandling
+     */
+    final UnmatchedHandling getUnmatchedHandling() {
+        return m_unmatchedHandling;
+    }
+
+    /**
+     * @param unmatchedHandling the unmatchedHandling to set
+     */
+    final void setUnmatchedHandling(final UnmatchedHandling unmatchedHandling) {
+        this.m_unmatchedHandling = unmatchedHandling;
+    }
+
+    /**
+     * @return the number of worker threads ({@code 0}: automatic)
+     */
+    final int getWorkerCount() {
+        return m_workerCount;
+    }
+
+    /**
+     * @param workerCount the number of worker threads to set ({@code 0}: automatic)
+     */
+    final void setWorkerCount(final int workerCount) {
+        this.m_workerCount = workerCount;
+    }
+
     /**
      * Called from dialog when settings are to be loaded.
      *
@@ -216,6 +296,12 @@ void loadSettingsDialog(final NodeSettingsRO settings, final DataTableSpec inSpe
         m_arrayHandling = ArrayHandling.valueOf(settings.getString(ARRAY_HANDLING, ArrayHandling.KeepAllArrayAsJsonArray.name()));
         m_removeSourceColumn = settings.getBoolean(REMOVE_SOURCE_COLUMN, DEFAULT_REMOVE_SOURCE_COLUMN);
         m_omitNestedObjects = settings.getBoolean(OMIT_NESTED_OBJECTS, DEFAULT_OMIT_NESTED_OBJECTS);
+        m_columnInference = ColumnInference.valueOf(settings.getString(COLUMN_INFERENCE, ColumnInference.AllRows.name()));
+        m_inferenceRowCount = settings.getInt(INFERENCE_ROW_COUNT, DEFAULT_INFERENCE_ROW_COUNT);
+        m_template = settings.getString(TEMPLATE, "");
+        m_unmatchedHandling =
+            UnmatchedHandling.valueOf(settings.getString(UNMATCHED_HANDLING, UnmatchedHandling.Missing.name()));
+        m_workerCount = ParallelProcessing.loadWorkerCount(settings);
     }
 
     /**
@@ -250,6 +336,17 @@ void loadSettingsModel(final NodeSettingsRO settings) throws InvalidSettingsExce
         m_arrayHandling = ArrayHandling.valueOf(settings.getString(ARRAY_HANDLING));
         m_removeSourceColumn = settings.getBoolean(REMOVE_SOURCE_COLUMN);
         m_omitNestedObjects = settings.getBoolean(OMIT_NESTED_OBJECTS);
+        //added later, workflows created earlier analyse all rows
+        m_columnInference = ColumnInference.valueOf(settings.getString(COLUMN_INFERENCE, ColumnInference.AllRows.name()));
+        m_inferenceRowCount = settings.getInt(INFERENCE_ROW_COUNT, DEFAULT_INFERENCE_ROW_COUNT);
+        if (m_inferenceRowCount < 1) {
+            throw new InvalidSettingsException("The number of rows to analyse must be positive: " + m_inferenceRowCount);
+        }
+        m_template = settings.getString(TEMPLATE, "");
+        m_unmatchedHandling =
+            UnmatchedHandling.valueOf(settings.getString(UNMATCHED_HANDLING, UnmatchedHandling.Missing.name()));
+        m_workerCount = ParallelProcessing.loadWorkerCount(settings);
+        ParallelProcessing.validate(m_workerCount);
     }
 
     /**
@@ -266,5 +363,10 @@ void saveSettings(final NodeSettingsWO settings) {
         settings.addString(ARRAY_HANDLING, m_arrayHandling.name());
         settings.addBoolean(REMOVE_SOURCE_COLUMN, m_removeSourceColumn);
         settings.addBoolean(OMIT_NESTED_OBJECTS, m_omitNestedObjects);
+        settings.addString(COLUMN_INFERENCE, m_columnInference.name());
+        settings.addInt(INFERENCE_ROW_COUNT, m_inferenceRowCount);
+        settings.addString(TEMPLATE, m_template);
+        settings.addString(UNMATCHED_HANDLING, m_unmatchedHandling.name());
+        settings.addInt(ParallelProcessing.CFG_WORKER_COUNT, m_workerCount);
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.node.util;
+
+import javax.swing.JSpinner;
+import javax.swing.SpinnerNumberModel;
+
+import org.knime.core.data.container.AbstractCellFactory;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
+
+/**
+ * Common handling of the number of worker threads used by the cell factories of the JSON extraction nodes. The
+ * factories have to be safe to use from multiple threads, per-row state must not be kept in fields.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class ParallelProcessing {
+    /** The config key for the number of worker threads. */
+    public static final String CFG_WORKER_COUNT = "parallel.worker.count";
+
+    /** The default number of worker threads: {@value}, meaning one per available processor. */
+    public static final int DEFAULT_WORKER_COUNT = 0;
+
+    /**
+     * The number of worker threads of the nodes saved without the setting: {@value}, workflows created before 5.2
+     * processed the rows one after the other, so loading them must not change the order of side effects or the
+     * load of the machine.
+     */
+    public static final int LEGACY_WORKER_COUNT = 1;
+
+    /** The maximal number of worker threads. */
+    public static final int MAX_WORKER_COUNT = 1024;
+
+    /** The label of the worker count controls. */
+    public static final String WORKER_COUNT_LABEL = "Worker threads (0: one per processor)";
+
+    /** The queue size of the not yet processed rows per worker. */
+    private static final int QUEUE_SIZE_PER_WORKER = 10;
+
+    ///Hidden constructor
+    private ParallelProcessing() {
+    }
+
+    /**
+     * @param workerCount The configured number of worker threads, {@code 0} for automatic.
+     * @return The number of worker threads to use.
+     */
+    public static int effectiveWorkerCount(final int workerCount) {
+        return workerCount <= 0 ? Runtime.getRuntime().availableProcessors() : workerCount;
+    }
+
+    /**
+     * Enables parallel processing for {@code factory} with the configured number of workers (or disables it when
+     * only a single worker should be used).
+     *
+     * @param <F> The type of the factory.
+     * @param factory A thread-safe cell factory.
+     * @param workerCount The configured number of worker threads, {@code 0} for automatic.
+     * @return {@code factory}
+     */
+    public static <F extends AbstractCellFactory> F configure(final F factory, final int workerCount) {
+        final int workers = effectiveWorkerCount(workerCount);
+        if (workers <= 1) {
+            factory.setParallelProcessing(false);
+        } else {
+            factory.setParallelProcessing(true, workers, QUEUE_SIZE_PER_WORKER * workers);
+        }
+        return factory;
+    }
+
+    /**
+     * @param workerCount A configured number of worker threads.
+     * @throws InvalidSettingsException When it is out of range.
+     */
+    public static void validate(final int workerCount) throws InvalidSettingsException {
+        if (workerCount < 0 || workerCount > MAX_WORKER_COUNT) {
+            throw new InvalidSettingsException(
+                "The number of worker threads must be between 0 and " + MAX_WORKER_COUNT + ": " + workerCount);
+        }
+    }
+
+    /**
+     * @param settings The settings of a node.
+     * @return The configured number of worker threads, {@link #LEGACY_WORKER_COUNT} when the settings were saved
+     *         before it could be configured.
+     */
+    public static int loadWorkerCount(final NodeSettingsRO settings) {
+        return settings.getInt(CFG_WORKER_COUNT, LEGACY_WORKER_COUNT);
+    }
+
+    /**
+     * @return A new {@link SettingsModelIntegerBounded} for the number of worker threads.
+     */
+    public static SettingsModelIntegerBounded createWorkerCountModel() {
+        return new SettingsModelIntegerBounded(CFG_WORKER_COUNT, DEFAULT_WORKER_COUNT, 0, MAX_WORKER_COUNT);
+    }
+
+    /**
+     * @return A new {@link JSpinner} for the number of worker threads.
+     */
+    public static JSpinner createWorkerCountSpinner() {
+        return new JSpinner(new SpinnerNumberModel(DEFAULT_WORKER_COUNT, 0, MAX_WORKER_COUNT, 1));
+    }
+}
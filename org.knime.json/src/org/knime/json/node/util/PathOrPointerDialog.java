@@ -56,6 +56,7 @@
 import javax.swing.JComboBox;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import javax.swing.JSpinner;
 
 import org.knime.core.data.json.JSONValue;
 import org.knime.core.node.InvalidSettingsException;
@@ -73,6 +74,7 @@
 public abstract class PathOrPointerDialog<S extends PathOrPointerSettings> extends RemoveOrAddColumnDialog<S> {
     private DefaultComboBoxModel<OutputType> m_outputTypeModel;
     private JComboBox<OutputType> m_outputTypes;
+    private final JSpinner m_workerCount = ParallelProcessing.createWorkerCountSpinner();
 
     /**
      * Constructs {@link PathOrPointerDialog}.
@@ -118,6 +120,12 @@ public void actionPerformed(final ActionEvent e) {
         panel.add(m_outputTypes, gbc);
         gbc.gridy++;
 
+        gbc.gridx = 0;
+        panel.add(new JLabel(ParallelProcessing.WORKER_COUNT_LABEL), gbc);
+        gbc.gridx = 1;
+        panel.add(m_workerCount, gbc);
+        gbc.gridy++;
+
         return gbc.gridy;
     }
     /**
@@ -139,6 +147,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
             throw new InvalidSettingsException("No result type was selected! Please specify");
         }
         getSettings().setReturnType(outputType);
+        getSettings().setWorkerCount(((Number)m_workerCount.getValue()).intValue());
         super.saveSettingsTo(settings);
     }
 
@@ -149,6 +158,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
     protected void loadSettingsFrom(final NodeSettingsRO settings, final PortObjectSpec[] specs) throws NotConfigurableException {
         super.loadSettingsFrom(settings, specs);
         m_outputTypeModel.setSelectedItem(getSettings().getReturnType());
+        m_workerCount.setValue(getSettings().getWorkerCount());
     }
 
     /**
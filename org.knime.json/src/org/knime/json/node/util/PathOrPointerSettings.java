@@ -72,6 +72,8 @@ public class PathOrPointerSettings extends RemoveOrAddColumnSettings {
 
     private OutputType m_returnType = DEFAULT_RETURN_TYPE;
 
+    private int m_workerCount = ParallelProcessing.DEFAULT_WORKER_COUNT;
+
     private final NodeLogger m_logger;
 
     /**
@@ -96,6 +98,7 @@ protected void loadSettingsForDialogs(final NodeSettingsRO settings, final PortO
                 "Failed to load settings. Probably tried to load a workflow saved a newer version of KNIME", e);
             m_returnType = DEFAULT_RETURN_TYPE;
         }
+        m_workerCount = ParallelProcessing.loadWorkerCount(settings);
     }
 
     /**
@@ -105,6 +108,7 @@ protected void loadSettingsForDialogs(final NodeSettingsRO settings, final PortO
     protected void loadSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
         super.loadSettingsFrom(settings);
         m_returnType = toOutputType(settings.getString(RETURN_TYPE));
+        m_workerCount = ParallelProcessing.loadWorkerCount(settings);
     }
 
     /**
@@ -114,6 +118,7 @@ protected void loadSettingsFrom(final NodeSettingsRO settings) throws InvalidSet
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         super.saveSettingsTo(settings);
         settings.addString(RETURN_TYPE, m_returnType == null ? DEFAULT_RETURN_TYPE.name() : m_returnType.name());
+        settings.addInt(ParallelProcessing.CFG_WORKER_COUNT, m_workerCount);
     }
 
     /**
@@ -124,6 +129,7 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         super.validateSettings(settings);
         String outputType = settings.getString(RETURN_TYPE);
         toOutputType(outputType);
+        ParallelProcessing.validate(ParallelProcessing.loadWorkerCount(settings));
     }
 
     /**
@@ -140,6 +146,20 @@ public final void setReturnType(final OutputType returnType) {
         this.m_returnType = returnType;
     }
 
+    /**
+     * @return the number of worker threads ({@code 0}: automatic)
+     */
+    public final int getWorkerCount() {
+        return m_workerCount;
+    }
+
+    /**
+     * @param workerCount the number of worker threads to set ({@code 0}: automatic)
+     */
+    public final void setWorkerCount(final int workerCount) {
+        this.m_workerCount = workerCount;
+    }
+
     /**
      * @param outputType {@link OutputType}'s {@link OutputType#name()}.
      * @return The parsed {@link OutputType}.
@@ -54,6 +54,8 @@
 import java.util.Collections;
 
 import org.knime.core.data.json.JacksonConversions;
+import org.knime.core.data.json.internal.JSONMapperRegistry;
+import org.knime.core.data.json.internal.JSONNormalizer;
 import org.knime.core.util.JsonUtil;
 
 import com.fasterxml.jackson.core.JsonFactory;
@@ -98,6 +100,30 @@ public static String toPrettyJSONString(final JsonValue json) {
         }
     }
 
+    /**
+     * Returns a pretty-printed version of the given serialized JSON. The indentation is done on the token stream,
+     * without parsing the whole document into a tree. The conversion stops after about {@code maxLength} input
+     * characters, so the result of a larger document is an incomplete JSON.
+     *
+     * @param json a valid serialized JSON, for example the string value of a JSON cell
+     * @param maxLength the maximal number of input characters to convert, or a negative value for no limit
+     * @return The pretty-printed JSON string.
+     * @throws IOException if {@code json} is not a valid JSON
+     * @since 5.2
+     */
+    public static String toPrettyJSONString(final String json, final int maxLength) throws IOException {
+        final StringWriter stringWriter = new StringWriter();
+        try (JsonParser parser = JSONMapperRegistry.getReader(false).getFactory().createParser(json);
+                com.fasterxml.jackson.core.JsonGenerator generator =
+                    JSONNormalizer.createGenerator(stringWriter, true)) {
+            while (parser.nextToken() != null
+                && (maxLength < 0 || parser.getTokenLocation().getCharOffset() < maxLength)) {
+                JSONNormalizer.copyCurrentEvent(parser, generator);
+            }
+        }
+        return stringWriter.toString();
+    }
+
 
     /**
      * Parses the given string into a JSON value.
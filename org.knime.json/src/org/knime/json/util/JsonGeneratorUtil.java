@@ -0,0 +1,202 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18 Oct 2026: created
+ */
+package org.knime.json.util;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.blob.BinaryObjectDataValue;
+import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.json.JSONValue;
+import org.knime.core.data.json.internal.JSONNormalizer;
+import org.knime.core.data.vector.bytevector.ByteVectorValue;
+import org.knime.core.node.NodeLogger;
+import org.knime.json.node.jsonpath.util.JsonPathUtils;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Helper methods to write cells with a Jackson {@link JsonGenerator}, the streaming counterparts of {@link JSR353Util}
+ * producing the same JSON without building {@code jakarta.json} values.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.2
+ */
+public final class JsonGeneratorUtil {
+
+    /**
+     * Hidden constructor.
+     */
+    private JsonGeneratorUtil() {
+    }
+
+    /**
+     * Writes the transformed value of {@code cell} as the {@code key} field of the current object, like
+     * {@link JSR353Util#fromCell(String, DataCell, jakarta.json.JsonObjectBuilder)}.
+     *
+     * @param key The key of the field.
+     * @param cell The value to transform.
+     * @param generator A {@link JsonGenerator} positioned in an object.
+     * @throws IOException When there was a problem reading {@link BinaryObjectDataValue}s (nothing is written then)
+     *             or writing the value.
+     */
+    public static void writeField(final String key, final DataCell cell, final JsonGenerator generator)
+        throws IOException {
+        if (cell.isMissing()) {
+            generator.writeNullField(key);
+        } else if (cell instanceof BooleanValue) {
+            generator.writeBooleanField(key, ((BooleanValue)cell).getBooleanValue());
+        } else if (cell instanceof LongValue) {
+            generator.writeNumberField(key, ((LongValue)cell).getLongValue());
+        } else if (cell instanceof DoubleValue) {
+            generator.writeFieldName(key);
+            writeDouble(((DoubleValue)cell).getDoubleValue(), generator);
+        } else if (cell instanceof JSONValue) {
+            generator.writeFieldName(key);
+            writeJSON((JSONValue)cell, generator);
+        } else if (cell instanceof ByteVectorValue) {
+            generator.writeStringField(key,
+                Base64Variants.getDefaultVariant().encode(JsonPathUtils.toBytes((ByteVectorValue)cell)));
+        } else if (cell instanceof BinaryObjectDataValue) {
+            generator.writeStringField(key,
+                Base64Variants.getDefaultVariant().encode(JsonPathUtils.toBytes((BinaryObjectDataValue)cell)));
+        } else if (cell instanceof StringValue) {
+            generator.writeStringField(key, ((StringValue)cell).getStringValue());
+        } else if (cell instanceof CollectionDataValue) {
+            generator.writeFieldName(key);
+            writeCollection((CollectionDataValue)cell, generator);
+        } else {
+            generator.writeNullField(key);
+        }
+    }
+
+    /**
+     * Writes the elements of {@code cdv} as an array, like {@link JSR353Util#fromCollectionCell(CollectionDataValue)}.
+     * Elements which can't be read are written as {@code null}.
+     *
+     * @param cdv A {@link CollectionDataValue} to transform.
+     * @param generator The target {@link JsonGenerator}.
+     * @throws IOException When the array could not be written.
+     */
+    public static void writeCollection(final CollectionDataValue cdv, final JsonGenerator generator)
+        throws IOException {
+        generator.writeStartArray();
+        for (DataCell cell : cdv) {
+            try {
+                writeArrayElement(cell, generator);
+            } catch (IOException e) {
+                NodeLogger.getLogger(JsonGeneratorUtil.class)
+                    .warn("Failed to read binary object value, replacing with null.", e);
+                generator.writeNull();
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes the transformed value of {@code cell} as the next element of the current array, like
+     * {@link JSR353Util#addToArrayFromCell(jakarta.json.JsonArrayBuilder, DataCell)}.
+     *
+     * @param cell The {@link DataCell} to transform.
+     * @param generator A {@link JsonGenerator} positioned in an array.
+     * @throws IOException When there was a problem reading {@link BinaryObjectDataValue}s (nothing is written then)
+     *             or writing the value.
+     */
+    public static void writeArrayElement(final DataCell cell, final JsonGenerator generator) throws IOException {
+        if (cell.isMissing()) {
+            generator.writeNull();
+        } else if (cell instanceof CollectionDataValue) {
+            writeCollection((CollectionDataValue)cell, generator);
+        } else if (cell instanceof LongValue) {
+            generator.writeNumber(((LongValue)cell).getLongValue());
+        } else if (cell instanceof DoubleValue) {
+            writeDouble(((DoubleValue)cell).getDoubleValue(), generator);
+        } else if (cell instanceof JSONValue) {
+            writeJSON((JSONValue)cell, generator);
+        } else if (cell instanceof BooleanValue) {
+            generator.writeBoolean(((BooleanValue)cell).getBooleanValue());
+        } else if (cell instanceof ByteVectorValue) {
+            generator.writeString(
+                Base64Variants.getDefaultVariant().encode(JsonPathUtils.toBytes((ByteVectorValue)cell)));
+        } else if (cell instanceof BinaryObjectDataValue) {
+            generator.writeString(
+                Base64Variants.getDefaultVariant().encode(JsonPathUtils.toBytes((BinaryObjectDataValue)cell)));
+        } else if (cell instanceof StringValue) {
+            generator.writeString(((StringValue)cell).getStringValue());
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    /**
+     * Writes a JSON value. The normalized content of the JSON cells is copied token by token, without creating its
+     * {@code jakarta.json} tree.
+     *
+     * @param value The value to write.
+     * @param generator The target {@link JsonGenerator}.
+     * @throws IOException When the value could not be written.
+     */
+    public static void writeJSON(final JSONValue value, final JsonGenerator generator) throws IOException {
+        JSONNormalizer.copyValue(value, generator);
+    }
+
+    /**
+     * Writes a double the same way as the {@code jakarta.json} builders represent it (as
+     * {@link BigDecimal#valueOf(double)}, so infinite and NaN values are not supported either).
+     */
+    private static void writeDouble(final double value, final JsonGenerator generator) throws IOException {
+        generator.writeNumber(BigDecimal.valueOf(value));
+    }
+}